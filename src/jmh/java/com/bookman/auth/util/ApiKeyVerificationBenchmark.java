@@ -0,0 +1,43 @@
+package com.bookman.auth.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 머신 클라이언트 자격 증명 검증 비용 벤치마크
+ *
+ * - bcryptMatches: 비밀 값을 BCrypt(cost 10)로 저장했을 때의 요청당 검증 (로그인과 같은 경로)
+ * - hmacMatches: API 키 경로 (HMAC-SHA256 한 번 + 상수 시간 비교)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ApiKeyVerificationBenchmark {
+
+    private BCryptPasswordEncoder bcrypt;
+    private HmacDigester digester;
+    private String secret;
+    private String bcryptHash;
+    private byte[] hmacDigest;
+
+    @Setup
+    public void setUp() {
+        bcrypt = new BCryptPasswordEncoder(10);
+        digester = new HmacDigester("benchmarkApiKeyPepper1234567890abcdefghijklmnop");
+        secret = TokenDigests.randomToken(32);
+        bcryptHash = bcrypt.encode(secret);
+        hmacDigest = digester.digest(secret);
+    }
+
+    @Benchmark
+    public boolean bcryptMatches() {
+        return bcrypt.matches(secret, bcryptHash);
+    }
+
+    @Benchmark
+    public boolean hmacMatches() {
+        return digester.matches(secret, hmacDigest);
+    }
+}
@@ -0,0 +1,71 @@
+package com.bookman.auth.util;
+
+import com.bookman.auth.config.JwtConfig;
+import com.bookman.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 알고리즘별 토큰 발급/검증 처리량 벤치마크 (검증 캐시 없음)
+ *
+ * - sign: 로그인/갱신 시 액세스 토큰 발급
+ * - verify: 캐시되지 않은 토큰의 서명 검증 + 클레임 파싱
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JwtSigningBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKey1234567890abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOP";
+
+    @Param({"HMAC", "EdDSA", "ES256"})
+    public JwtKeyRing.Algorithm algorithm;
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtConfig config = new JwtConfig();
+        config.setSecret(SECRET);
+        config.setExpiration(3_600_000L);
+        config.setVerifiedTokenCacheSize(0);
+        config.setSigningAlgorithm(algorithm);
+        config.setKeys(List.of(benchmarkKey()));
+        jwtUtil = new JwtUtil(config);
+        user = User.builder()
+                .username("benchmark-user")
+                .email("benchmark@bookman.com")
+                .password("encodedPassword")
+                .role(User.Role.USER)
+                .build();
+        token = jwtUtil.generateToken(user);
+    }
+
+    private JwtConfig.Key benchmarkKey() {
+        JwtConfig.Key key = new JwtConfig.Key();
+        key.setKid("benchmark");
+        if (algorithm == JwtKeyRing.Algorithm.HMAC) {
+            key.setSecret(SECRET);
+        } else {
+            KeyPair pair = PemKeys.generate(algorithm);
+            key.setPrivateKey(PemKeys.encode(pair.getPrivate()));
+            key.setPublicKey(PemKeys.encode(pair.getPublic()));
+        }
+        return key;
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtUtil.verify(token);
+    }
+}
@@ -0,0 +1,83 @@
+package com.bookman.auth.util;
+
+import com.bookman.auth.config.JwtConfig;
+import com.bookman.user.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 경로 벤치마크
+ *
+ * - legacyFilterPath: 기존 JwtAuthenticationFilter 경로 재현
+ *   (요청마다 키/파서를 새로 만들고 extractUsername + validateToken으로 토큰을 세 번 파싱)
+ * - verifierWithoutCache: 키/파서를 재사용하고 토큰을 한 번만 파싱
+ * - verifierWithCache: 같은 토큰이 반복될 때 검증 결과 캐시 사용
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKey1234567890abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOP";
+
+    private JwtUtil cachedJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedJwtUtil = new JwtUtil(config(10_000));
+        uncachedJwtUtil = new JwtUtil(config(0));
+        user = User.builder()
+                .username("benchmark-user")
+                .email("benchmark@bookman.com")
+                .password("encodedPassword")
+                .role(User.Role.USER)
+                .build();
+        token = cachedJwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean legacyFilterPath() {
+        String username = legacyParse(token).getSubject();
+        String validatedUsername = legacyParse(token).getSubject();
+        Date expiration = legacyParse(token).getExpiration();
+        return username.equals(user.getUsername())
+                && validatedUsername.equals(user.getUsername())
+                && expiration.after(new Date());
+    }
+
+    @Benchmark
+    public boolean verifierWithoutCache() {
+        return uncachedJwtUtil.isTokenValidFor(uncachedJwtUtil.verify(token), user);
+    }
+
+    @Benchmark
+    public boolean verifierWithCache() {
+        return cachedJwtUtil.isTokenValidFor(cachedJwtUtil.verify(token), user);
+    }
+
+    private Claims legacyParse(String jwt) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+
+    private static JwtConfig config(int cacheSize) {
+        JwtConfig config = new JwtConfig();
+        config.setSecret(SECRET);
+        // legacyFilterPath와 같은 HMAC 키로 비교
+        config.setSigningAlgorithm(JwtKeyRing.Algorithm.HMAC);
+        config.setExpiration(3_600_000L);
+        config.setVerifiedTokenCacheSize(cacheSize);
+        return config;
+    }
+}
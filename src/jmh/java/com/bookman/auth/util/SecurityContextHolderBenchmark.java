@@ -0,0 +1,71 @@
+package com.bookman.auth.util;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나(새 Virtual Thread)에서 SecurityContext를 설정/조회/정리하는 비용 벤치마크
+ * 요청당 할당량은 GC 프로파일러의 gc.alloc.rate.norm(B/op)로 비교한다.
+ *
+ * - virtualThreadOnly: 컨텍스트 없이 Virtual Thread만 실행 (기준선)
+ * - threadLocal: ThreadLocal 보관 (기본 SecurityContextHolder와 같은 방식)
+ * - scopedValue: 요청 단위 ScopedValue 슬롯에 보관
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SecurityContextHolderBenchmark {
+
+    private ScopedValueSecurityContextHolderStrategy strategy;
+    private Authentication authentication;
+
+    @Setup
+    public void setUp() {
+        strategy = new ScopedValueSecurityContextHolderStrategy();
+        authentication = new UsernamePasswordAuthenticationToken(
+                "benchmark-user", null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+    }
+
+    @Benchmark
+    public Object virtualThreadOnly() throws InterruptedException {
+        Object[] result = new Object[1];
+        Thread.ofVirtual().start(() -> result[0] = authentication.getName()).join();
+        return result[0];
+    }
+
+    @Benchmark
+    public Object threadLocal() throws InterruptedException {
+        Object[] result = new Object[1];
+        // 바인딩 밖에서는 ThreadLocal로 동작
+        Thread.ofVirtual().start(() -> result[0] = handleRequest(strategy)).join();
+        return result[0];
+    }
+
+    @Benchmark
+    public Object scopedValue() throws InterruptedException {
+        Object[] result = new Object[1];
+        Thread.ofVirtual().start(() -> {
+            try {
+                result[0] = strategy.callInScope(() -> handleRequest(strategy));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).join();
+        return result[0];
+    }
+
+    /**
+     * 인증 필터 → 컨트롤러 → SecurityContextHolderFilter 정리 순서를 흉내 낸다
+     */
+    private Object handleRequest(SecurityContextHolderStrategy holder) {
+        holder.getContext().setAuthentication(authentication);
+        Object name = holder.getContext().getAuthentication().getName();
+        holder.clearContext();
+        return name;
+    }
+}
@@ -0,0 +1,73 @@
+package com.bookman.auth.util;
+
+import com.bookman.auth.config.JwtConfig;
+import com.bookman.auth.principal.JwtPrincipal;
+import com.bookman.user.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 발급 경로 벤치마크 (같은 클레임 구성)
+ *
+ * - jjwtBuilder: 클레임 Map + JJWT 빌더 (임의 클레임용 generateToken(user, claims) 경로)
+ * - fastMinter: 헤더 캐시 + 고정 클레임 직접 직렬화 (로그인/갱신 경로)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TokenMintingBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKey1234567890abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOP";
+
+    @Param({"HMAC", "EdDSA", "ES256"})
+    public JwtKeyRing.Algorithm algorithm;
+
+    private JwtUtil jwtUtil;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        JwtConfig config = new JwtConfig();
+        config.setSecret(SECRET);
+        config.setExpiration(900_000L);
+        config.setSigningAlgorithm(algorithm);
+        config.setKeys(List.of(benchmarkKey()));
+        jwtUtil = new JwtUtil(config);
+        user = User.builder()
+                .userId(1L)
+                .username("benchmark-user")
+                .email("benchmark@bookman.com")
+                .password("encodedPassword")
+                .role(User.Role.USER)
+                .isActive(true)
+                .build();
+    }
+
+    private JwtConfig.Key benchmarkKey() {
+        JwtConfig.Key key = new JwtConfig.Key();
+        key.setKid("benchmark");
+        if (algorithm == JwtKeyRing.Algorithm.HMAC) {
+            key.setSecret(SECRET);
+        } else {
+            KeyPair pair = PemKeys.generate(algorithm);
+            key.setPrivateKey(PemKeys.encode(pair.getPrivate()));
+            key.setPublicKey(PemKeys.encode(pair.getPublic()));
+        }
+        return key;
+    }
+
+    @Benchmark
+    public String jjwtBuilder() {
+        Map<String, Object> claims = JwtPrincipal.claimsOf(user);
+        return jwtUtil.generateToken(user, claims);
+    }
+
+    @Benchmark
+    public String fastMinter() {
+        return jwtUtil.generateToken(user);
+    }
+}
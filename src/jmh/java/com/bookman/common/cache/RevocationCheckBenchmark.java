@@ -0,0 +1,57 @@
+package com.bookman.common.cache;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폐기 여부 확인 비용 벤치마크 (폐기 목록 100만 건, 대부분의 요청은 폐기되지 않은 토큰)
+ *
+ * - bloomFilterMiss: 폐기되지 않은 jti에 대한 Bloom 필터 조회 (요청 경로의 일반적인 경우)
+ * - exactStoreMiss: 같은 조회를 정확한 저장소(ConcurrentHashMap)로만 수행
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RevocationCheckBenchmark {
+
+    private static final int ENTRIES = 1_000_000;
+    private static final int PROBES = 4096;
+
+    private BloomFilter filter;
+    private Map<String, Long> exactStore;
+    private String[] activeJtis;
+
+    @Setup
+    public void setUp() {
+        filter = new BloomFilter(ENTRIES, 0.01);
+        exactStore = new ConcurrentHashMap<>(ENTRIES * 2);
+        for (int i = 0; i < ENTRIES; i++) {
+            String jti = UUID.randomUUID().toString();
+            filter.put(jti);
+            exactStore.put(jti, Long.MAX_VALUE);
+        }
+        activeJtis = new String[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            activeJtis[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    @Benchmark
+    public boolean bloomFilterMiss() {
+        return filter.mightContain(nextProbe());
+    }
+
+    @Benchmark
+    public boolean exactStoreMiss() {
+        return exactStore.containsKey(nextProbe());
+    }
+
+    private String nextProbe() {
+        return activeJtis[ThreadLocalRandom.current().nextInt(PROBES)];
+    }
+}
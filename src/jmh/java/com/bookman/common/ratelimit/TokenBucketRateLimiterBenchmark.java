@@ -0,0 +1,47 @@
+package com.bookman.common.ratelimit;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레이트 리미터 허용 판단(hot path) 경합 벤치마크 (8 스레드)
+ *
+ * - hotKey: 모든 스레드가 같은 키 하나를 두드림 (단일 IP 폭주, CAS 경합 최대)
+ * - distinctKeys: 100만 개 IP에 분산된 요청 (키 상한 근처에서 조회/삽입/밀어내기 포함)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+public class TokenBucketRateLimiterBenchmark {
+
+    private static final int DISTINCT_KEYS = 1_000_000;
+
+    private TokenBucketRateLimiter limiter;
+    private TokenBucketRateLimiter.Limit limit;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        limiter = new TokenBucketRateLimiter(DISTINCT_KEYS);
+        // 충분히 큰 한도로 거절 분기 대신 CAS 성공 경로를 측정
+        limit = TokenBucketRateLimiter.Limit.of(1_000_000, Duration.ofSeconds(1));
+        keys = new String[DISTINCT_KEYS];
+        for (int i = 0; i < DISTINCT_KEYS; i++) {
+            keys[i] = "login|ip|10." + (i >>> 16) + "." + ((i >>> 8) & 0xFF) + "." + (i & 0xFF);
+        }
+    }
+
+    @Benchmark
+    public long hotKey() {
+        return limiter.tryAcquire(keys[0], limit);
+    }
+
+    @Benchmark
+    public long distinctKeys() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(DISTINCT_KEYS)], limit);
+    }
+}
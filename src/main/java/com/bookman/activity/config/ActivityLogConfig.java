@@ -0,0 +1,28 @@
+package com.bookman.activity.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "activity-log")
+@Getter
+@Setter
+public class ActivityLogConfig {
+    // 링 버퍼 크기 (2의 거듭제곱으로 올림)
+    private int bufferCapacity = 8192;
+    // 한 번에 batch insert할 최대 이벤트 수
+    private int batchSize = 500;
+    // 배치가 덜 찼더라도 이 시간이 지나면 flush
+    private Duration flushInterval = Duration.ofMillis(200);
+    // 버퍼가 가득 찼을 때 동작: DROP(즉시 버림) 또는 BLOCK(blockTimeout까지 대기 후 버림)
+    private OverflowPolicy overflow = OverflowPolicy.DROP;
+    private Duration blockTimeout = Duration.ofMillis(50);
+
+    public enum OverflowPolicy {
+        DROP, BLOCK
+    }
+}
@@ -0,0 +1,44 @@
+package com.bookman.activity.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 사용자 활동 로그 (쓰기는 ActivityLogService가 JDBC batch insert로 수행, 엔티티는 테이블 정의용)
+ */
+@Entity
+@Table(
+    name = "activity_log",
+    indexes = {
+        @Index(name = "idx_activity_log_username", columnList = "username"),
+        @Index(name = "idx_activity_log_occurred_at", columnList = "occurred_at")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActivityLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "activity_log_id")
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String username;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ActivityType action;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    public enum ActivityType {
+        REGISTER, LOGIN, REFRESH, LOGOUT
+    }
+}
@@ -0,0 +1,8 @@
+package com.bookman.activity.service;
+
+import com.bookman.activity.entity.ActivityLog;
+
+import java.time.Instant;
+
+public record ActivityEvent(String username, ActivityLog.ActivityType action, Instant occurredAt) {
+}
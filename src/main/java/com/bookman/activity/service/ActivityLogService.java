@@ -0,0 +1,209 @@
+package com.bookman.activity.service;
+
+import com.bookman.activity.config.ActivityLogConfig;
+import com.bookman.activity.entity.ActivityLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 사용자 활동 로그 파이프라인
+ *
+ * 요청 스레드는 링 버퍼에 이벤트를 넣고 바로 반환하며, 단일 drainer 스레드가 batchSize만큼
+ * 모이거나 flushInterval이 지나면 activity_log 테이블에 JDBC batch insert로 기록한다.
+ * 종료 시에는 새 이벤트를 받지 않고, 이미 받은 이벤트를 모두 기록한 뒤 멈춘다.
+ */
+@Service
+@Slf4j
+public class ActivityLogService implements SmartLifecycle {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO activity_log (username, action, occurred_at) VALUES (?, ?, ?)";
+
+    private final ActivityLogConfig config;
+    private final JdbcTemplate jdbcTemplate;
+    private final MpscRingBuffer<ActivityEvent> buffer;
+
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+    private final DistributionSummary batchSize;
+    private final Timer flushLatency;
+
+    private final LongAdder activeProducers = new LongAdder();
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private Thread drainer;
+
+    public ActivityLogService(ActivityLogConfig config, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new MpscRingBuffer<>(config.getBufferCapacity());
+
+        Gauge.builder("activity.log.queue.depth", buffer, MpscRingBuffer::size)
+                .description("기록 대기 중인 활동 이벤트 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("activity.log.dropped")
+                .description("버퍼 초과로 버려진 활동 이벤트 수")
+                .register(meterRegistry);
+        this.written = Counter.builder("activity.log.written")
+                .description("기록된 활동 이벤트 수")
+                .register(meterRegistry);
+        this.failed = Counter.builder("activity.log.failed")
+                .description("기록에 실패한 활동 이벤트 수")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("activity.log.batch.size")
+                .description("batch insert 한 번에 기록한 이벤트 수")
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("activity.log.flush")
+                .description("batch insert 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 활동 이벤트를 버퍼에 추가 (요청 스레드에서 호출, DB 접근 없음)
+     *
+     * @return 버퍼에 들어갔으면 true, 종료 중이거나 버퍼 초과로 버려졌으면 false
+     */
+    public boolean record(String username, ActivityLog.ActivityType action) {
+        activeProducers.increment();
+        try {
+            if (!accepting) {
+                dropped.increment();
+                return false;
+            }
+            ActivityEvent event = new ActivityEvent(username, action, Instant.now());
+            if (buffer.offer(event)
+                    || (config.getOverflow() == ActivityLogConfig.OverflowPolicy.BLOCK && offerBlocking(event))) {
+                return true;
+            }
+            dropped.increment();
+            log.debug("⚠️ 활동 로그 버퍼 초과로 이벤트 버림: {} {}", username, action);
+            return false;
+        } finally {
+            activeProducers.decrement();
+        }
+    }
+
+    @Override
+    public void start() {
+        accepting = true;
+        running = true;
+        drainer = Thread.ofPlatform().name("activity-log-drainer").daemon(true).start(this::drainLoop);
+        log.info("📝 활동 로그 파이프라인 시작 - 버퍼: {}, 배치: {}, flush 주기: {}ms",
+                buffer.capacity(), config.getBatchSize(), config.getFlushInterval().toMillis());
+    }
+
+    @Override
+    public void stop() {
+        accepting = false;
+        // 이미 accepting을 통과한 생산자가 버퍼에 넣을 때까지 기다린 뒤 drainer를 멈춘다
+        while (activeProducers.sum() > 0) {
+            Thread.onSpinWait();
+        }
+        running = false;
+        if (drainer != null) {
+            LockSupport.unpark(drainer);
+            try {
+                drainer.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("📝 활동 로그 파이프라인 종료 - 남은 이벤트: {}", buffer.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(graceful shutdown 포함)보다 늦게 멈춰서 종료 중 처리된 요청의 이벤트도 기록
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private boolean offerBlocking(ActivityEvent event) {
+        long deadline = System.nanoTime() + config.getBlockTimeout().toNanos();
+        while (accepting && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+            if (buffer.offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drainLoop() {
+        int maxBatch = config.getBatchSize();
+        long flushIntervalNanos = config.getFlushInterval().toNanos();
+        long idleParkNanos = Math.min(flushIntervalNanos, TimeUnit.MILLISECONDS.toNanos(10));
+        List<ActivityEvent> batch = new ArrayList<>(maxBatch);
+        long batchStartedAt = 0;
+
+        while (running) {
+            boolean wasEmpty = batch.isEmpty();
+            int drained = buffer.drainTo(batch, maxBatch - batch.size());
+            if (wasEmpty && drained > 0) {
+                batchStartedAt = System.nanoTime();
+            }
+            if (batch.size() >= maxBatch
+                    || (!batch.isEmpty() && System.nanoTime() - batchStartedAt >= flushIntervalNanos)) {
+                flush(batch);
+            } else if (drained == 0) {
+                LockSupport.parkNanos(idleParkNanos);
+            }
+        }
+
+        // 종료 전에 받은 이벤트는 모두 기록
+        while (true) {
+            int drained = buffer.drainTo(batch, maxBatch - batch.size());
+            if (batch.size() >= maxBatch || drained == 0) {
+                flush(batch);
+                if (drained == 0) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void flush(List<ActivityEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, event) -> {
+                statement.setString(1, event.username());
+                statement.setString(2, event.action().name());
+                statement.setTimestamp(3, Timestamp.from(event.occurredAt()));
+            });
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            failed.increment(batch.size());
+            log.error("❌ 활동 로그 기록 실패 ({}건): {}", batch.size(), e.getMessage());
+        } finally {
+            flushLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            batchSize.record(batch.size());
+            batch.clear();
+        }
+    }
+}
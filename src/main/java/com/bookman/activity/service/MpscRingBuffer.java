@@ -0,0 +1,82 @@
+package com.bookman.activity.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 다수 생산자 / 단일 소비자용 고정 크기 링 버퍼 (잠금 없음)
+ *
+ * 슬롯마다 시퀀스 번호를 두어 생산자는 tail을 CAS로 선점한 뒤 값을 쓰고 시퀀스를 공개하며,
+ * 소비자(drainer 스레드 하나)는 시퀀스가 공개된 슬롯만 순서대로 가져간다.
+ * 버퍼가 가득 차면 offer는 즉시 false를 반환한다.
+ */
+class MpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // 소비자 스레드만 갱신 (size 계산을 위해 volatile)
+    private volatile long head;
+
+    MpscRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+    }
+
+    boolean offer(E element) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) (position & mask);
+            long available = sequences.get(index) - position;
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (available < 0) {
+                return false;
+            }
+        }
+        elements.set(index, element);
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    /**
+     * 최대 limit개를 꺼내 target에 추가하고 꺼낸 개수를 반환 (소비자 스레드 전용)
+     */
+    int drainTo(List<E> target, int limit) {
+        long current = head;
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) (current & mask);
+            if (sequences.get(index) != current + 1) {
+                break;
+            }
+            target.add(elements.get(index));
+            elements.lazySet(index, null);
+            sequences.lazySet(index, current + mask + 1);
+            current++;
+            drained++;
+        }
+        head = current;
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
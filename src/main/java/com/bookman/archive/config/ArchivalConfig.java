@@ -0,0 +1,25 @@
+package com.bookman.archive.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "archival")
+@Getter
+@Setter
+public class ArchivalConfig {
+    // false면 스케줄 실행을 건너뜀 (수동 호출은 가능)
+    private boolean enabled = true;
+    // soft delete 후 이 기간이 지난 행만 보관 테이블로 이동
+    private Duration retention = Duration.ofDays(30);
+    // 한 트랜잭션에서 옮길 최대 행 수 (잠금 유지 시간 상한)
+    private int batchSize = 500;
+    // 배치 사이 대기 시간 (운영 트래픽에 DB를 양보)
+    private Duration pauseBetweenBatches = Duration.ofMillis(100);
+    // 한 번 실행에서 테이블당 처리할 최대 배치 수 (남은 행은 다음 실행에서)
+    private int maxBatchesPerRun = 200;
+}
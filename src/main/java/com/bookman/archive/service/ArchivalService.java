@@ -0,0 +1,255 @@
+package com.bookman.archive.service;
+
+import com.bookman.archive.config.ArchivalConfig;
+import com.bookman.user.event.UsersBulkChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * soft delete된 행을 보관 테이블(*_archive)로 옮기는 백그라운드 작업
+ *
+ * deleted_at이 보존 기간보다 오래된 행을 batchSize씩 한 트랜잭션에서 잠그고(FOR UPDATE)
+ * 보관 테이블에 복사한 뒤 원본에서 삭제한다. 배치마다 커밋하고 pauseBetweenBatches만큼 쉬므로
+ * 잠금은 한 배치 동안만 유지되고, 한 번 실행의 작업량은 maxBatchesPerRun으로 제한된다.
+ * 보관 테이블은 기동 시 원본과 같은 열 + archived_at으로 만들어 둔다 (이미 있으면 재사용).
+ * users 행을 옮긴 배치는 JPA 리스너를 거치지 않으므로 {@link UsersBulkChangedEvent}를 발행해
+ * 커밋 이후 사용자 캐시를 비운다.
+ * 한 테이블이 실패(건수 불일치, 잠금 대기 초과 등)해도 기록만 남기고 다음 테이블은 계속 처리한다.
+ */
+@Service
+@Slf4j
+public class ArchivalService {
+
+    private static final String USERS_TABLE = "users";
+
+    static final List<ArchivedTable> TABLES = List.of(
+            new ArchivedTable(USERS_TABLE, "user_id"),
+            new ArchivedTable("book", "book_id"),
+            new ArchivedTable("author", "author_id"));
+
+    private final ArchivalConfig config;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, Counter> movedRows = new LinkedHashMap<>();
+    private final Map<String, Timer> batchTime = new LinkedHashMap<>();
+    private final Map<String, Counter> failures = new LinkedHashMap<>();
+    // 기동 시 준비를 마친 테이블별 SQL (준비에 실패한 테이블은 없음)
+    private final Map<String, Statements> statements = new ConcurrentHashMap<>();
+
+    public ArchivalService(ArchivalConfig config, NamedParameterJdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry) {
+        this.config = config;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+
+        for (ArchivedTable table : TABLES) {
+            movedRows.put(table.name(), Counter.builder("archival.rows.moved")
+                    .tag("table", table.name())
+                    .description("보관 테이블로 옮긴 soft delete 행 수")
+                    .register(meterRegistry));
+            batchTime.put(table.name(), Timer.builder("archival.batch")
+                    .tag("table", table.name())
+                    .description("보관 배치 하나의 잠금+복사+삭제 시간")
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry));
+            failures.put(table.name(), Counter.builder("archival.failures")
+                    .tag("table", table.name())
+                    .description("실패한 테이블별 보관 실행 수")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 보관 테이블을 만들고 원본/보관 테이블에 공통인 열로 복사 SQL을 준비한다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareArchiveTables() {
+        for (ArchivedTable table : TABLES) {
+            try {
+                statements.put(table.name(), prepare(table));
+            } catch (DataAccessException e) {
+                log.warn("⚠️ 보관 테이블 준비 실패 - {}: {}", table.archiveName(), e.getMessage());
+            }
+        }
+        log.info("📦 보관 작업 준비 완료 - 대상: {}, 보존 기간: {}일", statements.keySet(), config.getRetention().toDays());
+    }
+
+    @Scheduled(fixedDelayString = "${archival.interval:1h}", initialDelayString = "${archival.initial-delay:5m}")
+    public void scheduledArchive() {
+        if (config.isEnabled()) {
+            archiveAll();
+        }
+    }
+
+    /**
+     * 모든 대상 테이블을 한 번씩 보관 처리하고 테이블별로 옮긴 행 수를 반환한다 (실패한 테이블은 결과에서 빠짐)
+     */
+    public Map<String, Long> archiveAll() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(config.getRetention());
+        Map<String, Long> moved = new LinkedHashMap<>();
+        for (ArchivedTable table : TABLES) {
+            Statements sql = statements.get(table.name());
+            if (sql == null) {
+                continue;
+            }
+            long count;
+            try {
+                count = archive(table, sql, Timestamp.valueOf(cutoff));
+            } catch (RuntimeException e) {
+                // 실패한 배치만 롤백된다 (앞서 커밋된 배치는 유지), 다음 실행에서 다시 시도
+                failures.get(table.name()).increment();
+                log.error("❌ soft delete 행 보관 실패 - {}: {}", table.name(), e.getMessage(), e);
+                continue;
+            }
+            moved.put(table.name(), count);
+            if (count > 0) {
+                log.info("🧹 soft delete 행 보관: {} → {} {}개", table.name(), table.archiveName(), count);
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+        return moved;
+    }
+
+    private long archive(ArchivedTable table, Statements sql, Timestamp cutoff) {
+        int batchSize = config.getBatchSize();
+        long total = 0;
+        for (int batches = 0; batches < config.getMaxBatchesPerRun(); batches++) {
+            if (batches > 0 && !pause()) {
+                break;
+            }
+            long start = System.nanoTime();
+            int moved = moveBatch(table, sql, cutoff, batchSize);
+            batchTime.get(table.name()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            movedRows.get(table.name()).increment(moved);
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 한 배치를 한 트랜잭션에서 옮긴다. 복사/삭제 건수가 다르면(동시 복구 등) 롤백
+     */
+    private int moveBatch(ArchivedTable table, Statements sql, Timestamp cutoff, int batchSize) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Long> ids = jdbcTemplate.getJdbcTemplate().queryForList(sql.lock(), Long.class, cutoff, batchSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("ids", ids)
+                    .addValue("cutoff", cutoff)
+                    .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+            int copied = jdbcTemplate.update(sql.copy(), params);
+            int deleted = jdbcTemplate.update(sql.delete(), params);
+            if (copied != deleted) {
+                throw new IllegalStateException("보관 복사/삭제 건수가 다릅니다 (복사 " + copied + ", 삭제 " + deleted + ")");
+            }
+            if (table.name().equals(USERS_TABLE)) {
+                eventPublisher.publishEvent(new UsersBulkChangedEvent("archival", deleted));
+            }
+            return deleted;
+        });
+        return moved != null ? moved : 0;
+    }
+
+    /**
+     * 배치 사이에 쉰다. 인터럽트되면(종료 중) false
+     */
+    private boolean pause() {
+        if (config.getPauseBetweenBatches().isZero()) {
+            return !Thread.currentThread().isInterrupted();
+        }
+        try {
+            Thread.sleep(config.getPauseBetweenBatches());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Statements prepare(ArchivedTable table) {
+        JdbcTemplate jdbc = jdbcTemplate.getJdbcTemplate();
+        jdbc.execute("CREATE TABLE IF NOT EXISTS " + table.archiveName()
+                + " AS SELECT t.*, LOCALTIMESTAMP AS archived_at FROM " + table.name() + " t WHERE 1 = 0");
+
+        // 보관 테이블을 만든 뒤 원본에 추가된 열은 복사하지 않는다 (보관 테이블에 직접 추가해야 함)
+        Set<String> archiveColumns = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        archiveColumns.addAll(columnsOf(table.archiveName()));
+        List<String> columns = new ArrayList<>();
+        for (String column : columnsOf(table.name())) {
+            if (archiveColumns.contains(column)) {
+                columns.add(column);
+            } else {
+                log.warn("⚠️ {}에 없는 열은 보관하지 않습니다: {}", table.archiveName(), column);
+            }
+        }
+        String columnList = String.join(", ", columns);
+        String condition = " WHERE " + table.idColumn() + " IN (:ids) AND deleted_at < :cutoff";
+
+        return new Statements(
+                "SELECT " + table.idColumn() + " FROM " + table.name()
+                        + " WHERE deleted_at < ? LIMIT ? FOR UPDATE",
+                "INSERT INTO " + table.archiveName() + " (" + columnList + ", archived_at) SELECT "
+                        + columnList + ", :archivedAt FROM " + table.name() + condition,
+                "DELETE FROM " + table.name() + condition);
+    }
+
+    private List<String> columnsOf(String table) {
+        return jdbcTemplate.getJdbcTemplate().query("SELECT * FROM " + table + " WHERE 1 = 0", resultSet -> {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            List<String> columns = new ArrayList<>(metaData.getColumnCount());
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                columns.add(metaData.getColumnName(i).toLowerCase(Locale.ROOT));
+            }
+            return columns;
+        });
+    }
+
+    /**
+     * 보관 대상 테이블 (soft delete 열은 deleted_at)
+     */
+    record ArchivedTable(String name, String idColumn) {
+
+        String archiveName() {
+            return name + "_archive";
+        }
+    }
+
+    private record Statements(String lock, String copy, String delete) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.bookman.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "auth.api-key")
+@Getter
+@Setter
+public class ApiKeyConfig {
+    // API 키를 전달하는 요청 헤더
+    private String headerName = "X-API-Key";
+    // 키 다이제스트용 HMAC 비밀 값 (DB만 유출되어도 키를 대입해 볼 수 없도록 서버에만 보관)
+    private String hmacSecret;
+    // 검증된 키 캐시 최대 개수 (0이면 비활성화)
+    private int cacheMaxSize = 10_000;
+    // 검증된 키 캐시 TTL (폐기가 다른 인스턴스에 반영되기까지의 최대 지연)
+    private Duration cacheTtl = Duration.ofMinutes(5);
+    // 폐기 중에 시작된 검증의 재캐시를 막기 위해 기록해 두는 최근 폐기 키 수 (넘치면 진행 중 검증을 캐시하지 않음)
+    private int revocationTrackingSize = 10_000;
+    // 키 비밀 부분의 난수 바이트 수
+    private int secretBytes = 32;
+}
@@ -0,0 +1,19 @@
+package com.bookman.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "auth.flow")
+@Getter
+@Setter
+public class AuthFlowConfig {
+    // 요청별 마감 시간, 초과 시 남은 하위 작업을 취소하고 503 응답
+    private Duration loginDeadline = Duration.ofSeconds(3);
+    private Duration registerDeadline = Duration.ofSeconds(3);
+    private Duration refreshDeadline = Duration.ofSeconds(1);
+}
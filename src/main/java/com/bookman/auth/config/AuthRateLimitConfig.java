@@ -0,0 +1,59 @@
+package com.bookman.auth.config;
+
+import com.bookman.common.ratelimit.TokenBucketRateLimiter;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "auth.rate-limit")
+@Getter
+@Setter
+public class AuthRateLimitConfig {
+    private boolean enabled = true;
+    // 추적할 최대 키(IP/사용자명) 수, 초과 시 오래된 버킷부터 밀어냄
+    private int maxKeys = 1_000_000;
+    // 가득 찬(유휴) 버킷 정리 주기
+    private Duration sweepInterval = Duration.ofMinutes(1);
+    // 요청 본문에서 사용자명을 읽을 최대 크기 (사용자명 한도가 있는 경로에서 이보다 큰 본문은 413)
+    private int maxBodyBytes = 8 * 1024;
+    // 라우트 이름(/api/auth/{name})별 한도, 없으면 defaults 사용
+    private Map<String, RouteLimit> routes = new LinkedHashMap<>();
+    private RouteLimit defaults = new RouteLimit();
+
+    public RouteLimit routeLimit(String route) {
+        return routes.getOrDefault(route, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class RouteLimit {
+        private Bucket perIp = new Bucket(60, Duration.ofMinutes(1));
+        // null이면 사용자명 기준 제한 없음
+        private Bucket perUsername;
+    }
+
+    @Getter
+    @Setter
+    public static class Bucket {
+        private int capacity;
+        private Duration refillPeriod;
+
+        public Bucket() {
+        }
+
+        public Bucket(int capacity, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+        }
+
+        public TokenBucketRateLimiter.Limit toLimit() {
+            return TokenBucketRateLimiter.Limit.of(capacity, refillPeriod);
+        }
+    }
+}
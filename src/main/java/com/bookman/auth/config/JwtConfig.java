@@ -1,10 +1,16 @@
 package com.bookman.auth.config;
 
+import com.bookman.auth.util.JwtKeyRing;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 @ConfigurationProperties(prefix = "jwt")
 @Getter
@@ -12,4 +18,35 @@ import org.springframework.stereotype.Component;
 public class JwtConfig {
     private String secret;
     private Long expiration;
+    // 검증된 토큰 캐시 최대 크기 (0이면 캐시 비활성화)
+    private Integer verifiedTokenCacheSize = 10_000;
+    // true면 요청마다 DB 조회 없이 토큰 클레임으로 인증 주체를 구성
+    private boolean statelessPrincipal = false;
+    // 서명 알고리즘 (HMAC은 secret 공유, EdDSA/ES256은 공개 키를 JWKS로 배포)
+    private JwtKeyRing.Algorithm signingAlgorithm = JwtKeyRing.Algorithm.HMAC;
+    // 서명 키 목록 (HMAC 모드에서 비어 있으면 secret 하나로 서명, EdDSA/ES256은 필수)
+    private List<Key> keys = new ArrayList<>();
+    // 활성 시각이 된 키로 서명을 넘기는지 확인하는 주기
+    private Duration keyRefreshInterval = Duration.ofMinutes(1);
+    // 교체된 키를 검증용으로 남겨 두는 여유 시간 (토큰 수명에 더해짐)
+    private Duration keyRetentionMargin = Duration.ofMinutes(1);
+    // kid 없는 이전 HMAC 토큰 허용 여부 (키 목록/비대칭 서명으로 전환 후 토큰 수명이 지나면 false로)
+    private boolean acceptLegacyHmacTokens = true;
+
+    /**
+     * 서명 키 하나 (모든 노드에 같은 값을 배포해야 재시작/노드 이동 후에도 토큰이 유효)
+     */
+    @Getter
+    @Setter
+    public static class Key {
+        private String kid;
+        // HMAC 비밀 값
+        private String secret;
+        // EdDSA/ES256 PKCS#8 개인 키 (PEM 본문 또는 파일 경로, 검증만 하는 키는 비워 둠)
+        private String privateKey;
+        // EdDSA/ES256 X.509 공개 키 (PEM 본문 또는 파일 경로)
+        private String publicKey;
+        // 이 키로 서명을 시작하는 시각 (비우면 항상 활성, 미래 시각이면 그때까지 next 키로 공개만 됨)
+        private Instant activeFrom;
+    }
 }
@@ -0,0 +1,28 @@
+package com.bookman.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "auth.login-attempt")
+@Getter
+@Setter
+public class LoginAttemptConfig {
+    private boolean enabled = true;
+    // 사용자명/IP 추적기마다 보관할 최대 키 수
+    private int maxKeys = 100_000;
+    // 실패 횟수를 세는 슬라이딩 윈도우
+    private Duration window = Duration.ofMinutes(15);
+    // 윈도우 안에서 이 횟수만큼 실패하면 잠금
+    private int usernameThreshold = 5;
+    private int ipThreshold = 20;
+    // 첫 잠금 시간, 이후 잠금마다 두 배 (maxLockout까지)
+    private Duration baseLockout = Duration.ofMinutes(1);
+    private Duration maxLockout = Duration.ofMinutes(30);
+    // 감쇠가 끝난 키 정리 주기
+    private Duration sweepInterval = Duration.ofMinutes(1);
+}
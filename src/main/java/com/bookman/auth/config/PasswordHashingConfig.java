@@ -0,0 +1,30 @@
+package com.bookman.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "auth.password-hashing")
+@Getter
+@Setter
+public class PasswordHashingConfig {
+    // 비밀번호 해시 전용 워커 수 (0이면 CPU 코어 수)
+    private int threads = 0;
+    // 대기열 최대 길이, 초과 시 503으로 즉시 거절
+    private int queueCapacity = 64;
+    // 거절 응답의 Retry-After
+    private Duration retryAfter = Duration.ofSeconds(1);
+    // BCrypt cost 고정값 (0이면 기동 시 targetHashTime에 맞춰 보정)
+    private int bcryptStrength = 0;
+    private Duration targetHashTime = Duration.ofMillis(50);
+    private int minBcryptStrength = 10;
+    private int maxBcryptStrength = 16;
+
+    public int resolvedThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
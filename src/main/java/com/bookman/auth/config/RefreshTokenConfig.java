@@ -0,0 +1,21 @@
+package com.bookman.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "auth.refresh-token")
+@Getter
+@Setter
+public class RefreshTokenConfig {
+    // 리프레시 토큰 유효기간
+    private Duration ttl = Duration.ofDays(14);
+    // 저장소: memory(기본) 또는 jpa
+    private String store = "memory";
+    // 만료 토큰 정리 시 한 번에 삭제할 개수
+    private int purgeBatchSize = 500;
+}
@@ -1,9 +1,18 @@
 package com.bookman.auth.config;
 
+import com.bookman.auth.filter.ApiKeyAuthenticationFilter;
+import com.bookman.auth.filter.BypassRouteMatcher;
 import com.bookman.auth.filter.JwtAuthenticationFilter;
+import com.bookman.auth.principal.ApiKeyPrincipal;
+import com.bookman.auth.util.BCryptCostCalibrator;
+import com.bookman.auth.util.BoundedPasswordEncoder;
+import com.bookman.auth.util.ScopedValueSecurityContextHolderStrategy;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -11,10 +20,14 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -23,6 +36,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -30,19 +44,59 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    // 토큰을 선택적으로 읽는 공개 경로 (로그아웃/폐기 등은 인증 정보를 사용)
+    private static final String[] PUBLIC_ENDPOINTS = {
+            "/api/auth/**",
+            "/h2-console/**"
+    };
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ApiKeyAuthenticationFilter apiKeyAuthenticationFilter;
+    private final BypassRouteMatcher bypassRouteMatcher;
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
+
+    /**
+     * SecurityContext를 ThreadLocal 대신 요청 단위 ScopedValue 슬롯에 보관 (fork한 하위 작업도 같은 컨텍스트를 본다)
+     * HttpSecurity 설정과 메서드 보안은 이 빈을, 정적 SecurityContextHolder 호출은 아래에서 교체한 전략을 사용한다.
+     * 필터 빈들이 주입받으므로 설정 클래스 인스턴스 없이 만들 수 있도록 static으로 선언한다.
+     */
+    @Bean
+    public static ScopedValueSecurityContextHolderStrategy securityContextHolderStrategy() {
+        ScopedValueSecurityContextHolderStrategy strategy = new ScopedValueSecurityContextHolderStrategy();
+        SecurityContextHolder.setContextHolderStrategy(strategy);
+        return strategy;
+    }
 
+    /**
+     * BCrypt 연산은 CPU 크기의 전용 워커 풀에서 실행 (대기열 초과 시 503)
+     * cost는 고정값이 없으면 기동 시 호스트 성능에 맞춰 보정하고,
+     * 다른 cost로 저장된 기존 해시는 로그인 성공 시 DelegatingPasswordEncoder 경로로 재해시된다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingConfig passwordHashingConfig, MeterRegistry meterRegistry) {
+        int strength = passwordHashingConfig.getBcryptStrength() > 0
+                ? passwordHashingConfig.getBcryptStrength()
+                : BCryptCostCalibrator.calibrate(
+                        passwordHashingConfig.getTargetHashTime(),
+                        passwordHashingConfig.getMinBcryptStrength(),
+                        passwordHashingConfig.getMaxBcryptStrength());
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        // {id} 접두사가 없는 기존 해시도 BCrypt로 검증 (검증 후 접두사 형식으로 재해시됨)
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(delegating, passwordHashingConfig, meterRegistry);
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // upgradeEncoding이 true인 해시는 인증 성공 시 새 cost로 재저장
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
@@ -51,29 +105,53 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * API 문서/액추에이터는 필터가 없는 체인으로 보내 인증 처리를 통째로 건너뛴다
+     */
+    @Bean
+    public WebSecurityCustomizer bypassRoutesCustomizer() {
+        return web -> web.ignoring().requestMatchers(bypassRouteMatcher);
+    }
+
+    /**
+     * 인증 필터는 보안 체인 안에서만 실행 (@Component 필터가 서블릿 필터로도 등록되면 체인을 건너뛴 경로에서도 실행된다)
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ApiKeyAuthenticationFilter> apiKeyAuthenticationFilterRegistration() {
+        FilterRegistrationBean<ApiKeyAuthenticationFilter> registration = new FilterRegistrationBean<>(apiKeyAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, AuthenticationProvider authenticationProvider) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(authz -> authz
-                        // Public endpoints
-                        .requestMatchers(
-                                "/api/auth/**",
-                                "/api-docs/**",
-                                "/swagger-ui/**",
-                                "/swagger-ui.html",
-                                "/h2-console/**",
-                                "/actuator/**"
-                        ).permitAll()
+                        // 배치 토큰 검사는 API 키로 인증한 서비스만 호출 (공개 경로보다 먼저 매칭되어야 함)
+                        .requestMatchers(HttpMethod.POST, "/api/auth/introspect")
+                        .hasAuthority(ApiKeyPrincipal.SERVICE_AUTHORITY)
+                        // Public endpoints (체인을 건너뛰는 경로도 함께 허용해 두어 설정이 바뀌어도 닫히지 않게 한다)
+                        .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
+                        .requestMatchers(BypassRouteMatcher.PATTERNS.toArray(String[]::new)).permitAll()
                         // Admin endpoints
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         // All other requests need authentication
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .authenticationProvider(authenticationProvider())
+                .authenticationProvider(authenticationProvider)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 머신 클라이언트는 X-API-Key로 인증 (BCrypt 없이 HMAC 한 번)
+                .addFilterBefore(apiKeyAuthenticationFilter, JwtAuthenticationFilter.class)
                 // H2 Console용 설정
                 .headers(headers -> headers.frameOptions().sameOrigin());
 
@@ -0,0 +1,20 @@
+package com.bookman.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "auth.security-version")
+@Getter
+@Setter
+public class SecurityVersionConfig {
+    // DB에서 읽은 사용자 보안 버전을 재사용하는 시간 (다른 노드의 변경이 반영되기까지의 최대 지연)
+    private Duration cacheTtl = Duration.ofSeconds(30);
+    private int cacheMaxSize = 10_000;
+    // 조회 중 커밋된 변경을 가려내기 위해 기록해 두는 최근 변경 사용자 수 (넘치면 진행 중 조회를 캐시하지 않음)
+    private int changeTrackingSize = 100_000;
+}
@@ -0,0 +1,21 @@
+package com.bookman.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "auth.introspection")
+@Getter
+@Setter
+public class TokenIntrospectionConfig {
+    // 한 번에 검사할 수 있는 최대 토큰 수
+    private int maxBatchSize = 100;
+    // 클라이언트가 결과를 캐시할 수 있는 최대 시간 (유효 토큰은 남은 수명과 비교해 작은 값)
+    private Duration maxCacheTtl = Duration.ofSeconds(30);
+    // 배치 전체 검증 마감 시간
+    private Duration deadline = Duration.ofSeconds(1);
+}
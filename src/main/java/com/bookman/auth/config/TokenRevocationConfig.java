@@ -0,0 +1,25 @@
+package com.bookman.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "auth.revocation")
+@Getter
+@Setter
+public class TokenRevocationConfig {
+    // Bloom 필터 크기 산정 기준 (동시에 유효한 폐기 토큰 수)
+    private long expectedRevocations = 100_000;
+    // Bloom 필터 목표 오탐률
+    private double falsePositiveRate = 0.01;
+    // 다른 인스턴스가 DB에 기록한 폐기 항목을 가져오는 주기 (인스턴스 간 최대 반영 지연)
+    private Duration syncInterval = Duration.ofSeconds(5);
+    // 늦게 커밋된 폐기 항목을 놓치지 않도록 이전 동기화 시각보다 이만큼 앞에서부터 다시 읽는다
+    private Duration syncOverlap = Duration.ofMinutes(1);
+    // 만료 항목 정리 시 한 번에 삭제할 개수
+    private int purgeBatchSize = 500;
+}
@@ -0,0 +1,24 @@
+package com.bookman.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "auth.availability")
+@Getter
+@Setter
+public class UserAvailabilityConfig {
+    // Bloom 필터 크기 산정 최소 기준 (실제 사용자 수의 2배와 비교해 큰 값 사용)
+    private long expectedUsers = 100_000;
+    // Bloom 필터 목표 오탐률 (메모리 한도에 걸리면 더 높아질 수 있음)
+    private double falsePositiveRate = 0.01;
+    // 사용자명/이메일 필터 두 개를 합친 최대 메모리
+    private DataSize memoryBudget = DataSize.ofMegabytes(4);
+    // 삭제/보관된 사용자를 반영하고 크기를 다시 맞추는 재구성 주기
+    private Duration rebuildInterval = Duration.ofHours(1);
+}
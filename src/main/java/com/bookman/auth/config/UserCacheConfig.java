@@ -0,0 +1,21 @@
+package com.bookman.auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "auth.user-cache")
+@Getter
+@Setter
+public class UserCacheConfig {
+    // DB 기반 인증 주체 조회 결과 캐시 사용 여부
+    private boolean enabled = true;
+    private int maxSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(5);
+    // 느린 조회의 재캐시를 막기 위해 기록해 두는 최근 무효화 사용자 수 (캐시 크기와 별도, 넘치면 진행 중 조회를 캐시하지 않음)
+    private int invalidationTrackingSize = 100_000;
+}
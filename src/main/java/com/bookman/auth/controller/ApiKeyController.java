@@ -0,0 +1,112 @@
+package com.bookman.auth.controller;
+
+import com.bookman.auth.dto.ApiKeyRequest;
+import com.bookman.auth.dto.ApiKeyResponse;
+import com.bookman.auth.service.ApiKeyService;
+import com.bookman.common.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/api-keys")
+@RequiredArgsConstructor
+@Tag(
+    name = "🔑 API Key Management",
+    description = """
+        ## API 키 관리 API
+        
+        서비스 간 호출(머신 클라이언트)용 API 키를 발급하고 폐기합니다.
+        
+        ### 🔒 인증 요구사항
+        - 관리자(ADMIN) 토큰이 필요합니다
+        - 발급한 키는 `X-API-Key: {key}` 헤더로 전달
+        """
+)
+public class ApiKeyController {
+
+    private final ApiKeyService apiKeyService;
+
+    @PostMapping
+    @Operation(
+        summary = "🔑 API 키 발급",
+        description = """
+            머신 클라이언트가 `X-API-Key` 헤더로 사용할 키를 발급합니다.
+            
+            **⚠️ 주의:** 원본 키는 이 응답에서만 확인할 수 있으며 서버에는 다이제스트만 저장됩니다.
+            
+            **🔐 권한:** ADMIN 역할만 접근 가능
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "201",
+            description = "✅ 발급 성공",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ApiKeyResponse.class),
+                examples = @ExampleObject(
+                    name = "성공 응답",
+                    value = """
+                    {
+                        "id": 1,
+                        "name": "report-batch",
+                        "prefix": "Q3x9_kLm2aZb",
+                        "role": "USER",
+                        "key": "bk_Q3x9_kLm2aZb.t0p-S3cr3t..."
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "❌ 권한 부족",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiKeyResponse> issue(@Valid @RequestBody ApiKeyRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(apiKeyService.issue(request));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(
+        summary = "⛔ API 키 폐기",
+        description = """
+            API 키를 폐기합니다. 다른 인스턴스에는 검증 캐시 TTL(`auth.api-key.cache-ttl`) 안에 반영됩니다.
+            
+            **🔐 권한:** ADMIN 역할만 접근 가능
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "✅ 폐기 성공"),
+        @ApiResponse(
+            responseCode = "400",
+            description = "❌ 존재하지 않는 키",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> revoke(@PathVariable Long id) {
+        apiKeyService.revoke(id);
+        return ResponseEntity.noContent().build();
+    }
+}
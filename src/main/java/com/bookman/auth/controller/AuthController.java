@@ -1,10 +1,19 @@
 package com.bookman.auth.controller;
 
 import com.bookman.auth.dto.AuthResponse;
+import com.bookman.auth.dto.AvailabilityResponse;
 import com.bookman.auth.dto.LoginRequest;
+import com.bookman.auth.dto.LogoutRequest;
+import com.bookman.auth.dto.RefreshTokenRequest;
 import com.bookman.auth.dto.RegisterRequest;
+import com.bookman.auth.dto.TokenIntrospectionRequest;
+import com.bookman.auth.dto.TokenIntrospectionResponse;
+import com.bookman.auth.dto.TokenRevocationRequest;
 import com.bookman.auth.service.AuthService;
+import com.bookman.auth.service.TokenIntrospectionService;
+import com.bookman.auth.service.UserAvailabilityService;
 import com.bookman.common.exception.ErrorResponse;
+import com.bookman.common.exception.InvalidTokenException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -12,13 +21,19 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.TimeUnit;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -32,17 +47,24 @@ import org.springframework.web.bind.annotation.*;
         
         ### 📋 주요 기능
         - 🆕 **회원가입**: 새로운 사용자 계정 생성
+        - 🔎 **가입 가능 여부**: 사용자명/이메일 중복 사전 확인
         - 🔑 **로그인**: JWT 토큰 기반 인증
+        - 🔄 **토큰 갱신**: 리프레시 토큰으로 액세스 토큰 재발급
+        - 🚪 **로그아웃**: 현재 토큰 폐기
         - ✅ **토큰 검증**: 현재 토큰의 유효성 확인
+        - 🔍 **배치 토큰 검사**: 게이트웨이/하위 서비스용 다중 토큰 검사
         
         ### 🚀 사용 가이드
         1. 회원가입 또는 로그인으로 JWT 토큰 획득
         2. 이후 모든 API 요청 시 `Authorization: Bearer {token}` 헤더 포함
+        3. 액세스 토큰 만료 시 `/api/auth/refresh`로 새 토큰 발급
         """
 )
 public class AuthController {
 
     private final AuthService authService;
+    private final UserAvailabilityService userAvailabilityService;
+    private final TokenIntrospectionService tokenIntrospectionService;
 
     @PostMapping("/register")
     @Operation(
@@ -72,6 +94,7 @@ public class AuthController {
                     {
                         "token": "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...",
                         "type": "Bearer",
+                        "refreshToken": "Q2hhbmdlTWVSZWZyZXNoVG9rZW4...",
                         "username": "newuser",
                         "email": "newuser@example.com",
                         "fullName": "새로운 사용자",
@@ -116,6 +139,22 @@ public class AuthController {
                     )
                 }
             )
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "⛔ IP/사용자명별 요청 한도 초과 (Retry-After 헤더 참고)",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "⏳ 비밀번호 처리 대기열 초과 (Retry-After 헤더 참고)",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
         )
     })
     public ResponseEntity<AuthResponse> register(
@@ -148,6 +187,65 @@ public class AuthController {
         }
     }
 
+    @GetMapping("/availability")
+    @Operation(
+        summary = "🔎 사용자명/이메일 사용 가능 여부",
+        description = """
+            회원가입 전에 사용자명 또는 이메일이 사용 가능한지 확인합니다.
+            
+            **⚡ 성능:** 대부분의 요청은 메모리의 Bloom 필터만으로 응답하고, 이미 사용 중일 가능성이 있는 값만 DB로 확인합니다.
+            
+            **💡 참고:** `username`, `email` 중 하나 이상을 전달해야 하며, 전달한 항목만 응답에 포함됩니다.
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "✅ 확인 성공",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = AvailabilityResponse.class),
+                examples = @ExampleObject(
+                    name = "성공 응답",
+                    value = """
+                    {
+                        "usernameAvailable": true,
+                        "emailAvailable": false
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "❌ 확인할 항목 미제공",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "⛔ IP별 요청 한도 초과 (Retry-After 헤더 참고)",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<AvailabilityResponse> availability(
+        @RequestParam(required = false) String username,
+        @RequestParam(required = false) String email
+    ) {
+        if (username == null && email == null) {
+            throw new IllegalArgumentException("username 또는 email 중 하나 이상을 입력해주세요.");
+        }
+        return ResponseEntity.ok(AvailabilityResponse.builder()
+                .usernameAvailable(username != null ? userAvailabilityService.isUsernameAvailable(username) : null)
+                .emailAvailable(email != null ? userAvailabilityService.isEmailAvailable(email) : null)
+                .build());
+    }
+
     @PostMapping("/login")
     @Operation(
         summary = "🔑 로그인",
@@ -156,7 +254,8 @@ public class AuthController {
             
             **🔐 인증 방식:**
             - 사용자명과 비밀번호로 인증
-            - 성공 시 24시간 유효한 JWT 토큰 발급
+            - 성공 시 15분 유효한 JWT 액세스 토큰과 14일 유효한 리프레시 토큰 발급
+            - 같은 사용자명 또는 IP로 실패가 반복되면 일정 시간 잠기며, 잠금 시간은 반복될수록 늘어납니다
             
             **👥 테스트 계정:**
             - 관리자: `admin` / `admin123`
@@ -176,6 +275,7 @@ public class AuthController {
                     {
                         "token": "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...",
                         "type": "Bearer",
+                        "refreshToken": "Q2hhbmdlTWVSZWZyZXNoVG9rZW4...",
                         "username": "admin",
                         "email": "admin@bookman.com",
                         "fullName": "관리자",
@@ -211,6 +311,22 @@ public class AuthController {
                 mediaType = MediaType.APPLICATION_JSON_VALUE,
                 schema = @Schema(implementation = ErrorResponse.class)
             )
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "⛔ 요청 한도 초과 또는 로그인 실패 누적으로 인한 일시 잠금 (Retry-After 헤더 참고)",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "⏳ 비밀번호 처리 대기열 초과 (Retry-After 헤더 참고)",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
         )
     })
     public ResponseEntity<AuthResponse> login(
@@ -240,11 +356,12 @@ public class AuthController {
                 }
             )
         )
-        @Valid @RequestBody LoginRequest request
+        @Valid @RequestBody LoginRequest request,
+        HttpServletRequest httpRequest
     ) {
         log.info("로그인 요청: {}", request.getUsername());
         try {
-            AuthResponse response = authService.login(request);
+            AuthResponse response = authService.login(request, httpRequest.getRemoteAddr());
             return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
             log.error("로그인 실패: {}", e.getMessage());
@@ -252,6 +369,182 @@ public class AuthController {
         }
     }
 
+    @PostMapping("/refresh")
+    @Operation(
+        summary = "🔄 토큰 갱신",
+        description = """
+            리프레시 토큰으로 새 액세스 토큰을 발급합니다.
+            
+            **🔁 토큰 회전:**
+            - 요청에 사용한 리프레시 토큰은 즉시 사용 처리되고 새 리프레시 토큰이 함께 발급됩니다
+            - 이미 사용된 리프레시 토큰이 다시 제출되면 해당 로그인 세션의 모든 리프레시 토큰이 폐기됩니다
+            
+            **⚡ 비밀번호 검증을 하지 않으므로 로그인보다 훨씬 가볍습니다.**
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "✅ 토큰 갱신 성공",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = AuthResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "❌ 만료/폐기/재사용된 리프레시 토큰",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class),
+                examples = @ExampleObject(
+                    name = "재사용 감지",
+                    value = """
+                    {
+                        "timestamp": "2025-06-05T10:30:00",
+                        "status": 401,
+                        "error": "Unauthorized",
+                        "message": "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."
+                    }
+                    """
+                )
+            )
+        )
+    })
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refresh(request));
+    }
+
+    @PostMapping("/logout")
+    @Operation(
+        summary = "🚪 로그아웃",
+        description = """
+            현재 액세스 토큰을 만료 시각까지 폐기합니다.
+            
+            **🔒 인증 필요:** Authorization 헤더의 Bearer 토큰이 폐기 대상입니다.
+            
+            **💡 참고:** 요청 본문에 `refreshToken`을 함께 보내면 해당 로그인 세션의 리프레시 토큰도 폐기됩니다.
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "✅ 로그아웃 성공"),
+        @ApiResponse(
+            responseCode = "401",
+            description = "❌ 토큰 무효 또는 미제공",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public ResponseEntity<Void> logout(
+        @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+        @RequestBody(required = false) LogoutRequest request
+    ) {
+        authService.logout(bearerToken(authorization), request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/revoke")
+    @Operation(
+        summary = "⛔ 토큰 강제 폐기",
+        description = """
+            지정한 액세스 토큰을 만료 시각까지 폐기합니다.
+            
+            **🔐 권한:** ADMIN 역할만 접근 가능
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "✅ 폐기 성공"),
+        @ApiResponse(
+            responseCode = "401",
+            description = "❌ 폐기 대상 토큰이 유효하지 않음",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "❌ 권한 부족",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> revoke(@Valid @RequestBody TokenRevocationRequest request) {
+        authService.revoke(request.getToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/introspect")
+    @Operation(
+        summary = "🔍 배치 토큰 검사",
+        description = """
+            여러 액세스 토큰을 한 번에 검사합니다. 게이트웨이/하위 서비스가 토큰마다 `/validate`를 호출하는 대신 사용합니다.
+            
+            **📋 토큰별 결과:**
+            - `status`: ACTIVE, EXPIRED, REVOKED(로그아웃/강제 폐기/권한 변경), INVALID(서명/형식 오류)
+            - `subject`, `role`, `expiresAt`, `ttlSeconds`(ACTIVE일 때 남은 수명)
+            - `cacheTtlSeconds`: 이 결과를 캐시해도 되는 시간 (토큰 만료 시각과 서버 설정 중 작은 값)
+            
+            **⚡ 캐시:** 응답의 `Cache-Control: private, max-age`는 모든 결과의 `cacheTtlSeconds` 중 최솟값입니다.
+            
+            **🔒 인증 필요:** `X-API-Key` 헤더의 서비스 API 키 (사용자 JWT로는 호출할 수 없음)
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "✅ 검사 완료 (결과는 요청한 토큰 순서와 같음)",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = TokenIntrospectionResponse.class),
+                examples = @ExampleObject(
+                    name = "성공 응답",
+                    value = """
+                    {
+                        "results": [
+                            {
+                                "status": "ACTIVE",
+                                "subject": "user",
+                                "role": "USER",
+                                "expiresAt": "2025-06-05T10:45:00Z",
+                                "ttlSeconds": 842,
+                                "cacheTtlSeconds": 30
+                            },
+                            {
+                                "status": "INVALID",
+                                "cacheTtlSeconds": 30
+                            }
+                        ]
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "❌ 토큰 목록이 비었거나 최대 개수 초과",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "❌ API 키 없음 또는 서비스 주체가 아님"
+        )
+    })
+    public ResponseEntity<TokenIntrospectionResponse> introspect(@Valid @RequestBody TokenIntrospectionRequest request) {
+        TokenIntrospectionResponse response = tokenIntrospectionService.introspect(request.getTokens());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(response.getCacheTtlSeconds(), TimeUnit.SECONDS).cachePrivate())
+                .body(response);
+    }
+
     @GetMapping("/validate")
     @Operation(
         summary = "✅ 토큰 검증",
@@ -303,4 +596,11 @@ public class AuthController {
     public ResponseEntity<String> validateToken() {
         return ResponseEntity.ok("토큰이 유효합니다.");
     }
+
+    private static String bearerToken(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new InvalidTokenException("인증 토큰이 필요합니다.");
+        }
+        return authorization.substring(7);
+    }
 }
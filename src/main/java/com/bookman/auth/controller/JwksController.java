@@ -0,0 +1,71 @@
+package com.bookman.auth.controller;
+
+import com.bookman.auth.util.JwtUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "🔐 Authentication")
+public class JwksController {
+
+    // 검증자가 JWKS를 캐시할 수 있는 시간 (다음 키는 활성 시각보다 이 시간 이상 먼저 배포해야 한다)
+    private static final Duration MAX_CACHE = Duration.ofMinutes(10);
+
+    private final JwtUtil jwtUtil;
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "🔑 JWKS 공개 키 목록",
+        description = """
+            액세스 토큰 서명 검증용 공개 키(JWK Set)를 반환합니다.
+            
+            **📋 포함 키:** 현재 서명 키, 다음 교체에 쓰일 키, 교체 후 아직 유효한 토큰이 남은 이전 키
+            
+            **💡 참고:** 하위 서비스는 토큰 헤더의 `kid`로 키를 찾아 직접 검증할 수 있습니다.
+            HMAC 서명 모드에서는 공개할 키가 없으므로 빈 목록을 반환합니다.
+            """
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "✅ 조회 성공",
+        content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            examples = @ExampleObject(
+                name = "EdDSA 키",
+                value = """
+                {
+                    "keys": [
+                        {
+                            "kty": "OKP",
+                            "crv": "Ed25519",
+                            "x": "11qYAYKxCrfVS_7TyWQHOg7hcvPapiMlrwIaaPcHURo",
+                            "kid": "2025-06",
+                            "use": "sig",
+                            "alg": "EdDSA"
+                        }
+                    ]
+                }
+                """
+            )
+        )
+    )
+    public ResponseEntity<Map<String, List<Map<String, Object>>>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(MAX_CACHE).cachePublic())
+                .body(Map.of("keys", jwtUtil.publicJwks()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.bookman.auth.dto;
+
+import com.bookman.user.entity.User;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiKeyRequest {
+
+    @NotBlank(message = "서비스 이름은 필수입니다")
+    @Size(max = 100, message = "서비스 이름은 100자 이하여야 합니다")
+    private String name;
+
+    // 지정하지 않으면 USER
+    private User.Role role;
+
+    // 지정하지 않으면 만료 없음
+    @Positive(message = "유효 기간은 1일 이상이어야 합니다")
+    private Integer expiresInDays;
+}
@@ -0,0 +1,24 @@
+package com.bookman.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ApiKeyResponse {
+    private Long id;
+    private String name;
+    private String prefix;
+    private String role;
+    private Instant expiresAt;
+    // 원본 키는 발급 응답에서만 내려가며 서버에는 남지 않는다
+    private String key;
+}
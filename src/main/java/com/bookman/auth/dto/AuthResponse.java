@@ -11,7 +11,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class AuthResponse {
     private String token;
+    @Builder.Default
     private String type = "Bearer";
+    private String refreshToken;
     private String username;
     private String email;
     private String fullName;
@@ -19,6 +21,7 @@ public class AuthResponse {
     
     public AuthResponse(String token, String username, String email, String fullName, String role) {
         this.token = token;
+        this.type = "Bearer";
         this.username = username;
         this.email = email;
         this.fullName = fullName;
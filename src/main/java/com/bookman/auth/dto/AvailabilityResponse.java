@@ -0,0 +1,18 @@
+package com.bookman.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AvailabilityResponse {
+    // 요청에 포함된 항목만 채워진다 (true면 사용 가능)
+    private Boolean usernameAvailable;
+    private Boolean emailAvailable;
+}
@@ -0,0 +1,16 @@
+package com.bookman.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogoutRequest {
+
+    // 함께 폐기할 리프레시 토큰 (선택)
+    private String refreshToken;
+}
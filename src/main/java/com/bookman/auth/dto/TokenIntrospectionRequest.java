@@ -0,0 +1,20 @@
+package com.bookman.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenIntrospectionRequest {
+
+    @NotEmpty(message = "검사할 토큰은 하나 이상이어야 합니다")
+    private List<@NotBlank(message = "빈 토큰은 검사할 수 없습니다") String> tokens;
+}
@@ -0,0 +1,45 @@
+package com.bookman.auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenIntrospectionResponse {
+
+    // 요청한 토큰 순서와 같은 순서
+    private List<Result> results;
+
+    // 모든 결과를 함께 캐시할 수 있는 시간 (Cache-Control max-age로 전달)
+    @JsonIgnore
+    private long cacheTtlSeconds;
+
+    public enum Status {
+        ACTIVE, EXPIRED, REVOKED, INVALID
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+        private Status status;
+        private String subject;
+        private String role;
+        private Instant expiresAt;
+        // 토큰 만료까지 남은 시간 (ACTIVE일 때만)
+        private Long ttlSeconds;
+        // 이 결과를 클라이언트가 캐시해도 되는 시간
+        private long cacheTtlSeconds;
+    }
+}
@@ -0,0 +1,17 @@
+package com.bookman.auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocationRequest {
+
+    @NotBlank(message = "폐기할 토큰은 필수입니다")
+    private String token;
+}
@@ -0,0 +1,63 @@
+package com.bookman.auth.entity;
+
+import com.bookman.user.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 서비스 간 호출용 API 키
+ *
+ * 원본 키는 발급 응답에서 한 번만 보여주고, 조회용 prefix와 비밀 부분의 HMAC-SHA256 다이제스트만 저장한다.
+ */
+@Entity
+@Table(name = "api_keys")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApiKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "api_key_id")
+    private Long id;
+
+    // 키 앞부분의 공개 식별자 (유니크 인덱스로 단건 조회)
+    @Column(nullable = false, unique = true, length = 16)
+    private String prefix;
+
+    // 비밀 부분의 HMAC-SHA256 다이제스트 (base64url)
+    @Column(name = "secret_digest", nullable = false, length = 64)
+    private String secretDigest;
+
+    // 키를 사용하는 서비스 이름
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private User.Role role;
+
+    // null이면 만료 없음
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean revoked = false;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = Instant.now();
+    }
+
+    public boolean isUsableAt(Instant now) {
+        return !revoked && (expiresAt == null || expiresAt.isAfter(now));
+    }
+}
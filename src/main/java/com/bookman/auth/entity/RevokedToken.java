@@ -0,0 +1,35 @@
+package com.bookman.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(
+    name = "revoked_tokens",
+    indexes = {
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at"),
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+    }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+
+    // 폐기된 액세스 토큰의 jti
+    @Id
+    @Column(length = 64)
+    private String jti;
+
+    // 토큰 자체의 만료 시각 (이후에는 행을 지워도 된다)
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // 다른 인스턴스가 새 폐기 항목만 가져갈 때 기준이 되는 시각
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+}
@@ -0,0 +1,60 @@
+package com.bookman.auth.filter;
+
+import com.bookman.auth.config.ApiKeyConfig;
+import com.bookman.auth.principal.ApiKeyPrincipal;
+import com.bookman.auth.service.ApiKeyService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 머신 클라이언트용 API 키 인증 (JwtAuthenticationFilter 앞에서 실행)
+ *
+ * 키가 없거나 유효하지 않으면 인증 없이 다음 필터로 넘겨 JWT 인증 또는 접근 거부로 이어진다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
+
+    private final ApiKeyService apiKeyService;
+    private final ApiKeyConfig apiKeyConfig;
+    private final SecurityContextHolderStrategy securityContextHolderStrategy;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String rawKey = request.getHeader(apiKeyConfig.getHeaderName());
+        if (rawKey == null || rawKey.isBlank() || securityContextHolderStrategy.getContext().getAuthentication() != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            ApiKeyPrincipal principal = apiKeyService.authenticate(rawKey.strip());
+            if (principal != null) {
+                securityContextHolderStrategy.getContext().setAuthentication(
+                        new RequestAuthenticationToken(principal, request.getRemoteAddr()));
+                log.trace("API 키 인증 성공: {}", principal.name());
+            } else {
+                log.debug("유효하지 않은 API 키: {}", request.getRequestURI());
+            }
+        } catch (Exception e) {
+            log.error("API 키 인증 처리 중 오류 발생: {}", e.getMessage());
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,205 @@
+package com.bookman.auth.filter;
+
+import com.bookman.auth.config.AuthRateLimitConfig;
+import com.bookman.common.exception.ErrorResponse;
+import com.bookman.common.ratelimit.TokenBucketRateLimiter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /api/auth/** 앞단의 IP/사용자명 기준 레이트 리미터
+ *
+ * 인증 API는 BCrypt 연산과 DB 쓰기를 유발하므로 Spring Security 필터 체인보다 먼저 실행되어
+ * 한도를 넘은 요청을 429(Retry-After)로 즉시 돌려보낸다. 클라이언트 IP는 getRemoteAddr()을
+ * 사용하므로 프록시 뒤에서는 server.forward-headers-strategy 설정이 필요하다.
+ * 사용자명 한도가 있는 경로는 본문을 maxBodyBytes까지 읽어 사용자명을 꺼내며, 이보다 큰 본문은
+ * (Content-Length가 없는 chunked 요청 포함) 사용자명 한도를 우회하지 못하도록 413으로 거절한다.
+ * 경로별 한도와 거절 카운터는 생성 시 한 번 만들어 두므로, 공격 중 거절이 몰려도 요청마다 미터를 조회하지 않는다.
+ * 거절 로그는 DEBUG로 남기고 규모는 auth.rate-limit.rejected 메트릭으로 본다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH_PREFIX = "/api/auth/";
+    private static final String DEFAULT_ROUTE = "default";
+
+    private final AuthRateLimitConfig config;
+    private final ObjectMapper objectMapper;
+    private final TokenBucketRateLimiter limiter;
+    private final Map<String, Route> routes;
+
+    public AuthRateLimitFilter(AuthRateLimitConfig config, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.limiter = new TokenBucketRateLimiter(config.getMaxKeys());
+
+        Map<String, Route> resolved = new HashMap<>();
+        resolved.put(DEFAULT_ROUTE, resolveRoute(DEFAULT_ROUTE, meterRegistry));
+        config.getRoutes().keySet().forEach(route -> resolved.put(route, resolveRoute(route, meterRegistry)));
+        this.routes = Map.copyOf(resolved);
+
+        Gauge.builder("auth.rate-limit.keys", limiter, TokenBucketRateLimiter::trackedKeys)
+                .description("추적 중인 레이트 리밋 키 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.rate-limit.overflow.evictions", limiter, TokenBucketRateLimiter::overflowEvictionCount)
+                .description("키 상한 초과로 밀려난 버킷 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !config.isEnabled() || !requestPath(request).startsWith(AUTH_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Route route = routes.get(routeName(requestPath(request)));
+
+        long waitNanos = limiter.tryAcquire(route.name() + "|ip|" + request.getRemoteAddr(), route.perIp());
+        if (waitNanos > 0) {
+            reject(response, route, "ip", route.ipRejected(), waitNanos);
+            return;
+        }
+
+        HttpServletRequest forwarded = request;
+        if (route.perUsername() != null && HttpMethod.POST.matches(request.getMethod())) {
+            CachedBodyHttpServletRequest cached = CachedBodyHttpServletRequest.wrap(request, config.getMaxBodyBytes());
+            if (cached == null) {
+                rejectTooLarge(response, route);
+                return;
+            }
+            forwarded = cached;
+            String username = extractUsername(cached.body());
+            if (username != null) {
+                waitNanos = limiter.tryAcquire(route.name() + "|user|" + username, route.perUsername());
+                if (waitNanos > 0) {
+                    reject(response, route, "username", route.usernameRejected(), waitNanos);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(forwarded, response);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.rate-limit.sweep-interval:PT1M}")
+    public void evictIdleBuckets() {
+        int removed = limiter.evictIdle();
+        if (removed > 0) {
+            log.debug("🧹 유휴 레이트 리밋 버킷 정리: {}개, 남은 키: {}", removed, limiter.trackedKeys());
+        }
+    }
+
+    private Route resolveRoute(String route, MeterRegistry meterRegistry) {
+        AuthRateLimitConfig.RouteLimit routeLimit = config.routeLimit(route);
+        boolean perUsername = routeLimit.getPerUsername() != null;
+        return new Route(
+                route,
+                routeLimit.getPerIp().toLimit(),
+                perUsername ? routeLimit.getPerUsername().toLimit() : null,
+                rejectedCounter(meterRegistry, route, "ip"),
+                perUsername ? rejectedCounter(meterRegistry, route, "username") : null,
+                perUsername ? rejectedCounter(meterRegistry, route, "body-size") : null
+        );
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String route, String keyType) {
+        return Counter.builder("auth.rate-limit.rejected")
+                .description("레이트 리밋으로 거절된 인증 요청 수")
+                .tag("route", route)
+                .tag("key", keyType)
+                .register(registry);
+    }
+
+    private String extractUsername(byte[] body) {
+        try {
+            JsonNode username = objectMapper.readTree(body).get("username");
+            return username != null && username.isTextual() ? username.asText().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            // 형식이 잘못된 본문은 컨트롤러의 검증 단계에서 거절된다
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, Route route, String keyType, Counter rejected, long waitNanos)
+            throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        rejected.increment();
+        log.debug("⛔ 인증 요청 한도 초과 - route: {}, 기준: {}, Retry-After: {}s", route.name(), keyType, retryAfterSeconds);
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        writeError(response, HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private void rejectTooLarge(HttpServletResponse response, Route route) throws IOException {
+        route.bodySizeRejected().increment();
+        log.debug("⛔ 인증 요청 본문 크기 초과 - route: {}, 최대: {}바이트", route.name(), config.getMaxBodyBytes());
+        writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다.");
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .build();
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private static String requestPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * /api/auth/login → login (설정에 없는 경로는 키/메트릭 폭증을 막기 위해 default로 묶음)
+     */
+    private String routeName(String path) {
+        String rest = path.substring(AUTH_PATH_PREFIX.length());
+        int slash = rest.indexOf('/');
+        String route = slash < 0 ? rest : rest.substring(0, slash);
+        return config.getRoutes().containsKey(route) ? route : DEFAULT_ROUTE;
+    }
+
+    /**
+     * 경로별 한도와 거절 카운터 (사용자명 한도가 없는 경로는 perUsername과 해당 카운터가 null)
+     */
+    private record Route(String name, TokenBucketRateLimiter.Limit perIp, TokenBucketRateLimiter.Limit perUsername,
+                         Counter ipRejected, Counter usernameRejected, Counter bodySizeRejected) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.bookman.auth.filter;
+
+import com.bookman.auth.util.PathPatternTrie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 인증 정보를 전혀 쓰지 않는 공개 경로 (API 문서, 액추에이터, JWKS)
+ *
+ * 이 경로들은 Spring Security 필터 체인 자체를 건너뛰므로 토큰 파싱, SecurityContext 슬롯,
+ * 익명 인증 객체가 만들어지지 않는다. 잦은 메트릭 수집 요청이 인증 비용을 내지 않게 하기 위함이다.
+ * /api/auth/**는 permitAll이지만 로그아웃/폐기처럼 토큰을 읽는 API가 있어 여기에 넣지 않는다.
+ * 경로 정규화 검사(StrictHttpFirewall)는 FilterChainProxy가 체인 선택 전에 수행한다.
+ */
+@Component
+public class BypassRouteMatcher implements RequestMatcher {
+
+    public static final List<String> PATTERNS = List.of(
+            "/api-docs/**",
+            "/swagger-ui/**",
+            "/swagger-ui.html",
+            "/actuator/**",
+            "/.well-known/jwks.json"
+    );
+
+    private final PathPatternTrie trie = new PathPatternTrie(PATTERNS);
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return trie.matches(request.getRequestURI(), request.getContextPath().length());
+    }
+}
@@ -0,0 +1,96 @@
+package com.bookman.auth.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이미 읽은 요청 본문을 컨트롤러에서 다시 읽을 수 있도록 보관하는 요청 래퍼
+ */
+class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    private CachedBodyHttpServletRequest(HttpServletRequest request, byte[] body) {
+        super(request);
+        this.body = body;
+    }
+
+    /**
+     * 본문이 maxBytes 이하인 경우에만 읽어 래핑, 넘으면 null
+     *
+     * Content-Length가 없는(chunked) 요청은 maxBytes + 1바이트까지만 읽어 크기를 판단하므로
+     * 큰 본문을 끝까지 메모리에 올리지 않는다. null이면 본문 일부를 이미 읽었으므로 요청을 거절해야 한다.
+     */
+    static CachedBodyHttpServletRequest wrap(HttpServletRequest request, int maxBytes) throws IOException {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength > maxBytes) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes(contentLength >= 0 ? (int) contentLength : maxBytes + 1);
+        if (body.length > maxBytes) {
+            return null;
+        }
+        return new CachedBodyHttpServletRequest(request, body);
+    }
+
+    byte[] body() {
+        return body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream source = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return source.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            /**
+             * 본문은 이미 메모리에 있으므로 바로 읽을 수 있음과 끝을 알린다
+             */
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                try {
+                    if (!isFinished()) {
+                        readListener.onDataAvailable();
+                    }
+                    readListener.onAllDataRead();
+                } catch (IOException e) {
+                    readListener.onError(e);
+                }
+            }
+
+            @Override
+            public int read() {
+                return source.read();
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                return source.read(buffer, offset, length);
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+}
@@ -1,17 +1,20 @@
 package com.bookman.auth.filter;
 
+import com.bookman.auth.config.JwtConfig;
+import com.bookman.auth.principal.JwtPrincipal;
+import com.bookman.auth.service.SecurityVersionRegistry;
+import com.bookman.auth.service.TokenRevocationService;
 import com.bookman.auth.util.JwtUtil;
+import com.bookman.auth.util.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -23,7 +26,11 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final JwtConfig jwtConfig;
     private final UserDetailsService userDetailsService;
+    private final SecurityVersionRegistry securityVersionRegistry;
+    private final TokenRevocationService tokenRevocationService;
+    private final SecurityContextHolderStrategy securityContextHolderStrategy;
 
     @Override
     protected void doFilterInternal(
@@ -44,24 +51,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // Bearer 제거하고 토큰 추출
         jwt = authHeader.substring(7);
-        
+
         try {
-            username = jwtUtil.extractUsername(jwt);
+            // 토큰은 요청당 한 번만 검증/파싱
+            VerifiedToken token = jwtUtil.verify(jwt);
+            username = token.subject();
+
+            // 폐기된 토큰은 인증 주체 조회 전에 거부 (Bloom 필터로 대부분 즉시 통과)
+            if (tokenRevocationService.isRevoked(token)) {
+                log.debug("폐기된 토큰: {}", username);
+                filterChain.doFilter(request, response);
+                return;
+            }
 
             // 사용자명이 있고 아직 인증되지 않은 경우
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            if (username != null && securityContextHolderStrategy.getContext().getAuthentication() == null) {
+                UserDetails userDetails = resolvePrincipal(token);
 
                 // 토큰 유효성 검사
-                if (jwtUtil.validateToken(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                    );
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                    log.debug("JWT 인증 성공: {}", username);
+                if (userDetails != null && userDetails.isEnabled() && jwtUtil.isTokenValidFor(token, userDetails)) {
+                    securityContextHolderStrategy.getContext().setAuthentication(
+                            new RequestAuthenticationToken(userDetails, request.getRemoteAddr()));
+                    log.trace("JWT 인증 성공: {}", username);
                 }
             }
         } catch (Exception e) {
@@ -70,4 +81,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 무상태 모드면 토큰 클레임으로, 아니면 DB에서 인증 주체를 구성
+     */
+    private UserDetails resolvePrincipal(VerifiedToken token) {
+        if (jwtConfig.isStatelessPrincipal()) {
+            JwtPrincipal principal = JwtPrincipal.from(token);
+            if (principal != null) {
+                if (!securityVersionRegistry.isCurrent(principal)) {
+                    log.debug("폐기된 보안 버전의 토큰: {}", principal.username());
+                    return null;
+                }
+                return principal;
+            }
+            // 클레임이 없는 이전 형식 토큰은 DB 조회로 처리
+        }
+        return userDetailsService.loadUserByUsername(token.subject());
+    }
 }
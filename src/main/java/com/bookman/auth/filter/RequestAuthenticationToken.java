@@ -0,0 +1,37 @@
+package com.bookman.auth.filter;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * 토큰/API 키 필터가 만드는 인증 객체
+ *
+ * 세션을 쓰지 않으므로 details에 필요한 값은 원격 주소뿐이다. 요청마다 WebAuthenticationDetailsSource와
+ * WebAuthenticationDetails를 만드는 대신 주소만 들고 있다가, details를 실제로 조회할 때 만든다.
+ */
+final class RequestAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+    private final String remoteAddress;
+    private volatile Object details;
+
+    RequestAuthenticationToken(UserDetails principal, String remoteAddress) {
+        super(principal, null, principal.getAuthorities());
+        this.remoteAddress = remoteAddress;
+    }
+
+    @Override
+    public Object getDetails() {
+        Object result = details;
+        if (result == null) {
+            result = new WebAuthenticationDetails(remoteAddress, null);
+            details = result;
+        }
+        return result;
+    }
+
+    @Override
+    public void setDetails(Object details) {
+        this.details = details;
+    }
+}
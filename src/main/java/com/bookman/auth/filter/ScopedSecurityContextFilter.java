@@ -0,0 +1,57 @@
+package com.bookman.auth.filter;
+
+import com.bookman.auth.util.ScopedValueSecurityContextHolderStrategy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 처리 전체를 SecurityContext 슬롯 바인딩 안에서 실행 (Spring Security 필터 체인보다 먼저 실행)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ScopedSecurityContextFilter extends OncePerRequestFilter {
+
+    private final ScopedValueSecurityContextHolderStrategy securityContextHolderStrategy;
+    private final BypassRouteMatcher bypassRouteMatcher;
+
+    /**
+     * 보안 체인을 건너뛰는 경로는 SecurityContext를 쓰지 않으므로 슬롯도 만들지 않는다
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return bypassRouteMatcher.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        if (securityContextHolderStrategy.isScoped()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try {
+            securityContextHolderStrategy.callInScope(() -> {
+                filterChain.doFilter(request, response);
+                return null;
+            });
+        } catch (IOException | ServletException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ServletException(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.bookman.auth.principal;
+
+import com.bookman.user.entity.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * API 키로 인증된 서비스 주체 (사용자 계정과 연결되지 않음)
+ *
+ * 역할 권한 외에 {@link #SERVICE_AUTHORITY}를 가진다. 배치 토큰 검사처럼 서비스 간 호출 전용 엔드포인트는
+ * 이 권한으로 제한해 사용자 JWT나 익명 요청이 호출하지 못하게 한다.
+ */
+public record ApiKeyPrincipal(
+        Long keyId,
+        String prefix,
+        String name,
+        User.Role role
+) implements UserDetails {
+
+    public static final String SERVICE_AUTHORITY = "SERVICE";
+
+    private static final Map<User.Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(User.Role.class);
+
+    static {
+        for (User.Role role : User.Role.values()) {
+            AUTHORITIES.put(role, List.of(
+                    new SimpleGrantedAuthority("ROLE_" + role.name()),
+                    new SimpleGrantedAuthority(SERVICE_AUTHORITY)));
+        }
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES.get(role);
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return "api-key:" + name;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,106 @@
+package com.bookman.auth.principal;
+
+import com.bookman.auth.util.VerifiedToken;
+import com.bookman.user.entity.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 클레임만으로 구성하는 불변 인증 주체 (DB 조회 없음)
+ *
+ * 무상태 모드(jwt.stateless-principal=true)에서 JwtAuthenticationFilter가 사용한다.
+ */
+public record JwtPrincipal(
+        Long userId,
+        String username,
+        User.Role role,
+        boolean active,
+        int securityVersion
+) implements UserDetails {
+
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_ACTIVE = "active";
+    public static final String CLAIM_SECURITY_VERSION = "sv";
+
+    private static final Map<User.Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(User.Role.class);
+
+    static {
+        for (User.Role role : User.Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    /**
+     * 토큰 클레임으로 주체를 만든다. 필요한 클레임이 없는 (이전 형식) 토큰이면 null
+     */
+    public static JwtPrincipal from(VerifiedToken token) {
+        Number userId = token.claim(CLAIM_USER_ID, Number.class);
+        String role = token.claim(CLAIM_ROLE, String.class);
+        Boolean active = token.claim(CLAIM_ACTIVE, Boolean.class);
+        Number securityVersion = token.claim(CLAIM_SECURITY_VERSION, Number.class);
+        if (token.subject() == null || userId == null || role == null || active == null || securityVersion == null) {
+            return null;
+        }
+        return new JwtPrincipal(
+                userId.longValue(),
+                token.subject(),
+                User.Role.valueOf(role),
+                active,
+                securityVersion.intValue()
+        );
+    }
+
+    /**
+     * 토큰에 담을 클레임 (userId, role, isActive, securityVersion)
+     */
+    public static Map<String, Object> claimsOf(User user) {
+        return Map.of(
+                CLAIM_USER_ID, user.getUserId(),
+                CLAIM_ROLE, user.getRole().name(),
+                CLAIM_ACTIVE, Boolean.TRUE.equals(user.getIsActive()),
+                CLAIM_SECURITY_VERSION, user.getSecurityVersion() == null ? 0 : user.getSecurityVersion()
+        );
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES.get(role);
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return active;
+    }
+}
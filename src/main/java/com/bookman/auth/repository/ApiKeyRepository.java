@@ -0,0 +1,13 @@
+package com.bookman.auth.repository;
+
+import com.bookman.auth.entity.ApiKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ApiKeyRepository extends JpaRepository<ApiKey, Long> {
+
+    Optional<ApiKey> findByPrefix(String prefix);
+}
@@ -0,0 +1,38 @@
+package com.bookman.auth.repository;
+
+import com.bookman.auth.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 아직 사용되지 않은 토큰만 사용 처리 (갱신된 행 수가 0이면 재사용)
+     */
+    @Modifying
+    @Query("update RefreshToken t set t.used = true where t.tokenHash = :tokenHash and t.used = false")
+    int markUsed(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    @Query("select t.id from RefreshToken t where t.expiresAt < :now order by t.id")
+    List<Long> findExpiredIds(@Param("now") Instant now, Pageable pageable);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,32 @@
+package com.bookman.auth.repository;
+
+import com.bookman.auth.entity.RevokedToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * since 이후에 폐기되었고 아직 만료되지 않은 항목 (기동 시에는 since = Instant.EPOCH)
+     */
+    @Query("select t from RevokedToken t where t.revokedAt >= :since and t.expiresAt > :now")
+    List<RevokedToken> findActiveRevokedSince(@Param("since") Instant since, @Param("now") Instant now);
+
+    @Query("select t.jti from RevokedToken t where t.expiresAt <= :now order by t.jti")
+    List<String> findExpiredJtis(@Param("now") Instant now, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("delete from RevokedToken t where t.jti in :jtis")
+    int deleteByJtis(@Param("jtis") Collection<String> jtis);
+}
@@ -0,0 +1,182 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.config.ApiKeyConfig;
+import com.bookman.auth.dto.ApiKeyRequest;
+import com.bookman.auth.dto.ApiKeyResponse;
+import com.bookman.auth.entity.ApiKey;
+import com.bookman.auth.principal.ApiKeyPrincipal;
+import com.bookman.auth.repository.ApiKeyRepository;
+import com.bookman.auth.util.HmacDigester;
+import com.bookman.auth.util.TokenDigests;
+import com.bookman.common.cache.ExpiringCache;
+import com.bookman.common.cache.InvalidationLog;
+import com.bookman.user.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 서비스 간 호출용 API 키 발급/검증
+ *
+ * 키 형식은 "bk_{prefix}.{secret}"이다. prefix로 행 하나를 찾고, 비밀 부분은 서버 비밀 값으로 키를 건
+ * HMAC-SHA256 한 번으로 검증한다. 키 자체가 256비트 난수라 BCrypt 같은 느린 해시로 대입을 늦출 필요가 없으므로
+ * 요청마다 수십 ms를 쓰지 않는다. 검증된 키는 prefix 기준으로 캐시해 이후 요청은 DB 조회 없이
+ * HMAC 비교만 한다. 폐기는 이 인스턴스의 캐시에서 즉시 빠지고, 다른 인스턴스에는 캐시 TTL 안에 반영된다.
+ * 폐기 전에 DB를 읽은 검증이 폐기 뒤에 키를 다시 캐시하지 않도록, 조회 직전에 받은 폐기 순번
+ * ({@link InvalidationLog})보다 뒤에 폐기된 prefix는 캐시에 넣지 않는다.
+ */
+@Service
+@Slf4j
+public class ApiKeyService {
+
+    static final String KEY_TAG = "bk_";
+    static final int PREFIX_LENGTH = 12;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final ApiKeyConfig config;
+    private final HmacDigester digester;
+    private final ExpiringCache<String, CachedKey> cache;
+    // prefix → 마지막 폐기 순번
+    private final InvalidationLog<String> revocations;
+
+    private final Counter cacheVerifications;
+    private final Counter repositoryVerifications;
+    private final Counter rejections;
+
+    public ApiKeyService(ApiKeyRepository apiKeyRepository, ApiKeyConfig config, MeterRegistry meterRegistry) {
+        this.apiKeyRepository = apiKeyRepository;
+        this.config = config;
+        this.digester = new HmacDigester(config.getHmacSecret());
+        this.cache = new ExpiringCache<>(config.getCacheMaxSize());
+        this.revocations = new InvalidationLog<>(config.getRevocationTrackingSize());
+
+        this.cacheVerifications = counter(meterRegistry, "cache", "캐시된 키로 검증한 횟수");
+        this.repositoryVerifications = counter(meterRegistry, "repository", "저장소 조회로 검증한 횟수");
+        this.rejections = counter(meterRegistry, "rejected", "검증에 실패한 키 수");
+    }
+
+    @Transactional
+    public ApiKeyResponse issue(ApiKeyRequest request) {
+        // 9바이트 난수 → base64url 12자 ('.'이 나오지 않으므로 구분자로 쓸 수 있다)
+        String prefix = TokenDigests.randomToken(PREFIX_LENGTH * 3 / 4);
+        String secret = TokenDigests.randomToken(config.getSecretBytes());
+        User.Role role = request.getRole() != null ? request.getRole() : User.Role.USER;
+        Instant expiresAt = request.getExpiresInDays() != null
+                ? Instant.now().plus(Duration.ofDays(request.getExpiresInDays()))
+                : null;
+
+        ApiKey apiKey = apiKeyRepository.save(ApiKey.builder()
+                .prefix(prefix)
+                .secretDigest(ENCODER.encodeToString(digester.digest(secret)))
+                .name(request.getName())
+                .role(role)
+                .expiresAt(expiresAt)
+                .build());
+
+        log.info("🔑 API 키 발급: {} ({}, prefix: {})", apiKey.getName(), role, prefix);
+        return ApiKeyResponse.builder()
+                .id(apiKey.getId())
+                .name(apiKey.getName())
+                .prefix(prefix)
+                .role(role.name())
+                .expiresAt(expiresAt)
+                .key(KEY_TAG + prefix + "." + secret)
+                .build();
+    }
+
+    /**
+     * 폐기 상태를 먼저 저장한 뒤 폐기 순번을 남기고 캐시에서 뺀다
+     * (그 사이 DB를 읽은 검증은 순번을 보고 캐시에 넣지 않는다)
+     */
+    public void revoke(Long id) {
+        ApiKey apiKey = apiKeyRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("API 키를 찾을 수 없습니다: " + id));
+        apiKey.setRevoked(true);
+        apiKeyRepository.save(apiKey);
+        revocations.invalidate(apiKey.getPrefix());
+        cache.invalidate(apiKey.getPrefix());
+        log.info("⛔ API 키 폐기: {} (prefix: {})", apiKey.getName(), apiKey.getPrefix());
+    }
+
+    /**
+     * 유효한 키면 주체를, 형식이 틀렸거나 없거나 폐기/만료되었거나 비밀 부분이 다르면 null
+     */
+    public ApiKeyPrincipal authenticate(String rawKey) {
+        int separator = rawKey.indexOf('.');
+        if (!rawKey.startsWith(KEY_TAG) || separator != KEY_TAG.length() + PREFIX_LENGTH
+                || separator == rawKey.length() - 1) {
+            rejections.increment();
+            return null;
+        }
+        String prefix = rawKey.substring(KEY_TAG.length(), separator);
+        String secret = rawKey.substring(separator + 1);
+        long now = System.currentTimeMillis();
+
+        CachedKey cached = cache.get(prefix);
+        if (cached != null) {
+            // prefix는 유니크하므로 캐시된 다이제스트와 다르면 DB를 다시 볼 필요 없이 실패
+            if (!digester.matches(secret, cached.digest())) {
+                rejections.increment();
+                return null;
+            }
+            cacheVerifications.increment();
+            return cached.principal();
+        }
+
+        long stamp = revocations.stamp();
+        Optional<ApiKey> found = apiKeyRepository.findByPrefix(prefix);
+        if (found.isEmpty() || !found.get().isUsableAt(Instant.ofEpochMilli(now))) {
+            rejections.increment();
+            return null;
+        }
+        ApiKey apiKey = found.get();
+        byte[] digest = DECODER.decode(apiKey.getSecretDigest());
+        if (!digester.matches(secret, digest)) {
+            rejections.increment();
+            return null;
+        }
+
+        ApiKeyPrincipal principal = new ApiKeyPrincipal(apiKey.getId(), prefix, apiKey.getName(), apiKey.getRole());
+        long expiresAt = now + config.getCacheTtl().toMillis();
+        if (apiKey.getExpiresAt() != null) {
+            expiresAt = Math.min(expiresAt, apiKey.getExpiresAt().toEpochMilli());
+        }
+        cacheUnlessRevoked(prefix, new CachedKey(digest, principal), expiresAt, stamp);
+        repositoryVerifications.increment();
+        return principal;
+    }
+
+    /**
+     * stamp 이후에 폐기된 키는 캐시에 넣지 않는다 (이번 요청은 폐기 전에 읽은 상태로 통과)
+     */
+    private void cacheUnlessRevoked(String prefix, CachedKey key, long expiresAt, long stamp) {
+        if (revocations.invalidatedSince(prefix, stamp)) {
+            return;
+        }
+        cache.put(prefix, key, expiresAt);
+        // 확인과 저장 사이에 폐기가 끼어들었으면 방금 넣은 항목을 되돌린다
+        if (revocations.invalidatedSince(prefix, stamp)) {
+            cache.invalidate(prefix);
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String source, String description) {
+        return Counter.builder("auth.api-key.verifications")
+                .tag("source", source)
+                .description(description)
+                .register(registry);
+    }
+
+    private record CachedKey(byte[] digest, ApiKeyPrincipal principal) {
+    }
+}
@@ -1,24 +1,35 @@
 package com.bookman.auth.service;
 
+import com.bookman.activity.entity.ActivityLog;
+import com.bookman.activity.service.ActivityLogService;
+import com.bookman.auth.config.AuthFlowConfig;
 import com.bookman.auth.dto.AuthResponse;
 import com.bookman.auth.dto.LoginRequest;
+import com.bookman.auth.dto.LogoutRequest;
+import com.bookman.auth.dto.RefreshTokenRequest;
 import com.bookman.auth.dto.RegisterRequest;
 import com.bookman.auth.util.JwtUtil;
+import com.bookman.auth.util.VerifiedToken;
+import com.bookman.common.exception.InvalidTokenException;
+import com.bookman.common.service.StructuredTaskRunner;
 import com.bookman.common.service.VirtualThreadMonitoringService;
 import com.bookman.user.entity.User;
 import com.bookman.user.repository.UserRepository;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.concurrent.CompletableFuture;
+import java.time.Instant;
+import java.util.Locale;
 
 @Service
 @RequiredArgsConstructor
@@ -30,69 +41,145 @@ public class AuthService {
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
     private final VirtualThreadMonitoringService monitoringService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final StructuredTaskRunner structuredTaskRunner;
+    private final AuthFlowConfig authFlowConfig;
+    private final ActivityLogService activityLogService;
+    private final LoginAttemptService loginAttemptService;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
         String threadInfo = monitoringService.getCurrentThreadInfo();
         log.info("🆕 회원가입 처리 시작 - {}", threadInfo);
-        
-        // 중복 체크를 비동기로 처리
-        validateUserUniqueness(request.getUsername(), request.getEmail());
+        Instant deadline = Instant.now().plus(authFlowConfig.getRegisterDeadline());
 
-        // 사용자 생성
+        // 비밀번호 해시는 요청 마감 시각 안에서만 수행
+        String encodedPassword = structuredTaskRunner.invoke("register-hash", deadline,
+                () -> passwordEncoder.encode(request.getPassword()));
+
+        // 사용자 생성 (중복 여부는 사전 조회 없이 유니크 제약 조건으로 판단)
         User user = User.builder()
                 .username(request.getUsername())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .fullName(request.getFullName())
                 .role(User.Role.USER)
                 .isActive(true)
                 .build();
         // createdAt은 @PrePersist에서 자동 설정됨
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateUser(e, request);
+        }
         log.info("✅ 새 사용자 등록됨: {} - {}", savedUser.getUsername(), threadInfo);
 
-        // JWT 토큰 생성을 비동기로 처리
-        String token = generateTokenAsync(savedUser);
+        activityLogService.record(savedUser.getUsername(), ActivityLog.ActivityType.REGISTER);
 
-        // 비동기 작업 로깅
-        logUserActivity(savedUser.getUsername(), "REGISTER");
+        // 리프레시 토큰은 회원가입 트랜잭션(같은 커넥션) 안에서 저장해 사용자 저장과 함께 커밋/롤백되게 하고,
+        // 두 번째 커넥션을 잡는 하위 작업이 생기지 않도록 JWT 서명만 fork한다
+        String refreshToken = refreshTokenService.issue(savedUser);
+        String token = structuredTaskRunner.invoke("register-sign", deadline, () -> jwtUtil.generateToken(savedUser));
 
-        return AuthResponse.builder()
-                .token(token)
-                .username(savedUser.getUsername())
-                .email(savedUser.getEmail())
-                .fullName(savedUser.getFullName())
-                .role(savedUser.getRole().name())
-                .build();
+        return toResponse(savedUser, token, refreshToken);
     }
 
-    public AuthResponse login(LoginRequest request) {
+    public AuthResponse login(LoginRequest request, String clientIp) {
         String threadInfo = monitoringService.getCurrentThreadInfo();
         log.info("🔑 로그인 처리 시작 - {} - {}", request.getUsername(), threadInfo);
-        
-        // 인증
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getUsername(),
-                        request.getPassword()
-                )
-        );
-
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        User user = userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
-
-        // JWT 토큰 생성을 비동기로 처리
-        String token = generateTokenAsync(user);
+        Instant deadline = Instant.now().plus(authFlowConfig.getLoginDeadline());
+
+        // 실패 누적으로 잠긴 사용자명/IP는 비밀번호 검증 전에 거절
+        loginAttemptService.checkAllowed(request.getUsername(), clientIp);
+
+        // 인증 (사용자 조회 + 해시 워커 풀의 BCrypt 대기)도 마감 시각 안에서만 수행
+        // 마감 시각을 넘기면 하위 작업이 인터럽트되어 해시 대기(Future)도 함께 취소된다
+        // 로그인은 트랜잭션 밖에서 실행되므로 사용자 조회/재해시 저장을 하위 작업에서 해도 커넥션을 두 개 잡지 않는다
+        // DaoAuthenticationProvider가 UserDetailsService로 읽은 User를 그대로 principal로 돌려주므로 다시 조회하지 않는다
+        User user;
+        try {
+            Authentication authentication = structuredTaskRunner.invoke("login-authenticate", deadline,
+                    () -> authenticationManager.authenticate(
+                            new UsernamePasswordAuthenticationToken(
+                                    request.getUsername(),
+                                    request.getPassword()
+                            )
+                    ));
+            user = authenticatedUser(authentication);
+        } catch (BadCredentialsException e) {
+            loginAttemptService.recordFailure(request.getUsername(), clientIp);
+            throw e;
+        }
+        loginAttemptService.recordSuccess(request.getUsername());
         log.info("✅ 사용자 로그인: {} - {}", user.getUsername(), threadInfo);
 
-        // 비동기 작업 로깅
-        logUserActivity(user.getUsername(), "LOGIN");
+        activityLogService.record(user.getUsername(), ActivityLog.ActivityType.LOGIN);
+
+        return issueTokens("login-tokens", deadline, user);
+    }
+
+    /**
+     * 리프레시 토큰으로 새 액세스 토큰 발급 (비밀번호 검증 없이 토큰 회전만 수행)
+     */
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        Instant deadline = Instant.now().plus(authFlowConfig.getRefreshDeadline());
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        User user = rotation.user();
+        String token = structuredTaskRunner.invoke("refresh-sign", deadline, () -> jwtUtil.generateToken(user));
+        log.info("🔄 토큰 갱신: {}", user.getUsername());
+        activityLogService.record(user.getUsername(), ActivityLog.ActivityType.REFRESH);
+
+        return toResponse(user, token, rotation.refreshToken());
+    }
+
+    /**
+     * 현재 액세스 토큰(과 선택적으로 리프레시 토큰)을 폐기
+     */
+    public void logout(String accessToken, LogoutRequest request) {
+        VerifiedToken token = revokeVerified(accessToken);
+        if (request != null && request.getRefreshToken() != null) {
+            refreshTokenService.revoke(request.getRefreshToken());
+        }
+        activityLogService.record(token.subject(), ActivityLog.ActivityType.LOGOUT);
+    }
 
+    /**
+     * 액세스 토큰을 만료 시각까지 폐기 (관리자 강제 폐기 / 로그아웃 공통)
+     */
+    public void revoke(String accessToken) {
+        revokeVerified(accessToken);
+    }
+
+    private VerifiedToken revokeVerified(String accessToken) {
+        VerifiedToken token;
+        try {
+            token = jwtUtil.verify(accessToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException("유효하지 않은 토큰입니다.");
+        }
+        if (!tokenRevocationService.revoke(token)) {
+            throw new InvalidTokenException("폐기할 수 없는 형식의 토큰입니다. 만료 후 다시 로그인해주세요.");
+        }
+        return token;
+    }
+
+    /**
+     * 액세스 토큰 서명은 fork하고 리프레시 토큰 저장은 요청 스레드에서 동시에 수행 (트랜잭션 밖 로그인 전용)
+     */
+    private AuthResponse issueTokens(String flow, Instant deadline, User user) {
+        return structuredTaskRunner.invokeAlongside(flow, deadline,
+                () -> jwtUtil.generateToken(user),
+                () -> refreshTokenService.issue(user),
+                (token, refreshToken) -> toResponse(user, token, refreshToken));
+    }
+
+    private static AuthResponse toResponse(User user, String token, String refreshToken) {
         return AuthResponse.builder()
                 .token(token)
+                .refreshToken(refreshToken)
                 .username(user.getUsername())
                 .email(user.getEmail())
                 .fullName(user.getFullName())
@@ -101,62 +188,37 @@ public class AuthService {
     }
 
     /**
-     * 사용자 유니크성 검증 (Virtual Thread 활용)
+     * 인증 결과의 principal(UserDetailsServiceImpl이 로드한 User)을 꺼낸다
      */
-    private void validateUserUniqueness(String username, String email) {
-        CompletableFuture<Boolean> usernameCheck = CompletableFuture.supplyAsync(() -> {
-            boolean exists = userRepository.existsByUsername(username);
-            log.debug("🔍 사용자명 중복 검사: {} - 결과: {}", username, exists);
-            return exists;
-        });
-
-        CompletableFuture<Boolean> emailCheck = CompletableFuture.supplyAsync(() -> {
-            boolean exists = userRepository.existsByEmail(email);
-            log.debug("📧 이메일 중복 검사: {} - 결과: {}", email, exists);
-            return exists;
-        });
-
-        // 두 검사가 모두 완료될 때까지 대기
-        CompletableFuture.allOf(usernameCheck, emailCheck).join();
-
-        if (usernameCheck.join()) {
-            throw new RuntimeException("이미 존재하는 사용자명입니다: " + username);
-        }
-        if (emailCheck.join()) {
-            throw new RuntimeException("이미 존재하는 이메일입니다: " + email);
+    private static User authenticatedUser(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof User user) {
+            return user;
         }
+        throw new IllegalStateException("지원하지 않는 인증 주체 타입입니다: "
+                + authentication.getPrincipal().getClass().getName());
     }
 
     /**
-     * JWT 토큰 생성 (Virtual Thread 활용)
+     * 유니크 제약 조건 위반을 기존 중복 사용자 오류 메시지로 변환
      */
-    private String generateTokenAsync(User user) {
-        return CompletableFuture.supplyAsync(() -> {
-            String token = jwtUtil.generateToken(user);
-            log.debug("🎫 JWT 토큰 생성 완료: {} characters", token.length());
-            return token;
-        }).join();
+    private RuntimeException translateDuplicateUser(DataIntegrityViolationException e, RegisterRequest request) {
+        String violation = violatedConstraint(e).toLowerCase(Locale.ROOT);
+        if (violation.contains(User.USERNAME_CONSTRAINT)) {
+            log.debug("🔍 사용자명 중복: {}", request.getUsername());
+            return new RuntimeException("이미 존재하는 사용자명입니다: " + request.getUsername());
+        }
+        if (violation.contains(User.EMAIL_CONSTRAINT)) {
+            log.debug("📧 이메일 중복: {}", request.getEmail());
+            return new RuntimeException("이미 존재하는 이메일입니다: " + request.getEmail());
+        }
+        return e;
     }
 
-    /**
-     * 사용자 활동 로깅 (비동기 처리)
-     */
-    @Async("virtualThreadTaskExecutor")
-    public void logUserActivity(String username, String action) {
-        String threadInfo = monitoringService.getCurrentThreadInfo();
-        
-        // 시뮬레이션: 복잡한 로깅 작업
-        try {
-            Thread.sleep(100); // 외부 로깅 시스템 호출 시뮬레이션
-            
-            log.info("📝 사용자 활동 로그 - 사용자: {}, 액션: {}, 스레드: {}", 
-                    username, action, threadInfo);
-            
-            monitoringService.incrementAsyncTaskCount();
-            
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("⚠️ 로깅 작업 중단: {}", username);
+    private static String violatedConstraint(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+            return violation.getConstraintName();
         }
+        // 제약 조건 이름을 추출하지 못한 드라이버는 원본 메시지로 판단
+        return String.valueOf(e.getMostSpecificCause().getMessage());
     }
 }
@@ -0,0 +1,99 @@
+package com.bookman.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 단일 인스턴스용 기본 리프레시 토큰 저장소 (재시작 시 모든 리프레시 토큰 무효화)
+ */
+@Component
+@ConditionalOnProperty(prefix = "auth.refresh-token", name = "store", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, RefreshTokenRecord> tokens = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> families = new ConcurrentHashMap<>();
+
+    public InMemoryRefreshTokenStore() {
+        log.info("🗂️ 리프레시 토큰 저장소: memory");
+    }
+
+    @Override
+    public void save(RefreshTokenRecord token) {
+        tokens.put(token.tokenHash(), token);
+        families.computeIfAbsent(token.familyId(), id -> ConcurrentHashMap.newKeySet()).add(token.tokenHash());
+    }
+
+    @Override
+    public Optional<RefreshTokenRecord> findByHash(String tokenHash) {
+        return Optional.ofNullable(tokens.get(tokenHash));
+    }
+
+    @Override
+    public boolean markUsed(String tokenHash) {
+        AtomicBoolean marked = new AtomicBoolean();
+        tokens.computeIfPresent(tokenHash, (hash, token) -> {
+            if (token.used()) {
+                return token;
+            }
+            marked.set(true);
+            return token.markedUsed();
+        });
+        return marked.get();
+    }
+
+    @Override
+    public int revokeFamily(String familyId) {
+        Set<String> members = families.get(familyId);
+        if (members == null) {
+            return 0;
+        }
+        AtomicInteger revoked = new AtomicInteger();
+        for (String tokenHash : members) {
+            tokens.computeIfPresent(tokenHash, (hash, token) -> {
+                if (token.revoked()) {
+                    return token;
+                }
+                revoked.incrementAndGet();
+                return token.markedRevoked();
+            });
+        }
+        return revoked.get();
+    }
+
+    @Override
+    public int purgeExpired(Instant now, int batchSize) {
+        int removed = 0;
+        Iterator<RefreshTokenRecord> iterator = tokens.values().iterator();
+        while (iterator.hasNext() && removed < batchSize) {
+            RefreshTokenRecord token = iterator.next();
+            if (token.isExpired(now)) {
+                iterator.remove();
+                removeFromFamily(token);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        return tokens.size();
+    }
+
+    private void removeFromFamily(RefreshTokenRecord token) {
+        families.computeIfPresent(token.familyId(), (id, members) -> {
+            members.remove(token.tokenHash());
+            return members.isEmpty() ? null : members;
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.entity.RefreshToken;
+import com.bookman.auth.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 다중 인스턴스 배포용 DB 기반 리프레시 토큰 저장소
+ */
+@Component
+@ConditionalOnProperty(prefix = "auth.refresh-token", name = "store", havingValue = "jpa")
+@Slf4j
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    public JpaRefreshTokenStore(RefreshTokenRepository refreshTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        log.info("🗂️ 리프레시 토큰 저장소: jpa");
+    }
+
+    @Override
+    @Transactional
+    public void save(RefreshTokenRecord token) {
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(token.tokenHash())
+                .familyId(token.familyId())
+                .userId(token.userId())
+                .expiresAt(token.expiresAt())
+                .used(token.used())
+                .revoked(token.revoked())
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RefreshTokenRecord> findByHash(String tokenHash) {
+        return refreshTokenRepository.findByTokenHash(tokenHash)
+                .map(token -> new RefreshTokenRecord(
+                        token.getTokenHash(),
+                        token.getFamilyId(),
+                        token.getUserId(),
+                        token.getExpiresAt(),
+                        token.isUsed(),
+                        token.isRevoked()));
+    }
+
+    @Override
+    @Transactional
+    public boolean markUsed(String tokenHash) {
+        return refreshTokenRepository.markUsed(tokenHash) == 1;
+    }
+
+    /**
+     * 재사용 감지 후 호출자 트랜잭션이 롤백되더라도 폐기는 반드시 반영
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int revokeFamily(String familyId) {
+        return refreshTokenRepository.revokeFamily(familyId);
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired(Instant now, int batchSize) {
+        List<Long> expiredIds = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, batchSize));
+        if (expiredIds.isEmpty()) {
+            return 0;
+        }
+        return refreshTokenRepository.deleteByIds(expiredIds);
+    }
+}
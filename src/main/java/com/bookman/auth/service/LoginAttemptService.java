@@ -0,0 +1,131 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.config.LoginAttemptConfig;
+import com.bookman.common.exception.TooManyLoginAttemptsException;
+import com.bookman.common.ratelimit.LockoutTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 실패를 사용자명/IP별로 세고, 임계값을 넘은 키의 로그인을 비밀번호 검증 전에 차단
+ *
+ * 잠긴 키의 요청은 BCrypt 비교 없이 429로 끝나므로 무차별 대입이 해시 풀을 점유하지 못한다.
+ * 사용자명 키는 대소문자를 구분하지 않으며, 로그인에 성공하면 해당 사용자명의 기록만 지운다.
+ * (IP 기록은 지우지 않아 계정 하나로 성공을 섞어 가며 다른 계정을 시도하는 경우도 막는다)
+ */
+@Service
+@Slf4j
+public class LoginAttemptService {
+
+    private final LoginAttemptConfig config;
+    private final LockoutTracker usernames;
+    private final LockoutTracker ips;
+
+    private final Counter usernameFailures;
+    private final Counter ipFailures;
+    private final Counter usernameLockouts;
+    private final Counter ipLockouts;
+    private final Counter usernameBlocked;
+    private final Counter ipBlocked;
+
+    public LoginAttemptService(LoginAttemptConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.usernames = new LockoutTracker(LockoutTracker.Policy.of(config.getUsernameThreshold(),
+                config.getWindow(), config.getBaseLockout(), config.getMaxLockout()), config.getMaxKeys());
+        this.ips = new LockoutTracker(LockoutTracker.Policy.of(config.getIpThreshold(),
+                config.getWindow(), config.getBaseLockout(), config.getMaxLockout()), config.getMaxKeys());
+
+        this.usernameFailures = counter(meterRegistry, "auth.login.failures", "username", "로그인 실패 횟수");
+        this.ipFailures = counter(meterRegistry, "auth.login.failures", "ip", "로그인 실패 횟수");
+        this.usernameLockouts = counter(meterRegistry, "auth.login.lockouts", "username", "실패 누적으로 걸린 잠금 수");
+        this.ipLockouts = counter(meterRegistry, "auth.login.lockouts", "ip", "실패 누적으로 걸린 잠금 수");
+        this.usernameBlocked = counter(meterRegistry, "auth.login.blocked", "username", "잠금으로 비밀번호 검증 전에 거절된 로그인 수");
+        this.ipBlocked = counter(meterRegistry, "auth.login.blocked", "ip", "잠금으로 비밀번호 검증 전에 거절된 로그인 수");
+        bindTrackerMetrics(meterRegistry, usernames, "username");
+        bindTrackerMetrics(meterRegistry, ips, "ip");
+    }
+
+    /**
+     * 사용자명 또는 IP가 잠겨 있으면 {@link TooManyLoginAttemptsException}
+     */
+    public void checkAllowed(String username, String clientIp) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        long usernameWait = usernames.lockedForNanos(usernameKey(username));
+        long ipWait = clientIp != null ? ips.lockedForNanos(clientIp) : 0;
+        if (usernameWait == 0 && ipWait == 0) {
+            return;
+        }
+        (usernameWait >= ipWait ? usernameBlocked : ipBlocked).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(Math.max(usernameWait, ipWait)));
+        throw new TooManyLoginAttemptsException(
+                "로그인 실패가 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.",
+                Duration.ofSeconds(retryAfterSeconds));
+    }
+
+    public void recordFailure(String username, String clientIp) {
+        if (!config.isEnabled()) {
+            return;
+        }
+        usernameFailures.increment();
+        long usernameLockout = usernames.recordFailure(usernameKey(username));
+        if (usernameLockout > 0) {
+            usernameLockouts.increment();
+            log.warn("🔒 로그인 실패 누적으로 사용자명 잠금: {} ({}초)", username, TimeUnit.NANOSECONDS.toSeconds(usernameLockout));
+        }
+        if (clientIp != null) {
+            ipFailures.increment();
+            long ipLockout = ips.recordFailure(clientIp);
+            if (ipLockout > 0) {
+                ipLockouts.increment();
+                log.warn("🔒 로그인 실패 누적으로 IP 잠금: {} ({}초)", clientIp, TimeUnit.NANOSECONDS.toSeconds(ipLockout));
+            }
+        }
+    }
+
+    public void recordSuccess(String username) {
+        if (config.isEnabled()) {
+            usernames.reset(usernameKey(username));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.login-attempt.sweep-interval:PT1M}")
+    public void evictIdle() {
+        int removed = usernames.evictIdle() + ips.evictIdle();
+        if (removed > 0) {
+            log.debug("🧹 로그인 실패 기록 정리: {}개 키 제거", removed);
+        }
+    }
+
+    private static String usernameKey(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String key, String description) {
+        return Counter.builder(name)
+                .tag("key", key)
+                .description(description)
+                .register(registry);
+    }
+
+    private static void bindTrackerMetrics(MeterRegistry registry, LockoutTracker tracker, String key) {
+        Gauge.builder("auth.login.tracked.keys", tracker, LockoutTracker::trackedKeys)
+                .tag("key", key)
+                .description("실패 기록을 보관 중인 키 수")
+                .register(registry);
+        FunctionCounter.builder("auth.login.overflow.evictions", tracker, LockoutTracker::overflowEvictionCount)
+                .tag("key", key)
+                .description("최대 키 수 초과로 밀려난 실패 기록 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,32 @@
+package com.bookman.auth.service;
+
+import java.time.Instant;
+
+/**
+ * 저장소에 보관되는 리프레시 토큰 상태 (원본 토큰 대신 SHA-256 다이제스트 보관)
+ */
+public record RefreshTokenRecord(
+        String tokenHash,
+        String familyId,
+        Long userId,
+        Instant expiresAt,
+        boolean used,
+        boolean revoked
+) {
+
+    public static RefreshTokenRecord issued(String tokenHash, String familyId, Long userId, Instant expiresAt) {
+        return new RefreshTokenRecord(tokenHash, familyId, userId, expiresAt, false, false);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    RefreshTokenRecord markedUsed() {
+        return new RefreshTokenRecord(tokenHash, familyId, userId, expiresAt, true, revoked);
+    }
+
+    RefreshTokenRecord markedRevoked() {
+        return new RefreshTokenRecord(tokenHash, familyId, userId, expiresAt, used, true);
+    }
+}
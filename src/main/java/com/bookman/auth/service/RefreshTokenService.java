@@ -0,0 +1,104 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.config.RefreshTokenConfig;
+import com.bookman.auth.util.TokenDigests;
+import com.bookman.common.exception.InvalidTokenException;
+import com.bookman.user.entity.User;
+import com.bookman.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+/**
+ * 회전형(rotating) 리프레시 토큰 발급/교환
+ *
+ * 교환 시 비밀번호 검증(BCrypt)을 하지 않으므로 액세스 토큰 만료 때마다 로그인을 다시 할 필요가 없다.
+ * 한 번 사용된 토큰이 다시 제시되면 탈취로 간주하고 같은 family 전체를 폐기한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final RefreshTokenConfig refreshTokenConfig;
+    private final UserRepository userRepository;
+
+    /**
+     * 로그인/회원가입 시 새 family의 리프레시 토큰 발급
+     */
+    public String issue(User user) {
+        return issue(user.getUserId(), TokenDigests.randomToken(16));
+    }
+
+    /**
+     * 리프레시 토큰을 사용 처리하고 같은 family의 새 토큰으로 교체
+     */
+    public Rotation rotate(String rawToken) {
+        String tokenHash = TokenDigests.sha256(rawToken);
+        RefreshTokenRecord current = refreshTokenStore.findByHash(tokenHash)
+                .orElseThrow(() -> new InvalidTokenException("유효하지 않은 리프레시 토큰입니다."));
+
+        if (current.revoked() || current.isExpired(Instant.now())) {
+            throw new InvalidTokenException("만료되었거나 폐기된 리프레시 토큰입니다.");
+        }
+        if (!refreshTokenStore.markUsed(tokenHash)) {
+            int revoked = refreshTokenStore.revokeFamily(current.familyId());
+            log.warn("🚨 리프레시 토큰 재사용 감지 - userId: {}, 폐기된 토큰: {}", current.userId(), revoked);
+            throw new InvalidTokenException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+
+        User user = userRepository.findById(current.userId())
+                .filter(User::isEnabled)
+                .orElseThrow(() -> {
+                    refreshTokenStore.revokeFamily(current.familyId());
+                    return new InvalidTokenException("사용할 수 없는 계정입니다. 다시 로그인해주세요.");
+                });
+
+        String refreshToken = issue(user.getUserId(), current.familyId());
+        log.debug("🔄 리프레시 토큰 교체 완료 - userId: {}", user.getUserId());
+        return new Rotation(user, refreshToken);
+    }
+
+    /**
+     * 로그아웃 시 리프레시 토큰이 속한 family 전체 폐기 (알 수 없는 토큰은 무시)
+     */
+    public void revoke(String rawToken) {
+        refreshTokenStore.findByHash(TokenDigests.sha256(rawToken))
+                .ifPresent(token -> refreshTokenStore.revokeFamily(token.familyId()));
+    }
+
+    /**
+     * 만료된 리프레시 토큰을 배치 단위로 정리 (긴 잠금/대량 트랜잭션 방지)
+     */
+    @Scheduled(fixedDelayString = "${auth.refresh-token.purge-interval:PT10M}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int batchSize = refreshTokenConfig.getPurgeBatchSize();
+        int total = 0;
+        int removed;
+        do {
+            removed = refreshTokenStore.purgeExpired(now, batchSize);
+            total += removed;
+        } while (removed == batchSize);
+
+        if (total > 0) {
+            log.info("🧹 만료된 리프레시 토큰 정리: {}개", total);
+        }
+    }
+
+    private String issue(Long userId, String familyId) {
+        String rawToken = TokenDigests.randomToken(TOKEN_BYTES);
+        Instant expiresAt = Instant.now().plus(refreshTokenConfig.getTtl());
+        refreshTokenStore.save(RefreshTokenRecord.issued(TokenDigests.sha256(rawToken), familyId, userId, expiresAt));
+        return rawToken;
+    }
+
+    public record Rotation(User user, String refreshToken) {
+    }
+}
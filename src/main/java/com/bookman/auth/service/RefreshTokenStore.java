@@ -0,0 +1,29 @@
+package com.bookman.auth.service;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 저장소 (auth.refresh-token.store=memory|jpa)
+ */
+public interface RefreshTokenStore {
+
+    void save(RefreshTokenRecord token);
+
+    Optional<RefreshTokenRecord> findByHash(String tokenHash);
+
+    /**
+     * 미사용 토큰을 원자적으로 사용 처리한다. 이미 사용된 토큰이면 false (재사용 감지)
+     */
+    boolean markUsed(String tokenHash);
+
+    /**
+     * 같은 family의 모든 토큰을 폐기하고 폐기된 개수를 반환
+     */
+    int revokeFamily(String familyId);
+
+    /**
+     * 만료된 토큰을 최대 batchSize개 삭제하고 삭제된 개수를 반환
+     */
+    int purgeExpired(Instant now, int batchSize);
+}
@@ -0,0 +1,100 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.config.SecurityVersionConfig;
+import com.bookman.auth.principal.JwtPrincipal;
+import com.bookman.common.cache.ExpiringCache;
+import com.bookman.common.cache.InvalidationLog;
+import com.bookman.user.event.UserChangedEvent;
+import com.bookman.user.event.UsersBulkChangedEvent;
+import com.bookman.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 무상태 토큰의 폐기 여부를 판단하는 사용자 보안 버전 레지스트리
+ *
+ * 기준값은 users.security_version 열이고, 토큰의 securityVersion 클레임이 그보다 작으면 거부한다.
+ * 사용자별 현재 버전은 cacheTtl 동안 메모리에 두므로 요청마다 DB를 조회하지 않으며, 캐시에 없으면
+ * (재시작 직후, 다른 노드에서 처음 보는 사용자) DB에서 다시 읽는다. 이 노드에서 커밋된 변경은 즉시
+ * 반영되고, 다른 노드의 변경은 늦어도 cacheTtl 안에 반영된다.
+ * 변경 커밋보다 먼저 시작된 DB 조회가 나중에 끝나도 이전 버전으로 덮어쓰지 않도록, 조회 직전에 받은
+ * 무효화 순번({@link InvalidationLog}) 이후에 바뀐 사용자는 조회 결과를 캐시에 넣지 않는다.
+ */
+@Service
+@Slf4j
+public class SecurityVersionRegistry {
+
+    // 비활성화/삭제되어 어떤 토큰도 허용하지 않는 사용자
+    private static final int REVOKED = Integer.MAX_VALUE;
+
+    private final UserRepository userRepository;
+    private final SecurityVersionConfig config;
+    private final ExpiringCache<Long, Integer> currentVersions;
+    private final InvalidationLog<Long> changes;
+
+    public SecurityVersionRegistry(UserRepository userRepository, SecurityVersionConfig config) {
+        this.userRepository = userRepository;
+        this.config = config;
+        this.currentVersions = new ExpiringCache<>(config.getCacheMaxSize());
+        this.changes = new InvalidationLog<>(config.getChangeTrackingSize());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.type() == UserChangedEvent.ChangeType.CREATED || event.userId() == null) {
+            return;
+        }
+        int currentVersion = event.isUsable() ? event.securityVersion() : REVOKED;
+        // 진행 중인 DB 조회가 이 값을 덮어쓰지 못하도록 변경 순번을 먼저 남기고 저장
+        changes.invalidate(event.userId());
+        remember(event.userId(), currentVersion);
+        log.debug("🔒 사용자 보안 버전 갱신: userId={}, 현재 버전={}", event.userId(), currentVersion);
+    }
+
+    /**
+     * 어떤 사용자가 바뀌었는지 모르는 일괄 변경이면 전부 DB에서 다시 읽는다
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUsersBulkChanged(UsersBulkChangedEvent event) {
+        changes.invalidateAll();
+        currentVersions.invalidateAll();
+    }
+
+    /**
+     * 토큰에 담긴 보안 버전이 현재 유효한지 확인 (캐시에 없으면 DB 조회)
+     */
+    public boolean isCurrent(JwtPrincipal principal) {
+        Integer currentVersion = currentVersions.get(principal.userId());
+        if (currentVersion == null) {
+            long stamp = changes.stamp();
+            currentVersion = userRepository.findActiveSecurityVersion(principal.userId()).orElse(REVOKED);
+            rememberLoaded(principal.userId(), currentVersion, stamp);
+        }
+        return currentVersion != REVOKED && principal.securityVersion() >= currentVersion;
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void purgeExpired() {
+        currentVersions.purgeExpired();
+    }
+
+    /**
+     * DB에서 읽은 버전 저장 (조회 중에 커밋된 변경이 있으면 저장하지 않고, 저장 직후 끼어들었으면 되돌린다)
+     */
+    private void rememberLoaded(Long userId, int currentVersion, long stamp) {
+        if (changes.invalidatedSince(userId, stamp)) {
+            return;
+        }
+        remember(userId, currentVersion);
+        if (changes.invalidatedSince(userId, stamp)) {
+            currentVersions.invalidate(userId);
+        }
+    }
+
+    private void remember(Long userId, int currentVersion) {
+        currentVersions.put(userId, currentVersion, System.currentTimeMillis() + config.getCacheTtl().toMillis());
+    }
+}
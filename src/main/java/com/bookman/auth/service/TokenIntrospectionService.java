@@ -0,0 +1,138 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.config.TokenIntrospectionConfig;
+import com.bookman.auth.dto.TokenIntrospectionResponse;
+import com.bookman.auth.dto.TokenIntrospectionResponse.Result;
+import com.bookman.auth.dto.TokenIntrospectionResponse.Status;
+import com.bookman.auth.principal.JwtPrincipal;
+import com.bookman.auth.util.JwtUtil;
+import com.bookman.auth.util.VerifiedToken;
+import com.bookman.common.service.StructuredTaskRunner;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 하위 서비스/게이트웨이용 배치 토큰 검사
+ *
+ * 토큰마다 /api/auth/validate를 호출하는 대신 한 요청으로 여러 토큰을 검사한다.
+ * HMAC 검증은 토큰당 수 마이크로초라 토큰마다 하위 작업을 만들면 오히려 느리므로, 코어 수만큼
+ * 묶음으로 나눠 Virtual Thread에서 병렬로 검증한다. 만료/폐기/보안 버전 판단은 인증 필터와 같다.
+ * 보안 버전 확인은 캐시에 없으면 DB를 조회하므로 병렬 검증이 끝난 뒤 요청 스레드에서 수행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenIntrospectionService {
+
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
+    private final SecurityVersionRegistry securityVersionRegistry;
+    private final StructuredTaskRunner structuredTaskRunner;
+    private final TokenIntrospectionConfig config;
+
+    public TokenIntrospectionResponse introspect(List<String> tokens) {
+        if (tokens.size() > config.getMaxBatchSize()) {
+            throw new IllegalArgumentException("한 번에 검사할 수 있는 토큰은 최대 " + config.getMaxBatchSize() + "개입니다.");
+        }
+        if (tokens.isEmpty()) {
+            return new TokenIntrospectionResponse(List.of(), 0);
+        }
+        Instant now = Instant.now();
+
+        int chunkCount = Math.min(tokens.size(), Runtime.getRuntime().availableProcessors());
+        int chunkSize = (tokens.size() + chunkCount - 1) / chunkCount;
+        List<Callable<List<Inspection>>> chunks = new ArrayList<>(chunkCount);
+        for (int from = 0; from < tokens.size(); from += chunkSize) {
+            List<String> chunk = tokens.subList(from, Math.min(tokens.size(), from + chunkSize));
+            chunks.add(() -> chunk.stream().map(token -> inspect(token, now)).toList());
+        }
+
+        List<Result> results = structuredTaskRunner.invokeAll("introspect", now.plus(config.getDeadline()), chunks)
+                .stream()
+                .flatMap(List::stream)
+                .map(this::checkSecurityVersion)
+                .toList();
+        long cacheTtlSeconds = results.stream().mapToLong(Result::getCacheTtlSeconds).min().orElse(0);
+        log.debug("🔍 토큰 배치 검사 완료 - {}개, 캐시 가능: {}초", results.size(), cacheTtlSeconds);
+        return new TokenIntrospectionResponse(results, cacheTtlSeconds);
+    }
+
+    /**
+     * 서명/만료/jti 폐기까지 판단 (CPU 작업만, 하위 작업에서 실행)
+     */
+    private Inspection inspect(String rawToken, Instant now) {
+        VerifiedToken token;
+        try {
+            token = jwtUtil.verify(rawToken);
+        } catch (ExpiredJwtException e) {
+            return Inspection.of(Result.builder()
+                    .status(Status.EXPIRED)
+                    .subject(e.getClaims().getSubject())
+                    .cacheTtlSeconds(maxCacheTtlSeconds())
+                    .build());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Inspection.of(Result.builder()
+                    .status(Status.INVALID)
+                    .cacheTtlSeconds(maxCacheTtlSeconds())
+                    .build());
+        }
+
+        JwtPrincipal principal = JwtPrincipal.from(token);
+        Result.ResultBuilder result = Result.builder()
+                .subject(token.subject())
+                .role(principal != null ? principal.role().name() : null)
+                .expiresAt(token.expiration());
+        if (token.isExpired(now)) {
+            return Inspection.of(result.status(Status.EXPIRED).cacheTtlSeconds(maxCacheTtlSeconds()).build());
+        }
+        if (tokenRevocationService.isRevoked(token) || (principal != null && !principal.active())) {
+            return Inspection.of(revoked(result));
+        }
+
+        if (token.expiration() == null) {
+            return new Inspection(result.status(Status.ACTIVE).cacheTtlSeconds(maxCacheTtlSeconds()).build(), principal, result);
+        }
+        long ttlSeconds = Math.max(0, Duration.between(now, token.expiration()).toSeconds());
+        return new Inspection(result.status(Status.ACTIVE)
+                .ttlSeconds(ttlSeconds)
+                .cacheTtlSeconds(Math.min(ttlSeconds, maxCacheTtlSeconds()))
+                .build(), principal, result);
+    }
+
+    /**
+     * ACTIVE 판정을 받은 토큰의 보안 버전을 확인 (요청 스레드에서 실행)
+     */
+    private Result checkSecurityVersion(Inspection inspection) {
+        if (inspection.principal() == null || securityVersionRegistry.isCurrent(inspection.principal())) {
+            return inspection.result();
+        }
+        return revoked(inspection.revocable());
+    }
+
+    private Result revoked(Result.ResultBuilder result) {
+        return result.status(Status.REVOKED).ttlSeconds(null).cacheTtlSeconds(maxCacheTtlSeconds()).build();
+    }
+
+    private long maxCacheTtlSeconds() {
+        return config.getMaxCacheTtl().toSeconds();
+    }
+
+    /**
+     * 하위 작업의 검사 결과 (보안 버전 확인이 남았으면 principal과 REVOKED로 바꿀 빌더를 함께 보관)
+     */
+    private record Inspection(Result result, JwtPrincipal principal, Result.ResultBuilder revocable) {
+
+        static Inspection of(Result result) {
+            return new Inspection(result, null, null);
+        }
+    }
+}
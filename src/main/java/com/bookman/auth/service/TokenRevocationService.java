@@ -0,0 +1,186 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.config.TokenRevocationConfig;
+import com.bookman.auth.entity.RevokedToken;
+import com.bookman.auth.repository.RevokedTokenRepository;
+import com.bookman.auth.util.VerifiedToken;
+import com.bookman.common.cache.BloomFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그아웃/강제 폐기된 액세스 토큰(jti) 거부 목록
+ *
+ * 요청마다 조회하는 경로는 Bloom 필터 한 번으로 끝나고, 필터가 "있을 수 있음"이라고 답한
+ * 경우에만 정확한 저장소(jti → 만료 시각)를 확인한다. 토큰 자체의 exp가 지나면 항목이
+ * 제거되며, 삭제를 지원하지 않는 Bloom 필터는 정리 시점에 남은 항목으로 다시 구성한다.
+ *
+ * 폐기 항목은 토큰의 exp까지 revoked_tokens 테이블에도 기록한다. 기동 시 만료 전 항목을 모두 읽고,
+ * 이후 syncInterval마다 다른 인스턴스가 기록한 새 항목만 가져오므로 재시작이나 다른 노드에서도
+ * 폐기 상태가 유지되며, 요청 경로의 조회는 계속 메모리에서 끝난다.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService implements MeterBinder {
+
+    private final TokenRevocationConfig config;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Map<String, Long> revokedUntil = new ConcurrentHashMap<>();
+    private final Object rebuildLock = new Object();
+    private final LongAdder filterPositives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile BloomFilter filter;
+    private long filterCapacity;
+    // 마지막으로 DB에서 가져온 시각 (다음 동기화는 syncOverlap만큼 앞에서부터 읽는다)
+    private volatile Instant lastSyncedAt = Instant.EPOCH;
+
+    public TokenRevocationService(TokenRevocationConfig config, RevokedTokenRepository revokedTokenRepository) {
+        this.config = config;
+        this.revokedTokenRepository = revokedTokenRepository;
+        rebuildFilter();
+    }
+
+    /**
+     * 토큰을 만료 시각까지 폐기 (jti가 없는 이전 형식 토큰은 폐기할 수 없음)
+     */
+    public boolean revoke(VerifiedToken token) {
+        String jti = token.claims().getId();
+        if (jti == null || token.expiration() == null) {
+            return false;
+        }
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .expiresAt(token.expiration())
+                .revokedAt(Instant.now())
+                .build());
+        remember(jti, token.expiration().toEpochMilli());
+        log.info("🚫 토큰 폐기: subject={}, jti={}", token.subject(), jti);
+        return true;
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        String jti = token.claims().getId();
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        filterPositives.increment();
+        if (revokedUntil.containsKey(jti)) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * 기동 시 만료되지 않은 폐기 항목을 모두 읽어 온다
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevocations() {
+        int loaded = sync();
+        log.info("🚫 폐기 목록 로드 완료 - {}개", loaded);
+    }
+
+    /**
+     * 다른 인스턴스가 기록한 새 폐기 항목을 가져와 반영하고 가져온 개수를 반환
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval:PT5S}")
+    public int sync() {
+        Instant now = Instant.now();
+        Instant since = lastSyncedAt.equals(Instant.EPOCH) ? Instant.EPOCH : lastSyncedAt.minus(config.getSyncOverlap());
+        List<RevokedToken> revoked = revokedTokenRepository.findActiveRevokedSince(since, now);
+        for (RevokedToken token : revoked) {
+            remember(token.getJti(), token.getExpiresAt().toEpochMilli());
+        }
+        lastSyncedAt = now;
+        return revoked.size();
+    }
+
+    /**
+     * 만료된 항목을 메모리와 DB에서 제거하고 Bloom 필터를 남은 항목으로 다시 구성
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.purge-interval:PT1M}")
+    public void purgeExpired() {
+        purgeStoredExpired();
+        long now = System.currentTimeMillis();
+        synchronized (rebuildLock) {
+            if (!revokedUntil.values().removeIf(expiresAt -> expiresAt <= now)) {
+                return;
+            }
+            rebuildFilter();
+        }
+        log.debug("🧹 폐기 목록 정리 완료 - 남은 항목: {}", revokedUntil.size());
+    }
+
+    public int size() {
+        return revokedUntil.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.revocation.filter.positives", filterPositives, LongAdder::sum)
+                .description("Bloom 필터가 폐기 가능성을 보고한 횟수")
+                .register(registry);
+        FunctionCounter.builder("auth.revocation.filter.false.positives", falsePositives, LongAdder::sum)
+                .description("정확한 저장소 확인 결과 폐기되지 않은 토큰이었던 횟수")
+                .register(registry);
+        Gauge.builder("auth.revocation.size", revokedUntil, Map::size)
+                .description("만료 전 폐기 토큰 수")
+                .register(registry);
+    }
+
+    private void remember(String jti, long expiresAtMillis) {
+        synchronized (rebuildLock) {
+            if (revokedUntil.put(jti, expiresAtMillis) != null) {
+                return;
+            }
+            if (revokedUntil.size() > filterCapacity) {
+                rebuildFilter();
+            } else {
+                filter.put(jti);
+            }
+        }
+    }
+
+    private void purgeStoredExpired() {
+        Instant now = Instant.now();
+        int batchSize = config.getPurgeBatchSize();
+        int total = 0;
+        List<String> expired;
+        do {
+            expired = revokedTokenRepository.findExpiredJtis(now, PageRequest.of(0, batchSize));
+            if (!expired.isEmpty()) {
+                total += revokedTokenRepository.deleteByJtis(expired);
+            }
+        } while (expired.size() == batchSize);
+
+        if (total > 0) {
+            log.debug("🧹 만료된 폐기 기록 삭제: {}개", total);
+        }
+    }
+
+    /**
+     * 현재 항목으로 새 필터를 만들어 교체 (rebuildLock 안에서 호출)
+     */
+    private void rebuildFilter() {
+        // 설정값보다 많이 쌓였으면 오탐률 유지를 위해 여유 있게 키운다
+        long capacity = Math.max(config.getExpectedRevocations(), revokedUntil.size() * 2L);
+        BloomFilter rebuilt = new BloomFilter(capacity, config.getFalsePositiveRate());
+        revokedUntil.keySet().forEach(rebuilt::put);
+        filterCapacity = capacity;
+        filter = rebuilt;
+    }
+}
@@ -0,0 +1,179 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.config.UserAvailabilityConfig;
+import com.bookman.common.cache.BloomFilter;
+import com.bookman.user.event.UserChangedEvent;
+import com.bookman.user.repository.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 회원가입 폼의 사용자명/이메일 사용 가능 여부 확인
+ *
+ * 기동 시 users 테이블 전체를 Bloom 필터로 읽어 두고, 필터가 "없음"이라고 답하면 DB 조회 없이
+ * 사용 가능으로 응답한다. "있을 수 있음"인 경우에만 저장소로 확인한다. 가입으로 생긴 값은 커밋 직후
+ * 필터에 추가되며, 필터는 삭제를 지원하지 않으므로 주기적으로 테이블에서 다시 구성한다.
+ * soft delete된 사용자도 유니크 제약 조건을 유지하므로 필터와 저장소 확인 모두 사용 중으로 본다.
+ */
+@Service
+@Slf4j
+public class UserAvailabilityService implements MeterBinder {
+
+    private static final double LN2_SQUARED = Math.log(2) * Math.log(2);
+
+    private final UserAvailabilityConfig config;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Object rebuildLock = new Object();
+    private final LongAdder filterNegatives = new LongAdder();
+    private final LongAdder repositoryLookups = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    // 첫 로드 전에는 null이며 모든 확인이 저장소로 간다
+    private volatile Filters current;
+    // 재구성 중인 필터 (그 사이 가입한 값도 함께 기록)
+    private volatile Filters next;
+
+    public UserAvailabilityService(UserAvailabilityConfig config, UserRepository userRepository,
+                                   JdbcTemplate jdbcTemplate) {
+        this.config = config;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean isUsernameAvailable(String username) {
+        Filters filters = current;
+        if (filters != null && !filters.usernames().mightContain(username)) {
+            filterNegatives.increment();
+            return true;
+        }
+        return !confirmTaken(userRepository.countIncludingDeletedByUsername(username) > 0, filters);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        Filters filters = current;
+        if (filters != null && !filters.emails().mightContain(email)) {
+            filterNegatives.increment();
+            return true;
+        }
+        return !confirmTaken(userRepository.countIncludingDeletedByEmail(email) > 0, filters);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        // soft delete 후에도 값은 유니크 제약 조건에 남아 있으므로 필터에서 빼지 않는다
+        if (event.type() == UserChangedEvent.ChangeType.DELETED) {
+            return;
+        }
+        // 재구성 중인 필터를 먼저 확인해야 교체 시점에 추가된 값이 빠지지 않는다
+        Filters building = next;
+        if (building != null) {
+            building.put(event.username(), event.email());
+        }
+        Filters filters = current;
+        if (filters != null) {
+            filters.put(event.username(), event.email());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * users 테이블 전체로 필터를 다시 만들어 교체 (보관/영구 삭제된 값 제거, 사용자 증가에 맞춰 크기 조정)
+     */
+    @Scheduled(fixedDelayString = "${auth.availability.rebuild-interval:PT1H}",
+            initialDelayString = "${auth.availability.rebuild-interval:PT1H}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+            Long userCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+            Filters rebuilt = newFilters(userCount == null ? 0 : userCount);
+
+            next = rebuilt;
+            jdbcTemplate.query("SELECT username, email FROM users",
+                    resultSet -> rebuilt.put(resultSet.getString(1), resultSet.getString(2)));
+            current = rebuilt;
+            next = null;
+
+            log.info("🧮 가입 가능 여부 필터 구성 완료 - 사용자: {}, 메모리: {}KB, 예상 오탐률: {}, {}ms",
+                    userCount, rebuilt.memoryBytes() / 1024, String.format("%.4f", rebuilt.falsePositiveRate()),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.availability.checks", filterNegatives, LongAdder::sum)
+                .tag("source", "filter")
+                .description("Bloom 필터만으로 사용 가능하다고 응답한 횟수")
+                .register(registry);
+        FunctionCounter.builder("auth.availability.checks", repositoryLookups, LongAdder::sum)
+                .tag("source", "repository")
+                .description("저장소 조회로 확인한 횟수")
+                .register(registry);
+        FunctionCounter.builder("auth.availability.filter.false.positives", falsePositives, LongAdder::sum)
+                .description("필터는 사용 중이라고 했지만 실제로는 사용 가능했던 횟수")
+                .register(registry);
+        Gauge.builder("auth.availability.filter.memory", this, service -> {
+                    Filters filters = service.current;
+                    return filters == null ? 0 : filters.memoryBytes();
+                })
+                .baseUnit("bytes")
+                .description("사용자명/이메일 Bloom 필터 메모리")
+                .register(registry);
+    }
+
+    private boolean confirmTaken(boolean taken, Filters filters) {
+        repositoryLookups.increment();
+        if (filters != null && !taken) {
+            falsePositives.increment();
+        }
+        return taken;
+    }
+
+    /**
+     * 사용자 수의 2배를 기준으로 크기를 정하되, 메모리 한도를 넘으면 오탐률을 올려서 맞춘다
+     */
+    private Filters newFilters(long userCount) {
+        long expected = Math.max(config.getExpectedUsers(), userCount * 2);
+        long bitsPerFilter = config.getMemoryBudget().toBytes() * 8 / 2;
+        double budgetRate = Math.exp(-bitsPerFilter * LN2_SQUARED / expected);
+        double rate = Math.max(config.getFalsePositiveRate(), budgetRate);
+        if (rate > config.getFalsePositiveRate()) {
+            log.warn("⚠️ 가입 가능 여부 필터가 메모리 한도({})에 걸려 오탐률이 {}로 올라갑니다",
+                    config.getMemoryBudget(), String.format("%.4f", rate));
+        }
+        return new Filters(new BloomFilter(expected, rate), new BloomFilter(expected, rate), rate);
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails, double falsePositiveRate) {
+
+        void put(String username, String email) {
+            if (username != null) {
+                usernames.put(username);
+            }
+            if (email != null) {
+                emails.put(email);
+            }
+        }
+
+        long memoryBytes() {
+            return usernames.memoryBytes() + emails.memoryBytes();
+        }
+    }
+}
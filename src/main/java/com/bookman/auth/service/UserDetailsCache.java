@@ -0,0 +1,155 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.config.UserCacheConfig;
+import com.bookman.common.cache.ExpiringCache;
+import com.bookman.common.cache.InvalidationLog;
+import com.bookman.user.entity.User;
+import com.bookman.user.event.UserChangedEvent;
+import com.bookman.user.event.UsersBulkChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * UserDetailsServiceImpl 앞단의 사용자 캐시
+ *
+ * 관리(managed) 엔티티가 아닌 분리된(detached) User 스냅샷을 크기/TTL 제한으로 보관한다.
+ * User 엔티티가 변경(생성, 권한, 활성 상태, 비밀번호, soft delete 등)되면 커밋 직후 해당 항목을 제거하고,
+ * JPA를 거치지 않은 일괄 변경({@link UsersBulkChangedEvent})이 커밋되면 전체를 비운다.
+ *
+ * 무효화마다 순번을 올리고 사용자명별로 마지막 무효화 순번을 남겨 둔다({@link InvalidationLog}). 조회를
+ * 시작할 때 받은 순번({@link #stamp()})보다 뒤에 무효화된 사용자는 캐시에 넣지 않으므로, 변경 전에 시작된
+ * 느린 조회가 무효화 이후에 오래된 스냅샷을 다시 넣지 못한다. 순번 기록은 캐시와 따로 크기를 정하고,
+ * 넘쳐서 지운 기록은 그 전에 시작된 조회를 모두 무효화된 것으로 보므로 사용자가 많이 바뀌어도 안전하다.
+ * 적중/미스/제거 횟수는 actuator 메트릭(auth.user.cache.*)으로 노출된다.
+ */
+@Component
+@Slf4j
+public class UserDetailsCache implements UserCache, MeterBinder {
+
+    private final UserCacheConfig config;
+    private final ExpiringCache<String, User> cache;
+    // 사용자명 → 마지막 무효화 순번
+    private final InvalidationLog<String> invalidations;
+
+    public UserDetailsCache(UserCacheConfig config) {
+        this.config = config;
+        this.cache = new ExpiringCache<>(config.isEnabled() ? config.getMaxSize() : 0);
+        this.invalidations = new InvalidationLog<>(config.getInvalidationTrackingSize());
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        return get(username);
+    }
+
+    public User get(String username) {
+        if (!config.isEnabled()) {
+            return null;
+        }
+        return cache.get(username);
+    }
+
+    /**
+     * 현재 무효화 순번 (DB 조회 직전에 받아 {@link #put(User, long)}에 넘긴다)
+     */
+    public long stamp() {
+        return invalidations.stamp();
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (user instanceof User entity) {
+            put(entity, stamp());
+        }
+    }
+
+    /**
+     * 엔티티의 분리된 스냅샷을 캐시에 저장하고 반환 (캐시 비활성화 시 원본 반환)
+     *
+     * stamp 이후에 이 사용자가 무효화되었으면 스냅샷만 반환하고 캐시에는 남기지 않는다.
+     */
+    public User put(User user, long stamp) {
+        if (!config.isEnabled()) {
+            return user;
+        }
+        User snapshot = snapshot(user);
+        String username = snapshot.getUsername();
+        if (invalidations.invalidatedSince(username, stamp)) {
+            return snapshot;
+        }
+        cache.put(username, snapshot, System.currentTimeMillis() + config.getTtl().toMillis());
+        // 확인과 저장 사이에 무효화가 끼어들었으면 방금 넣은 항목을 되돌린다
+        if (invalidations.invalidatedSince(username, stamp)) {
+            cache.invalidate(username);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        invalidations.invalidate(username);
+        cache.invalidate(username);
+    }
+
+    public void removeAllUsersFromCache() {
+        invalidations.invalidateAll();
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.username() != null) {
+            removeUserFromCache(event.username());
+            log.debug("🧹 사용자 캐시 무효화: {} ({})", event.username(), event.type());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUsersBulkChanged(UsersBulkChangedEvent event) {
+        removeAllUsersFromCache();
+        log.debug("🧹 사용자 캐시 전체 무효화: {} ({}행)", event.source(), event.rows());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.user.cache.gets", cache, ExpiringCache::hitCount)
+                .tag("result", "hit")
+                .description("사용자 캐시 적중 횟수")
+                .register(registry);
+        FunctionCounter.builder("auth.user.cache.gets", cache, ExpiringCache::missCount)
+                .tag("result", "miss")
+                .description("사용자 캐시 미스 횟수")
+                .register(registry);
+        FunctionCounter.builder("auth.user.cache.evictions", cache, ExpiringCache::evictionCount)
+                .description("크기/TTL 초과로 제거된 사용자 캐시 항목 수")
+                .register(registry);
+        Gauge.builder("auth.user.cache.size", cache, ExpiringCache::size)
+                .description("현재 캐시된 사용자 수")
+                .register(registry);
+    }
+
+    private static User snapshot(User user) {
+        return User.builder()
+                .userId(user.getUserId())
+                .username(user.getUsername())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .fullName(user.getFullName())
+                .role(user.getRole())
+                .isActive(user.getIsActive())
+                .securityVersion(user.getSecurityVersion())
+                .version(user.getVersion())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .deletedAt(user.getDeletedAt())
+                .build();
+    }
+}
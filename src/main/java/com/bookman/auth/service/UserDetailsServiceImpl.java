@@ -1,21 +1,50 @@
 package com.bookman.auth.service;
 
+import com.bookman.user.entity.User;
 import com.bookman.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+@Slf4j
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
+        User cached = userDetailsCache.get(username);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 조회 도중 커밋된 변경이 있으면 읽은 값을 캐시에 넣지 않도록 조회 전 순번을 받아 둔다
+        long stamp = userDetailsCache.stamp();
+        User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        return userDetailsCache.put(user, stamp);
+    }
+
+    /**
+     * 로그인 성공 시 다른 cost/형식으로 저장된 해시를 새 해시로 교체 (DaoAuthenticationProvider가 호출)
+     *
+     * 커밋 전이므로 캐시에 넣지 않는다. 커밋 직후 변경 이벤트로 기존 항목이 제거된다.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        log.info("🔁 비밀번호 해시 업그레이드: {}", user.getUsername());
+        return userRepository.save(user);
     }
 }
@@ -0,0 +1,58 @@
+package com.bookman.auth.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 현재 호스트에서 BCrypt 해시 시간을 측정해 목표 시간 안에 들어오는 가장 높은 cost를 고른다
+ *
+ * cost가 1 오를 때마다 해시 시간은 약 두 배가 되므로, 최소 cost부터 올려가며
+ * 측정값(중앙값)이 목표를 넘는 순간 직전 cost를 사용한다.
+ */
+@Slf4j
+public final class BCryptCostCalibrator {
+
+    private static final int SAMPLES = 3;
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(Duration targetHashTime, int minStrength, int maxStrength) {
+        long targetNanos = targetHashTime.toNanos();
+        int chosen = minStrength;
+
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long medianNanos = measure(strength);
+            log.debug("⏱️ BCrypt cost {} 측정: {}ms", strength, medianNanos / 1_000_000);
+            if (medianNanos > targetNanos) {
+                if (strength == minStrength) {
+                    log.warn("⚠️ 최소 BCrypt cost {}도 목표 시간({}ms)을 초과합니다: {}ms",
+                            minStrength, targetHashTime.toMillis(), medianNanos / 1_000_000);
+                }
+                break;
+            }
+            chosen = strength;
+        }
+
+        log.info("🔐 BCrypt cost 보정 완료 - 목표: {}ms, 선택된 cost: {}", targetHashTime.toMillis(), chosen);
+        return chosen;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD); // 워밍업
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
@@ -0,0 +1,130 @@
+package com.bookman.auth.util;
+
+import com.bookman.auth.config.PasswordHashingConfig;
+import com.bookman.common.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CPU 크기로 제한된 전용 워커 풀에서 비밀번호 해시를 수행하는 PasswordEncoder
+ *
+ * Tomcat 요청은 무제한 Virtual Thread에서 처리되므로, 로그인 폭주 시 코어 수보다 훨씬 많은
+ * BCrypt 연산이 동시에 실행되어 다른 API의 지연시간까지 무너진다. 해시 연산을 고정 크기 풀로
+ * 옮기고 대기열이 가득 차면 {@link ServiceOverloadedException}(503)으로 즉시 거절한다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final PasswordHashingConfig config;
+
+    private final Timer encodeQueueWait;
+    private final Timer matchesQueueWait;
+    private final Timer encodeHashTime;
+    private final Timer matchesHashTime;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingConfig config, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.config = config;
+
+        int threads = config.resolvedThreads();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeQueueWait = queueWaitTimer(meterRegistry, "encode");
+        this.matchesQueueWait = queueWaitTimer(meterRegistry, "matches");
+        this.encodeHashTime = hashTimer(meterRegistry, "encode");
+        this.matchesHashTime = hashTimer(meterRegistry, "matches");
+        this.rejected = Counter.builder("auth.password.rejected")
+                .description("대기열 초과로 거절된 비밀번호 해시 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("비밀번호 해시 대기열 길이")
+                .register(meterRegistry);
+
+        log.info("🔐 비밀번호 해시 워커 풀 설정 - 스레드: {}, 대기열: {}", threads, config.getQueueCapacity());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword), encodeQueueWait, encodeHashTime);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword), matchesQueueWait, matchesHashTime);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> hashTask, Timer queueWait, Timer hashTime) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return hashTime.recordCallable(hashTask);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceOverloadedException("요청이 많아 잠시 후 다시 시도해주세요.", config.getRetryAfter());
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 작업이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 작업 실패", e.getCause());
+        }
+    }
+
+    private static Timer queueWaitTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("auth.password.queue.wait")
+                .description("비밀번호 해시 대기열 대기 시간")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    private static Timer hashTimer(MeterRegistry registry, String operation) {
+        return Timer.builder("auth.password.hash")
+                .description("비밀번호 해시 연산 시간")
+                .tag("operation", operation)
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+}
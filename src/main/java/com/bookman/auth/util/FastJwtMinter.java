@@ -0,0 +1,148 @@
+package com.bookman.auth.util;
+
+import com.bookman.auth.principal.JwtPrincipal;
+import com.bookman.user.entity.User;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Base64;
+
+/**
+ * 로그인/갱신용 액세스 토큰 발급 전용 경로
+ *
+ * JJWT 빌더는 토큰마다 클레임 Map, 헤더 Map, Jackson 직렬화를 거친다. 발급 토큰의 클레임 구성은 항상 같으므로
+ * (uid, role, active, sv, jti, sub, iat, exp) JSON을 직접 쓰고, base64url 헤더는 서명 키마다 한 번만 만든다.
+ * 결과는 JJWT가 만드는 것과 같은 compact JWS이므로 검증은 기존 JwtTokenVerifier가 그대로 처리한다.
+ * HMAC Mac은 초기화된 원본을 복제해서 쓴다 (요청마다 새 Virtual Thread라 ThreadLocal 재사용은 효과가 없다).
+ */
+final class FastJwtMinter {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final byte DOT = '.';
+
+    // 마지막으로 사용한 서명 키의 헤더/서명 준비물 (키 교체 시 교체)
+    private volatile Prepared prepared;
+
+    String mint(JwtKeyRing.SigningKey key, String jti, String subject, User user,
+                long issuedAtMillis, long expiresAtMillis) {
+        Prepared current = prepare(key);
+        byte[] payload = ENCODER.encode(payloadJson(jti, subject, user, issuedAtMillis / 1000, expiresAtMillis / 1000)
+                .getBytes(StandardCharsets.UTF_8));
+
+        byte[] signingInput = new byte[current.encodedHeader().length + 1 + payload.length];
+        System.arraycopy(current.encodedHeader(), 0, signingInput, 0, current.encodedHeader().length);
+        signingInput[current.encodedHeader().length] = DOT;
+        System.arraycopy(payload, 0, signingInput, current.encodedHeader().length + 1, payload.length);
+
+        byte[] signature = ENCODER.encode(current.sign(signingInput));
+        byte[] token = new byte[signingInput.length + 1 + signature.length];
+        System.arraycopy(signingInput, 0, token, 0, signingInput.length);
+        token[signingInput.length] = DOT;
+        System.arraycopy(signature, 0, token, signingInput.length + 1, signature.length);
+        // base64url과 '.'만 있으므로 LATIN1 문자열로 복사 없이 만든다
+        return new String(token, StandardCharsets.ISO_8859_1);
+    }
+
+    private Prepared prepare(JwtKeyRing.SigningKey key) {
+        Prepared current = prepared;
+        if (current == null || current.key() != key) {
+            current = Prepared.of(key);
+            prepared = current;
+        }
+        return current;
+    }
+
+    /**
+     * 발급 토큰의 고정 클레임 구성 (저장되지 않은 사용자면 무상태 인증 클레임 없이 jti/sub/iat/exp만)
+     */
+    static String payloadJson(String jti, String subject, User user, long issuedAt, long expiresAt) {
+        StringBuilder json = new StringBuilder(192).append('{');
+        if (user != null && user.getUserId() != null) {
+            json.append('"').append(JwtPrincipal.CLAIM_USER_ID).append("\":").append(user.getUserId());
+            json.append(",\"").append(JwtPrincipal.CLAIM_ROLE).append("\":");
+            appendString(json, user.getRole().name());
+            json.append(",\"").append(JwtPrincipal.CLAIM_ACTIVE).append("\":").append(Boolean.TRUE.equals(user.getIsActive()));
+            json.append(",\"").append(JwtPrincipal.CLAIM_SECURITY_VERSION).append("\":")
+                    .append(user.getSecurityVersion() == null ? 0 : user.getSecurityVersion());
+            json.append(',');
+        }
+        json.append("\"jti\":");
+        appendString(json, jti);
+        json.append(",\"sub\":");
+        appendString(json, subject);
+        json.append(",\"iat\":").append(issuedAt);
+        json.append(",\"exp\":").append(expiresAt);
+        return json.append('}').toString();
+    }
+
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    private record Prepared(JwtKeyRing.SigningKey key, byte[] encodedHeader, Mac macPrototype, String signatureAlgorithm) {
+
+        static Prepared of(JwtKeyRing.SigningKey key) {
+            try {
+                if (key.signingKey() instanceof SecretKey secretKey) {
+                    // JJWT signWith(SecretKey)와 같이 키 길이로 HS256/384/512를 고른다
+                    int bits = secretKey.getEncoded().length * 8;
+                    int digestBits = bits >= 512 ? 512 : bits >= 384 ? 384 : 256;
+                    Mac mac = Mac.getInstance("HmacSHA" + digestBits);
+                    mac.init(secretKey);
+                    return new Prepared(key, header("HS" + digestBits, key.kid()), mac, null);
+                }
+                String jwsAlgorithm = key.algorithm().getId();
+                String jcaAlgorithm = "ES256".equals(jwsAlgorithm) ? "SHA256withECDSAinP1363Format" : "Ed25519";
+                return new Prepared(key, header(jwsAlgorithm, key.kid()), null, jcaAlgorithm);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("JWT 서명 준비에 실패했습니다", e);
+            }
+        }
+
+        private static byte[] header(String algorithm, String kid) {
+            StringBuilder json = new StringBuilder("{\"alg\":");
+            appendString(json, algorithm);
+            json.append(",\"kid\":");
+            appendString(json, kid);
+            json.append('}');
+            return ENCODER.encode(json.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        byte[] sign(byte[] signingInput) {
+            try {
+                if (macPrototype != null) {
+                    return ((Mac) macPrototype.clone()).doFinal(signingInput);
+                }
+                // ES256은 JWS 형식(R||S 고정 길이)으로 바로 서명되는 P1363 형식을 사용
+                Signature signature = Signature.getInstance(signatureAlgorithm);
+                signature.initSign((PrivateKey) key.signingKey());
+                signature.update(signingInput);
+                return signature.sign();
+            } catch (GeneralSecurityException | CloneNotSupportedException e) {
+                throw new IllegalStateException("JWT 서명에 실패했습니다", e);
+            }
+        }
+    }
+}
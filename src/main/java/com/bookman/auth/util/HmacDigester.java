@@ -0,0 +1,51 @@
+package com.bookman.auth.util;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+/**
+ * 서버 비밀 값으로 키를 건 HMAC-SHA256 다이제스트
+ *
+ * Mac은 스레드 안전하지 않으므로 초기화된 원본을 복제해서 쓴다.
+ * (Virtual Thread에서는 ThreadLocal 캐시가 요청마다 새로 만들어지므로 복제가 더 싸다)
+ */
+public final class HmacDigester {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final Mac prototype;
+
+    public HmacDigester(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("HMAC 비밀 값이 설정되지 않았습니다");
+        }
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256을 초기화할 수 없습니다", e);
+        }
+    }
+
+    public byte[] digest(String value) {
+        return newMac().doFinal(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 다이제스트 비교 (일치하는 앞부분 길이로 응답 시간이 달라지지 않도록 상수 시간 비교)
+     */
+    public boolean matches(String value, byte[] expectedDigest) {
+        return MessageDigest.isEqual(digest(value), expectedDigest);
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HMAC 인스턴스를 복제할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.bookman.auth.util;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * kid로 조회하는 JWT 서명 키 묶음
+ *
+ * 키는 설정(jwt.keys)에서 읽고, 각 키의 활성 시각(activeFrom)으로 역할을 정한다.
+ * - current: 활성 시각이 지난 키 중 가장 최근 키 (지금 서명에 사용)
+ * - next: 활성 시각이 아직 오지 않은 키 (JWKS에 미리 공개되고 검증에도 쓰임)
+ * - retiring: current 이전 키 (후속 키 활성 시각 + retention까지 검증에만 사용)
+ * 모든 노드가 같은 설정과 시계로 같은 시각에 교체하므로 재시작이나 노드 이동으로 토큰이 무효가 되지 않는다.
+ * 검증 키는 불변 Map 스냅숏에서 kid로 한 번에 찾고, refresh() 때 새 스냅숏으로 바꿔 끼운다.
+ * kid가 없는 이전 형식 토큰(과 키 설정 전의 "hmac" kid 토큰)은 legacyKey(jwt.secret)로 검증한다.
+ */
+public class JwtKeyRing {
+
+    public enum Algorithm {
+        HMAC, EdDSA, ES256
+    }
+
+    /**
+     * jwt.keys를 설정하지 않은 HMAC 모드에서 jwt.secret 키에 붙이는 kid
+     */
+    public static final String LEGACY_HMAC_KID = "hmac";
+
+    private final Algorithm algorithm;
+    private final List<KeyMaterial> keys;
+    private final SecretKey legacyKey;
+    private final Duration retention;
+    private final Clock clock;
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param keys      설정된 키 (HMAC 모드에서 비어 있으면 legacyKey 하나로 서명)
+     * @param legacyKey kid 없는 이전 토큰 검증 키 (없으면 null)
+     * @param retention 교체된 키를 검증용으로 남겨 두는 시간 (토큰 수명 이상이어야 함)
+     */
+    public JwtKeyRing(Algorithm algorithm, List<KeyMaterial> keys, SecretKey legacyKey, Duration retention, Clock clock) {
+        this.algorithm = algorithm;
+        this.legacyKey = legacyKey;
+        this.retention = retention;
+        this.clock = clock;
+        this.keys = keys.isEmpty() && algorithm == Algorithm.HMAC && legacyKey != null
+                ? List.of(KeyMaterial.hmac(LEGACY_HMAC_KID, legacyKey, null))
+                : sorted(algorithm, keys);
+        this.snapshot = build(clock.instant());
+    }
+
+    public Algorithm algorithm() {
+        return algorithm;
+    }
+
+    public SigningKey signingKey() {
+        return snapshot.current();
+    }
+
+    /**
+     * kid에 해당하는 검증 키 (없으면 null)
+     */
+    public Key verificationKey(String kid) {
+        if (kid == null) {
+            return legacyKey;
+        }
+        SigningKey key = snapshot.byKid().get(kid);
+        if (key != null) {
+            return key.verificationKey();
+        }
+        return LEGACY_HMAC_KID.equals(kid) ? legacyKey : null;
+    }
+
+    /**
+     * 현재 시각 기준으로 current/next/retiring을 다시 정한다. 서명 키가 바뀌었으면 true
+     *
+     * 활성 시각이 지난 next를 서명 키로 올리고, 보관 기한이 지난 retiring 키는 제거한다.
+     */
+    public synchronized boolean refresh() {
+        Snapshot previous = snapshot;
+        snapshot = build(clock.instant());
+        return !snapshot.current().kid().equals(previous.current().kid());
+    }
+
+    public List<String> activeKeyIds() {
+        return List.copyOf(snapshot.byKid().keySet());
+    }
+
+    /**
+     * JWKS로 공개할 공개 키 목록 (current, next, retiring 순, HMAC이면 비어 있음)
+     */
+    public List<Map<String, Object>> publicJwks() {
+        Snapshot current = snapshot;
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        addJwk(jwks, current.current());
+        current.next().forEach(key -> addJwk(jwks, key));
+        current.retiring().forEach(key -> addJwk(jwks, key));
+        return jwks;
+    }
+
+    /**
+     * JJWT 파서용 키 조회기 (헤더의 kid로 조회, 모르는 kid면 검증 실패)
+     */
+    public LocatorAdapter<Key> locator() {
+        return new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                Key key = verificationKey(header.getKeyId());
+                if (key == null) {
+                    throw new UnsupportedJwtException("알 수 없는 서명 키입니다: " + header.getKeyId());
+                }
+                return key;
+            }
+        };
+    }
+
+    private Snapshot build(Instant now) {
+        int currentIndex = -1;
+        for (int i = 0; i < keys.size(); i++) {
+            if (!keys.get(i).activeFrom().isAfter(now)) {
+                currentIndex = i;
+            }
+        }
+        if (currentIndex < 0) {
+            throw new IllegalStateException("활성 시각이 지난 JWT 서명 키가 없습니다 (jwt.keys[].active-from 확인)");
+        }
+        KeyMaterial current = keys.get(currentIndex);
+        if (current.signingKey() == null) {
+            throw new IllegalStateException("현재 JWT 서명 키에 개인 키가 없습니다: " + current.kid());
+        }
+
+        List<SigningKey> next = new ArrayList<>();
+        for (KeyMaterial key : keys.subList(currentIndex + 1, keys.size())) {
+            next.add(toSigningKey(key, null));
+        }
+        // 이전 키는 후속 키가 서명을 넘겨받은 시각 + retention까지만 검증에 쓴다
+        List<SigningKey> retiring = new ArrayList<>();
+        for (int i = currentIndex - 1; i >= 0; i--) {
+            Instant retireAt = keys.get(i + 1).activeFrom().plus(retention);
+            if (retireAt.isAfter(now)) {
+                retiring.add(toSigningKey(keys.get(i), retireAt));
+            }
+        }
+        return Snapshot.of(toSigningKey(current, null), next, retiring);
+    }
+
+    private SigningKey toSigningKey(KeyMaterial key, Instant retireAt) {
+        if (algorithm == Algorithm.HMAC) {
+            return new SigningKey(key.kid(), key.signingKey(), key.verificationKey(), null, null, retireAt);
+        }
+        SignatureAlgorithm signatureAlgorithm = algorithm == Algorithm.EdDSA ? Jwts.SIG.EdDSA : Jwts.SIG.ES256;
+        PublicJwk<?> jwk = Jwks.builder()
+                .key((PublicKey) key.verificationKey())
+                .id(key.kid())
+                .publicKeyUse("sig")
+                .algorithm(algorithm.name())
+                .build();
+        return new SigningKey(key.kid(), key.signingKey(), key.verificationKey(), signatureAlgorithm,
+                new LinkedHashMap<>(jwk), retireAt);
+    }
+
+    private static List<KeyMaterial> sorted(Algorithm algorithm, List<KeyMaterial> keys) {
+        if (keys.isEmpty()) {
+            throw new IllegalStateException(algorithm + " 서명에는 jwt.keys 설정이 필요합니다");
+        }
+        Set<String> kids = new HashSet<>();
+        for (KeyMaterial key : keys) {
+            if (!kids.add(key.kid())) {
+                throw new IllegalStateException("JWT 서명 키 kid가 중복되었습니다: " + key.kid());
+            }
+            boolean secret = key.verificationKey() instanceof SecretKey;
+            if (secret != (algorithm == Algorithm.HMAC)) {
+                throw new IllegalStateException("JWT 서명 키 형식이 " + algorithm + "와 맞지 않습니다: " + key.kid());
+            }
+        }
+        return keys.stream().sorted(Comparator.comparing(KeyMaterial::activeFrom)).toList();
+    }
+
+    private static void addJwk(List<Map<String, Object>> jwks, SigningKey key) {
+        if (key.jwk() != null) {
+            jwks.add(key.jwk());
+        }
+    }
+
+    /**
+     * 설정에서 읽은 키 하나 (HMAC이면 서명/검증 키가 같고, 비대칭 키는 검증 전용이면 signingKey가 null)
+     *
+     * @param activeFrom 이 키로 서명을 시작하는 시각 (설정하지 않으면 항상 활성)
+     */
+    public record KeyMaterial(String kid, Key signingKey, Key verificationKey, Instant activeFrom) {
+
+        public KeyMaterial {
+            if (kid == null || kid.isBlank()) {
+                throw new IllegalStateException("JWT 서명 키에는 kid가 필요합니다");
+            }
+            activeFrom = activeFrom != null ? activeFrom : Instant.EPOCH;
+        }
+
+        public static KeyMaterial hmac(String kid, SecretKey secret, Instant activeFrom) {
+            return new KeyMaterial(kid, secret, secret, activeFrom);
+        }
+    }
+
+    /**
+     * 서명 키 (HMAC이면 서명/검증 키가 같고 algorithm/jwk가 없음 - HS256/384/512는 키 길이로 정해진다)
+     */
+    public record SigningKey(String kid, Key signingKey, Key verificationKey, SignatureAlgorithm algorithm,
+                             Map<String, Object> jwk, Instant retireAt) {
+    }
+
+    private record Snapshot(SigningKey current, List<SigningKey> next, List<SigningKey> retiring,
+                            Map<String, SigningKey> byKid) {
+
+        static Snapshot of(SigningKey current, List<SigningKey> next, List<SigningKey> retiring) {
+            Map<String, SigningKey> byKid = new HashMap<>();
+            byKid.put(current.kid(), current);
+            next.forEach(key -> byKid.put(key.kid(), key));
+            retiring.forEach(key -> byKid.put(key.kid(), key));
+            return new Snapshot(current, List.copyOf(next), List.copyOf(retiring), Map.copyOf(byKid));
+        }
+    }
+}
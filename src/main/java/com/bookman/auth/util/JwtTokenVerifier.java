@@ -0,0 +1,60 @@
+package com.bookman.auth.util;
+
+import com.bookman.common.cache.ExpiringCache;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+import javax.crypto.SecretKey;
+
+/**
+ * JWT 검증 엔진
+ *
+ * 서명 키(또는 kid별 키 조회기)와 파서를 한 번만 만들어 재사용하고, 검증에 성공한 토큰은
+ * 토큰 다이제스트(SHA-256)를 키로 만료 시각(exp)까지 캐시한다.
+ * 같은 Bearer 토큰이 반복해서 들어오면 서명 검증은 최초 1회만 수행된다.
+ */
+public class JwtTokenVerifier {
+
+    private final JwtParser parser;
+    private final ExpiringCache<String, VerifiedToken> cache;
+
+    public JwtTokenVerifier(SecretKey verificationKey, int maxCachedTokens) {
+        this(Jwts.parser().verifyWith(verificationKey).build(), maxCachedTokens);
+    }
+
+    /**
+     * 토큰 헤더의 kid로 검증 키를 찾는 키 묶음 기반 검증기
+     */
+    public JwtTokenVerifier(JwtKeyRing keyRing, int maxCachedTokens) {
+        this(Jwts.parser().keyLocator(keyRing.locator()).build(), maxCachedTokens);
+    }
+
+    private JwtTokenVerifier(JwtParser parser, int maxCachedTokens) {
+        this.parser = parser;
+        this.cache = new ExpiringCache<>(maxCachedTokens);
+    }
+
+    /**
+     * 토큰을 검증하고 파싱 결과를 반환
+     *
+     * @throws JwtException 서명 불일치, 만료, 형식 오류 등 검증 실패 시
+     */
+    public VerifiedToken verify(String token) {
+        String digest = TokenDigests.sha256(token);
+        VerifiedToken cached = cache.get(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedToken verified = VerifiedToken.from(parser.parseSignedClaims(token).getPayload());
+        if (verified.expiration() != null) {
+            cache.put(digest, verified, verified.expiration().toEpochMilli());
+        }
+        return verified;
+    }
+
+    public int cachedTokenCount() {
+        return cache.size();
+    }
+}
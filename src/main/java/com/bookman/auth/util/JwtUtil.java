@@ -1,32 +1,72 @@
 package com.bookman.auth.util;
 
 import com.bookman.auth.config.JwtConfig;
+import com.bookman.user.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.security.PrivateKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtUtil {
 
     private final JwtConfig jwtConfig;
+    private final JwtKeyRing keyRing;
+    private final JwtTokenVerifier verifier;
+    private final FastJwtMinter minter = new FastJwtMinter();
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes());
+    public JwtUtil(JwtConfig jwtConfig) {
+        this.jwtConfig = jwtConfig;
+        JwtKeyRing.Algorithm algorithm = jwtConfig.getSigningAlgorithm() != null
+                ? jwtConfig.getSigningAlgorithm()
+                : JwtKeyRing.Algorithm.HMAC;
+        List<JwtKeyRing.KeyMaterial> keys = jwtConfig.getKeys() != null
+                ? jwtConfig.getKeys().stream().map(key -> keyMaterial(algorithm, key)).toList()
+                : List.of();
+        // secret 키는 키 목록 없는 HMAC 서명 모드이거나 kid 없는 이전 토큰을 받아 줄 때만 만든다
+        SecretKey legacyKey = jwtConfig.getSecret() != null
+                && ((algorithm == JwtKeyRing.Algorithm.HMAC && keys.isEmpty()) || jwtConfig.isAcceptLegacyHmacTokens())
+                ? Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes())
+                : null;
+        // 교체된 키는 그 키로 서명된 마지막 토큰이 만료될 때까지 남겨 둔다
+        Duration retention = Duration.ofMillis(Math.max(0, jwtConfig.getExpiration()))
+                .plus(jwtConfig.getKeyRetentionMargin() != null ? jwtConfig.getKeyRetentionMargin() : Duration.ZERO);
+
+        // 키 묶음과 검증 엔진은 한 번만 생성해서 재사용
+        this.keyRing = new JwtKeyRing(algorithm, keys, legacyKey, retention, Clock.systemUTC());
+        this.verifier = new JwtTokenVerifier(keyRing, jwtConfig.getVerifiedTokenCacheSize());
+        log.info("🔑 JWT 서명 키 - 알고리즘: {}, 서명 kid: {}, 검증 가능 kid: {}",
+                algorithm, keyRing.signingKey().kid(), keyRing.activeKeyIds());
+    }
+
+    /**
+     * 토큰을 한 번 검증/파싱하여 불변 객체로 반환 (검증된 토큰은 exp까지 캐시됨)
+     */
+    public VerifiedToken verify(String token) {
+        try {
+            return verifier.verify(token);
+        } catch (JwtException e) {
+            log.error("JWT token parsing failed: {}", e.getMessage());
+            throw e;
+        }
     }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
     public Date extractExpiration(String token) {
@@ -34,60 +74,96 @@ public class JwtUtil {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(verify(token).claims());
     }
 
-    private Claims extractAllClaims(String token) {
-        try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-        } catch (JwtException e) {
-            log.error("JWT token parsing failed: {}", e.getMessage());
-            throw e;
-        }
+    /**
+     * 로그인/갱신용 액세스 토큰 (고정 클레임 구성이므로 JJWT 빌더 대신 전용 발급 경로 사용)
+     * 저장된 사용자라면 무상태 인증에 필요한 클레임을 함께 담는다
+     */
+    public String generateToken(UserDetails userDetails) {
+        long now = System.currentTimeMillis();
+        return minter.mint(keyRing.signingKey(), UUID.randomUUID().toString(), userDetails.getUsername(),
+                userDetails instanceof User user ? user : null, now, now + jwtConfig.getExpiration());
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public String generateToken(UserDetails userDetails, Map<String, Object> extraClaims) {
+        return createToken(extraClaims, userDetails.getUsername());
     }
 
-    public String generateToken(UserDetails userDetails) {
-        Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+    /**
+     * 활성 시각이 된 키로 서명 키 교체 (모든 노드가 같은 키 설정과 시각으로 같은 키를 고른다)
+     */
+    @Scheduled(fixedDelayString = "${jwt.key-refresh-interval:1m}", initialDelayString = "${jwt.key-refresh-interval:1m}")
+    public void refreshSigningKey() {
+        if (keyRing.refresh()) {
+            log.info("🔄 JWT 서명 키 교체 - 서명 kid: {}, 검증 가능 kid: {}",
+                    keyRing.signingKey().kid(), keyRing.activeKeyIds());
+        }
     }
 
-    public String generateToken(UserDetails userDetails, Map<String, Object> extraClaims) {
-        return createToken(extraClaims, userDetails.getUsername());
+    /**
+     * JWKS 엔드포인트로 공개할 공개 키 목록
+     */
+    public List<Map<String, Object>> publicJwks() {
+        return keyRing.publicJwks();
+    }
+
+    private static JwtKeyRing.KeyMaterial keyMaterial(JwtKeyRing.Algorithm algorithm, JwtConfig.Key key) {
+        if (algorithm == JwtKeyRing.Algorithm.HMAC) {
+            if (key.getSecret() == null) {
+                throw new IllegalStateException("HMAC 서명 키에는 secret이 필요합니다: " + key.getKid());
+            }
+            return JwtKeyRing.KeyMaterial.hmac(key.getKid(), Keys.hmacShaKeyFor(key.getSecret().getBytes()),
+                    key.getActiveFrom());
+        }
+        if (key.getPublicKey() == null) {
+            throw new IllegalStateException(algorithm + " 서명 키에는 public-key가 필요합니다: " + key.getKid());
+        }
+        return new JwtKeyRing.KeyMaterial(key.getKid(),
+                key.getPrivateKey() != null ? PemKeys.privateKey(algorithm, key.getPrivateKey()) : null,
+                PemKeys.publicKey(algorithm, key.getPublicKey()),
+                key.getActiveFrom());
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
-        return Jwts.builder()
+        JwtKeyRing.SigningKey key = keyRing.signingKey();
+        JwtBuilder builder = Jwts.builder()
+                .header().keyId(key.kid()).and()
                 .claims(claims)
+                // 폐기(로그아웃) 대상 식별용 토큰 ID
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + jwtConfig.getExpiration()))
-                .signWith(getSigningKey())
+                .expiration(new Date(System.currentTimeMillis() + jwtConfig.getExpiration()));
+        // HMAC은 키 길이로 알고리즘이 정해지고, 비대칭 키는 명시한 알고리즘으로 서명
+        return (key.algorithm() == null
+                ? builder.signWith(key.signingKey())
+                : builder.signWith((PrivateKey) key.signingKey(), key.algorithm()))
                 .compact();
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
         try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+            return isTokenValidFor(verify(token), userDetails);
         } catch (JwtException e) {
             log.error("JWT validation failed: {}", e.getMessage());
             return false;
         }
     }
 
+    /**
+     * 이미 검증된 토큰이 해당 사용자의 것이고 만료되지 않았는지 확인
+     */
+    public boolean isTokenValidFor(VerifiedToken token, UserDetails userDetails) {
+        return token.subject() != null
+                && token.subject().equals(userDetails.getUsername())
+                && !token.isExpired(Instant.now());
+    }
+
     public Boolean isTokenValid(String token) {
         try {
-            extractAllClaims(token);
-            return !isTokenExpired(token);
+            return !verify(token).isExpired(Instant.now());
         } catch (JwtException e) {
             log.error("JWT token is invalid: {}", e.getMessage());
             return false;
@@ -0,0 +1,117 @@
+package com.bookman.auth.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 경로 패턴을 세그먼트 단위 트라이로 미리 컴파일한 매처
+ *
+ * 요청마다 패턴 목록을 순회하며 AntPathMatcher로 비교하는 대신, 트라이를 한 번 내려가며 판단한다.
+ * 세그먼트는 경로 문자열의 구간(regionMatches)으로 비교하므로 매칭 중 할당이 없다.
+ * 지원하는 패턴: 리터럴 세그먼트, 한 세그먼트를 대신하는 "*", 마지막 세그먼트의 "**"(0개 이상).
+ */
+public final class PathPatternTrie {
+
+    private static final String ANY_SEGMENT = "*";
+    private static final String ANY_DEPTH = "**";
+
+    private final Node root = new Node();
+
+    public PathPatternTrie(Collection<String> patterns) {
+        for (String pattern : patterns) {
+            add(pattern);
+        }
+    }
+
+    /**
+     * path의 from 위치(컨텍스트 경로 다음)부터가 등록된 패턴 중 하나와 일치하는지 확인
+     */
+    public boolean matches(String path, int from) {
+        if (from >= path.length() || path.charAt(from) != '/') {
+            return false;
+        }
+        return match(root, path, from + 1);
+    }
+
+    private void add(String pattern) {
+        if (!pattern.startsWith("/")) {
+            throw new IllegalArgumentException("경로 패턴은 /로 시작해야 합니다: " + pattern);
+        }
+        Node node = root;
+        String[] segments = pattern.length() == 1 ? new String[0] : pattern.substring(1).split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (ANY_DEPTH.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("**는 마지막 세그먼트에만 사용할 수 있습니다: " + pattern);
+                }
+                node.matchesRest = true;
+                return;
+            }
+            if (ANY_SEGMENT.equals(segment)) {
+                node = node.wildcard != null ? node.wildcard : (node.wildcard = new Node());
+            } else if (segment.isEmpty() || segment.indexOf('*') >= 0) {
+                throw new IllegalArgumentException("지원하지 않는 경로 패턴입니다: " + pattern);
+            } else {
+                node = node.childOrCreate(segment);
+            }
+        }
+        node.terminal = true;
+    }
+
+    /**
+     * start는 현재 세그먼트의 시작 위치 (경로 끝이거나 끝의 '/' 다음이면 남은 세그먼트 없음)
+     * 리터럴 자식을 먼저 따라가고, 실패하면 "*" 자식으로 다시 시도한다.
+     */
+    private static boolean match(Node node, String path, int start) {
+        if (node.matchesRest) {
+            return true;
+        }
+        if (start >= path.length()) {
+            return node.terminal;
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        int length = end - start;
+        Node literal = node.child(path, start, length);
+        if (literal != null && match(literal, path, end + 1)) {
+            return true;
+        }
+        return node.wildcard != null && length > 0 && match(node.wildcard, path, end + 1);
+    }
+
+    private static final class Node {
+
+        private String[] keys = new String[0];
+        private Node[] children = new Node[0];
+        private Node wildcard;
+        private boolean terminal;
+        private boolean matchesRest;
+
+        private Node child(String path, int start, int length) {
+            for (int i = 0; i < keys.length; i++) {
+                String key = keys[i];
+                if (key.length() == length && path.regionMatches(start, key, 0, length)) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node childOrCreate(String segment) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i].equals(segment)) {
+                    return children[i];
+                }
+            }
+            Node created = new Node();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = segment;
+            children[children.length - 1] = created;
+            return created;
+        }
+    }
+}
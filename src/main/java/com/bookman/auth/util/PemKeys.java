@@ -0,0 +1,101 @@
+package com.bookman.auth.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/**
+ * JWT 서명 키용 PEM 읽기/쓰기
+ *
+ * 개인 키는 PKCS#8("PRIVATE KEY"), 공개 키는 X.509 SubjectPublicKeyInfo("PUBLIC KEY") 형식이다.
+ * openssl genpkey / openssl pkey -pubout 결과를 그대로 쓸 수 있다.
+ * 설정 값이 "-----BEGIN"으로 시작하면 PEM 본문, 아니면 파일 경로(file: 접두사 허용)로 본다.
+ */
+public final class PemKeys {
+
+    private static final String PRIVATE_KEY = "PRIVATE KEY";
+    private static final String PUBLIC_KEY = "PUBLIC KEY";
+
+    private PemKeys() {
+    }
+
+    public static PrivateKey privateKey(JwtKeyRing.Algorithm algorithm, String pemOrPath) {
+        try {
+            return keyFactory(algorithm).generatePrivate(new PKCS8EncodedKeySpec(decode(pemOrPath, PRIVATE_KEY)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(algorithm + " 개인 키를 읽을 수 없습니다", e);
+        }
+    }
+
+    public static PublicKey publicKey(JwtKeyRing.Algorithm algorithm, String pemOrPath) {
+        try {
+            return keyFactory(algorithm).generatePublic(new X509EncodedKeySpec(decode(pemOrPath, PUBLIC_KEY)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(algorithm + " 공개 키를 읽을 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 새 키 쌍 생성 (키 발급 도구/테스트용, 서버는 생성한 키를 설정으로 읽는다)
+     */
+    public static KeyPair generate(JwtKeyRing.Algorithm algorithm) {
+        try {
+            if (algorithm == JwtKeyRing.Algorithm.EdDSA) {
+                return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+            }
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(algorithm + " 키 쌍을 만들 수 없습니다", e);
+        }
+    }
+
+    public static String encode(Key key) {
+        String type = key instanceof PrivateKey ? PRIVATE_KEY : PUBLIC_KEY;
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(key.getEncoded())
+                + "\n-----END " + type + "-----\n";
+    }
+
+    private static KeyFactory keyFactory(JwtKeyRing.Algorithm algorithm) throws GeneralSecurityException {
+        return switch (algorithm) {
+            case EdDSA -> KeyFactory.getInstance("Ed25519");
+            case ES256 -> KeyFactory.getInstance("EC");
+            case HMAC -> throw new IllegalStateException("HMAC 키는 PEM이 아니라 secret으로 설정합니다");
+        };
+    }
+
+    private static byte[] decode(String pemOrPath, String type) {
+        String pem = pemOrPath.strip().startsWith("-----BEGIN") ? pemOrPath : read(pemOrPath.strip());
+        String begin = "-----BEGIN " + type + "-----";
+        String end = "-----END " + type + "-----";
+        int start = pem.indexOf(begin);
+        int stop = pem.indexOf(end);
+        if (start < 0 || stop < start) {
+            throw new IllegalStateException("PEM 형식이 아닙니다 (" + begin + " 필요)");
+        }
+        return Base64.getMimeDecoder().decode(pem.substring(start + begin.length(), stop));
+    }
+
+    private static String read(String path) {
+        try {
+            return Files.readString(Path.of(path.startsWith("file:") ? path.substring("file:".length()) : path));
+        } catch (IOException e) {
+            throw new UncheckedIOException("JWT 키 파일을 읽을 수 없습니다: " + path, e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.bookman.auth.util;
+
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * JDK 21 ScopedValue(preview) 기반 SecurityContextHolderStrategy
+ *
+ * 요청마다 새 Virtual Thread가 쓰이므로 ThreadLocal 방식은 스레드마다 ThreadLocalMap을 만들고 지우는 비용만 남는다.
+ * 대신 {@link #callInScope}로 요청 처리 전체를 ScopedValue 바인딩 안에서 실행하고, 그 안의 컨텍스트는 바인딩된
+ * 슬롯 하나에 둔다. StructuredTaskScope로 fork한 하위 작업은 바인딩을 자동으로 물려받으므로 요청의 인증 정보를
+ * 그대로 본다. 바인딩 밖(스케줄러, @Async, 테스트 스레드, 에러 디스패치)에서는 ThreadLocal로 동작한다.
+ */
+public final class ScopedValueSecurityContextHolderStrategy implements SecurityContextHolderStrategy {
+
+    private static final ScopedValue<Slot> SLOT = ScopedValue.newInstance();
+
+    private final ThreadLocal<Supplier<SecurityContext>> fallback = new ThreadLocal<>();
+
+    /**
+     * 빈 컨텍스트 슬롯을 바인딩한 채로 작업을 실행 (슬롯은 작업이 끝나면 함께 사라진다)
+     */
+    public <R> R callInScope(Callable<R> task) throws Exception {
+        return ScopedValue.where(SLOT, new Slot()).call(task);
+    }
+
+    public boolean isScoped() {
+        return SLOT.isBound();
+    }
+
+    @Override
+    public void clearContext() {
+        if (SLOT.isBound()) {
+            SLOT.get().context = null;
+        } else {
+            fallback.remove();
+        }
+    }
+
+    @Override
+    public SecurityContext getContext() {
+        return getDeferredContext().get();
+    }
+
+    @Override
+    public Supplier<SecurityContext> getDeferredContext() {
+        Supplier<SecurityContext> result = current();
+        if (result == null) {
+            SecurityContext context = createEmptyContext();
+            result = () -> context;
+            store(result);
+        }
+        return result;
+    }
+
+    @Override
+    public void setContext(SecurityContext context) {
+        Assert.notNull(context, "Only non-null SecurityContext instances are permitted");
+        store(() -> context);
+    }
+
+    @Override
+    public void setDeferredContext(Supplier<SecurityContext> deferredContext) {
+        Assert.notNull(deferredContext, "Only non-null Supplier instances are permitted");
+        store(() -> {
+            SecurityContext result = deferredContext.get();
+            Assert.notNull(result, "A Supplier<SecurityContext> returned null and is not allowed.");
+            return result;
+        });
+    }
+
+    @Override
+    public SecurityContext createEmptyContext() {
+        return new SecurityContextImpl();
+    }
+
+    private Supplier<SecurityContext> current() {
+        return SLOT.isBound() ? SLOT.get().context : fallback.get();
+    }
+
+    private void store(Supplier<SecurityContext> context) {
+        if (SLOT.isBound()) {
+            SLOT.get().context = context;
+        } else {
+            fallback.set(context);
+        }
+    }
+
+    /**
+     * 요청 하나의 컨텍스트 보관 위치 (요청 스레드와 fork한 하위 작업이 같은 슬롯을 공유)
+     */
+    private static final class Slot {
+        private volatile Supplier<SecurityContext> context;
+    }
+}
@@ -0,0 +1,40 @@
+package com.bookman.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 토큰 저장/조회용 다이제스트와 불투명(opaque) 토큰 생성 유틸리티
+ *
+ * 원본 토큰 대신 SHA-256 다이제스트만 메모리/DB에 보관하기 위해 사용한다.
+ */
+public final class TokenDigests {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private TokenDigests() {
+    }
+
+    public static String sha256(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return ENCODER.encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * byteLength 바이트의 난수를 base64url로 인코딩한 토큰
+     */
+    public static String randomToken(int byteLength) {
+        byte[] bytes = new byte[byteLength];
+        RANDOM.nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
+    }
+}
@@ -0,0 +1,40 @@
+package com.bookman.auth.util;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * 서명 검증을 마친 JWT의 불변 표현
+ *
+ * 한 번 파싱한 결과를 요청 처리 전반에서 재사용하기 위해 사용한다.
+ */
+public record VerifiedToken(
+        String subject,
+        Instant issuedAt,
+        Instant expiration,
+        Claims claims
+) {
+
+    public static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                claims.getSubject(),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration()),
+                claims
+        );
+    }
+
+    public <T> T claim(String name, Class<T> type) {
+        return claims.get(name, type);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiration != null && !expiration.isAfter(now);
+    }
+
+    private static Instant toInstant(Date date) {
+        return date == null ? null : date.toInstant();
+    }
+}
@@ -1,26 +1,37 @@
 package com.bookman.author.entity;
 
+import com.bookman.common.persistence.PooledSequence;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "author")
+@Table(name = "author", indexes = @Index(name = "idx_author_deleted_at", columnList = "deleted_at"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@SQLDelete(sql = "UPDATE `Author` SET deleted_at = NOW() WHERE id = ?")
+@SQLDelete(sql = "UPDATE author SET deleted_at = NOW() WHERE author_id = ? AND version = ?")
 @SQLRestriction("deleted_at IS NULL")
 public class Author {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "author_seq")
     @Column(name = "author_id")
     private Integer authorId;
 
     @Column(nullable = false, length = 50)
     private String name;
+
+    // 엔티티를 통한 변경마다 증가 (조회 API의 ETag, soft delete 시 동시 수정 감지)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
 }
@@ -1,5 +1,6 @@
 package com.bookman.book.entity;
 
+import com.bookman.common.persistence.PooledSequence;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
@@ -8,18 +9,18 @@ import org.hibernate.annotations.SQLRestriction;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "book")
+@Table(name = "book", indexes = @Index(name = "idx_book_deleted_at", columnList = "deleted_at"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@SQLDelete(sql = "UPDATE `Book` SET deleted_at = NOW() WHERE id = ?")
+@SQLDelete(sql = "UPDATE book SET deleted_at = NOW() WHERE book_id = ? AND version = ?")
 @SQLRestriction("deleted_at IS NULL")
 public class Book {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "book_seq")
     @Column(name = "book_id")
     private Long bookId;
 
@@ -52,4 +53,12 @@ public class Book {
 
     @Column(name = "registered_date", nullable = false)
     private LocalDateTime registeredDate = LocalDateTime.now();
+
+    // 엔티티를 통한 변경마다 증가 (조회 API의 ETag, soft delete 시 동시 수정 감지)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
 }
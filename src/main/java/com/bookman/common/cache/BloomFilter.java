@@ -0,0 +1,100 @@
+package com.bookman.common.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 고정 크기 Bloom 필터 (스레드 안전, 잠금 없음)
+ *
+ * 예상 원소 수와 목표 오탐률로 비트 수(m)와 해시 수(k)를 정하고, 64비트 해시 하나에서
+ * 두 값을 뽑아 h1 + i*h2 방식(double hashing)으로 k개의 비트 위치를 만든다. 64비트 전체를 쓰므로
+ * 비트 수가 2^31을 넘는 큰 필터에서도 모든 위치가 사용된다.
+ * "없음" 응답은 항상 정확하며, "있을 수 있음" 응답만 정확한 저장소로 다시 확인하면 된다.
+ * 원소 삭제는 지원하지 않으므로 필요하면 새 필터로 다시 구성한다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) >>> 6));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash = hash64(value);
+        long h1 = hash;
+        // 비트 수가 64의 배수이므로 간격이 짝수면 일부 위치만 쓰게 된다 (홀수로 맞춤)
+        long h2 = Long.rotateLeft(hash, 32) | 1;
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        long h1 = hash;
+        long h2 = Long.rotateLeft(hash, 32) | 1;
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 비트 배열이 차지하는 대략적인 힙 크기(바이트)
+     */
+    public long memoryBytes() {
+        return bitCount >>> 3;
+    }
+
+    private long index(long combinedHash) {
+        // 음수 해시도 비트 범위 [0, bitCount) 안으로 매핑
+        return Math.floorMod(combinedHash, bitCount);
+    }
+
+    /**
+     * FNV-1a 64비트 해시 + murmur3 fmix64 마무리 (분포 개선)
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,184 @@
+package com.bookman.common.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 크기 제한 + 항목별 만료 시각을 가지는 인메모리 캐시
+ *
+ * 키 해시로 나눈 세그먼트마다 접근 순서 LinkedHashMap(LRU)과 락을 두어
+ * 경합을 줄이고, 세그먼트 용량을 넘으면 가장 오래 사용되지 않은 항목을 제거한다.
+ * 만료된 항목은 조회 시점 또는 {@link #purgeExpired()} 호출 시 제거된다.
+ */
+public class ExpiringCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+    private final LongSupplier clock;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpiringCache(int maxSize) {
+        this(maxSize, System::currentTimeMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ExpiringCache(int maxSize, LongSupplier clock) {
+        this.clock = clock;
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && segmentCount * 2 <= maxSize) {
+            segmentCount <<= 1;
+        }
+        int segmentCapacity = maxSize <= 0 ? 0 : (maxSize + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentCapacity, evictions);
+        }
+        this.segmentMask = segmentCount - 1;
+    }
+
+    /**
+     * 만료되지 않은 값을 반환하고, 없거나 만료되었으면 null
+     */
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        long now = clock.getAsLong();
+        segment.lock.lock();
+        try {
+            Entry<V> entry = segment.map.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.expiresAt() <= now) {
+                segment.map.remove(key);
+                evictions.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value();
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * expiresAtMillis(epoch ms)까지 유효한 값을 저장
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        Segment<K, V> segment = segmentFor(key);
+        if (segment.capacity == 0 || expiresAtMillis <= clock.getAsLong()) {
+            return;
+        }
+        segment.lock.lock();
+        try {
+            segment.map.put(key, new Entry<>(value, expiresAtMillis));
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.map.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.map.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 만료된 항목을 일괄 제거하고 제거한 개수를 반환
+     */
+    public int purgeExpired() {
+        long now = clock.getAsLong();
+        int removed = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                int before = segment.map.size();
+                segment.map.values().removeIf(entry -> entry.expiresAt() <= now);
+                removed += before - segment.map.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        evictions.add(removed);
+        return removed;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.map.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & segmentMask];
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private static final class Segment<K, V> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private final LinkedHashMap<K, Entry<V>> map;
+
+        private Segment(int capacity, LongAdder evictions) {
+            this.capacity = capacity;
+            this.map = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() > Segment.this.capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
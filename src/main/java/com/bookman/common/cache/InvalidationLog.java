@@ -0,0 +1,63 @@
+package com.bookman.common.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 캐시 무효화 순번 기록 (느린 조회가 무효화 이후에 오래된 값을 다시 넣지 못하게 막는 용도)
+ *
+ * 무효화마다 순번을 올리고 키별 마지막 무효화 순번을 남긴다. 조회 직전에 받은 순번({@link #stamp()})보다
+ * 뒤에 무효화된 키는 {@link #invalidatedSince}가 true를 돌려주므로 호출자는 조회 결과를 캐시에 넣지 않는다.
+ * 기록은 maxTracked개까지만 두고, 넘치면 전부 지운 뒤 기준 순번(floor)을 올린다. 기록이 지워진 키는
+ * floor 이전에 시작된 조회를 모두 무효화된 것으로 보므로 기록을 잃어도 오래된 값이 들어가지 않는다
+ * (그 대가로 진행 중이던 조회 몇 건이 캐시에 남지 않을 뿐이다).
+ */
+public class InvalidationLog<K> {
+
+    private final int maxTracked;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong floor = new AtomicLong();
+    private final ConcurrentHashMap<K, Long> lastInvalidated = new ConcurrentHashMap<>();
+
+    public InvalidationLog(int maxTracked) {
+        this.maxTracked = Math.max(1, maxTracked);
+    }
+
+    /**
+     * 현재 순번 (캐시에 넣을 값을 읽기 직전에 받는다)
+     */
+    public long stamp() {
+        return sequence.get();
+    }
+
+    public void invalidate(K key) {
+        if (lastInvalidated.size() >= maxTracked) {
+            reset();
+        }
+        long invalidatedAt = sequence.incrementAndGet();
+        lastInvalidated.merge(key, invalidatedAt, Math::max);
+    }
+
+    public void invalidateAll() {
+        reset();
+    }
+
+    /**
+     * stamp를 받은 뒤에 key(또는 전체)가 무효화되었으면 true
+     */
+    public boolean invalidatedSince(K key, long stamp) {
+        if (floor.get() > stamp) {
+            return true;
+        }
+        Long invalidatedAt = lastInvalidated.get(key);
+        return invalidatedAt != null && invalidatedAt > stamp;
+    }
+
+    /**
+     * 기록을 먼저 지우고 floor를 올린다 (그 사이 기록된 무효화는 floor 아래이거나 지워지지 않고 남는다)
+     */
+    private void reset() {
+        lastInvalidated.clear();
+        floor.accumulateAndGet(sequence.incrementAndGet(), Math::max);
+    }
+}
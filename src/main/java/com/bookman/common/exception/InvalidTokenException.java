@@ -0,0 +1,11 @@
+package com.bookman.common.exception;
+
+/**
+ * 리프레시 토큰 등 자격 증명 토큰이 유효하지 않을 때 사용하는 예외 (401)
+ */
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.bookman.common.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 처리 용량 초과로 요청을 즉시 거절할 때 사용하는 예외 (503 + Retry-After)
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,19 @@
+package com.bookman.common.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 로그인 실패 누적으로 잠긴 사용자명/IP의 요청을 비밀번호 검증 전에 거절할 때 사용하는 예외 (429 + Retry-After)
+ */
+@Getter
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TooManyLoginAttemptsException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
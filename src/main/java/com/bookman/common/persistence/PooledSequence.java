@@ -0,0 +1,35 @@
+package com.bookman.common.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * {@link PooledSequenceGenerator}로 ID를 할당하는 식별자 매핑
+ *
+ * <pre>
+ * &#64;Id
+ * &#64;PooledSequence(name = "users_seq")
+ * private Long userId;
+ * </pre>
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface PooledSequence {
+
+    /**
+     * 시퀀스 이름 (할당 크기 설정 키 bookman.id.allocation-size.&lt;name&gt;에도 사용)
+     */
+    String name();
+
+    /**
+     * 설정에 할당 크기가 없을 때 사용할 기본값
+     */
+    int allocationSize() default 50;
+}
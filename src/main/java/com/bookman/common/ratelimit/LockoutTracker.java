@@ -0,0 +1,170 @@
+package com.bookman.common.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 실패 횟수를 감쇠 윈도우로 세고, 임계값을 넘으면 점점 길어지는 잠금을 거는 추적기
+ *
+ * 실패 횟수는 고정 윈도우 두 개(직전/현재)를 두고 "직전 윈도우 × 남은 비율 + 현재 윈도우"로
+ * 근사한 슬라이딩 윈도우 값이다. 현재 윈도우 카운터는 LongAdder라서 같은 키에 실패가 몰려도
+ * CAS 경합이 없다. 잠금에 걸릴 때마다 잠금 시간이 base부터 두 배씩 늘어 max에서 멈추고,
+ * 성공하거나 잠금이 풀린 뒤 한 윈도우 동안 실패가 없으면 단계가 초기화된다.
+ * 메모리는 TokenBucketRateLimiter와 같은 샤딩된 크기 제한 맵으로 묶어 두고, 상한을 넘으면 잠기지 않은 키부터 밀어낸다.
+ */
+public class LockoutTracker {
+
+    private final Policy policy;
+    private final ShardedBoundedMap<Entry> entries;
+    private final LongSupplier nanoClock;
+
+    public LockoutTracker(Policy policy, int maxKeys) {
+        this(policy, maxKeys, 64, System::nanoTime);
+    }
+
+    public LockoutTracker(Policy policy, int maxKeys, int shardCount, LongSupplier nanoClock) {
+        this.policy = policy;
+        this.entries = new ShardedBoundedMap<>(maxKeys, shardCount,
+                (entry, now) -> entry.isIdle(now, policy.windowNanos()),
+                (entry, now) -> entry.lockedUntil - now <= 0);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 잠금이 남아 있으면 남은 시간(ns), 아니면 0
+     */
+    public long lockedForNanos(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return 0;
+        }
+        return Math.max(0, entry.lockedUntil - nanoClock.getAsLong());
+    }
+
+    /**
+     * 실패를 기록한다. 이번 실패로 잠금이 걸렸거나 이미 잠겨 있으면 잠금 남은 시간(ns), 아니면 0
+     */
+    public long recordFailure(String key) {
+        long now = nanoClock.getAsLong();
+        Entry entry = entries.getOrCreate(key, now, () -> new Entry(now, policy.windowNanos()));
+        long remaining = entry.lockedUntil - now;
+        if (remaining > 0) {
+            return remaining;
+        }
+
+        entry.rotate(now, policy.windowNanos());
+        entry.current.increment();
+        entry.lastFailure = now;
+        if (entry.estimate(now, policy.windowNanos()) < policy.threshold()) {
+            return 0;
+        }
+        return entry.lock(now, policy);
+    }
+
+    /**
+     * 성공 시 실패 기록과 잠금 단계를 모두 지운다
+     */
+    public void reset(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 실패가 모두 감쇠되고 잠금 단계도 초기화된 키를 제거하고 제거된 개수를 반환
+     */
+    public int evictIdle() {
+        return entries.evictIdle(nanoClock.getAsLong());
+    }
+
+    public int trackedKeys() {
+        return entries.size();
+    }
+
+    public long overflowEvictionCount() {
+        return entries.overflowEvictionCount();
+    }
+
+    /**
+     * window 안에서 threshold번 실패하면 baseLockout부터 두 배씩 늘어나는(최대 maxLockout) 잠금
+     */
+    public record Policy(int threshold, long windowNanos, long baseLockoutNanos, long maxLockoutNanos) {
+
+        public static Policy of(int threshold, Duration window, Duration baseLockout, Duration maxLockout) {
+            if (threshold <= 0 || window.isNegative() || window.isZero()
+                    || baseLockout.isNegative() || baseLockout.isZero() || maxLockout.compareTo(baseLockout) < 0) {
+                throw new IllegalArgumentException("threshold/window/baseLockout은 0보다 크고 maxLockout은 baseLockout 이상이어야 합니다");
+            }
+            return new Policy(threshold, window.toNanos(), baseLockout.toNanos(), maxLockout.toNanos());
+        }
+
+        long lockoutNanos(int level) {
+            long lockout = baseLockoutNanos;
+            for (int i = 0; i < level && lockout < maxLockoutNanos; i++) {
+                lockout <<= 1;
+            }
+            return Math.min(lockout, maxLockoutNanos);
+        }
+    }
+
+    private static final class Entry {
+
+        private final LongAdder current = new LongAdder();
+        private volatile long windowIndex;
+        private volatile long previous;
+        private volatile long lockedUntil;
+        private volatile long lastFailure;
+        // 연속 잠금 단계 (this로 보호)
+        private int lockouts;
+
+        private Entry(long now, long windowNanos) {
+            this.windowIndex = Math.floorDiv(now, windowNanos);
+            this.lockedUntil = now;
+            this.lastFailure = now;
+        }
+
+        /**
+         * 현재 시각이 다음 윈도우로 넘어갔으면 현재 카운터를 직전 윈도우로 옮긴다
+         */
+        private void rotate(long now, long windowNanos) {
+            long index = Math.floorDiv(now, windowNanos);
+            if (index <= windowIndex) {
+                return;
+            }
+            synchronized (this) {
+                long stored = windowIndex;
+                if (index <= stored) {
+                    return;
+                }
+                long count = current.sumThenReset();
+                previous = index == stored + 1 ? count : 0;
+                windowIndex = index;
+            }
+        }
+
+        private double estimate(long now, long windowNanos) {
+            double elapsed = (double) Math.floorMod(now, windowNanos) / windowNanos;
+            return previous * (1.0 - elapsed) + current.sum();
+        }
+
+        private synchronized long lock(long now, Policy policy) {
+            long remaining = lockedUntil - now;
+            if (remaining > 0) {
+                // 다른 스레드가 먼저 잠금
+                return remaining;
+            }
+            if (now - lockedUntil > policy.windowNanos() && lockouts > 0) {
+                // 직전 잠금이 풀린 뒤 한 윈도우 넘게 조용했으면 단계 초기화
+                lockouts = 0;
+            }
+            long lockout = policy.lockoutNanos(lockouts++);
+            lockedUntil = now + lockout;
+            current.reset();
+            previous = 0;
+            return lockout;
+        }
+
+        private boolean isIdle(long now, long windowNanos) {
+            return now - lastFailure >= 2 * windowNanos && now - lockedUntil >= windowNanos;
+        }
+    }
+}
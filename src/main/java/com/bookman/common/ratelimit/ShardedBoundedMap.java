@@ -0,0 +1,159 @@
+package com.bookman.common.ratelimit;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 레이트 리미터/잠금 추적기가 키별 상태를 담는 샤딩된 크기 제한 맵
+ *
+ * 키 해시로 샤드를 고르고 샤드마다 ConcurrentHashMap과 크기 카운터를 둔다. 샤드가 가득 찬 상태에서
+ * 새 키가 들어오면 샤드 앞쪽 일부(한 번에 비울 개수의 4배)만 훑어 최대 capacity/16개를 비운다.
+ * 유휴 값 → 밀어내도 되는 값 → 아무 값 순으로 고르며, 한 번 비우면 그만큼의 삽입은 다시 정리하지 않으므로
+ * 삽입당 비용이 상수로 묶인다. 샤드 전체를 훑는 유휴 정리는 주기적으로 호출되는 {@link #evictIdle}이 맡는다.
+ */
+final class ShardedBoundedMap<V> {
+
+    /**
+     * now(ns) 시점의 값 판정 (long을 박싱하지 않도록 BiPredicate 대신 사용)
+     */
+    @FunctionalInterface
+    interface Check<V> {
+        boolean test(V value, long now);
+    }
+
+    private final Shard<V>[] shards;
+    private final int shardMask;
+    private final Check<V> idle;
+    private final Check<V> evictable;
+    private final LongAdder overflowEvictions = new LongAdder();
+
+    /**
+     * @param idle      정보 손실 없이 지울 수 있는 값
+     * @param evictable 상한을 지키려고 밀어낼 때 먼저 고를 값 (없으면 아무 값이나 밀어낸다)
+     */
+    @SuppressWarnings("unchecked")
+    ShardedBoundedMap(int maxKeys, int shardCount, Check<V> idle, Check<V> evictable) {
+        int count = Integer.highestOneBit(Math.max(1, shardCount));
+        int perShard = Math.max(1, (maxKeys + count - 1) / count);
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard<>(perShard);
+        }
+        this.shardMask = count - 1;
+        this.idle = idle;
+        this.evictable = evictable;
+    }
+
+    V get(String key) {
+        return shardFor(key).values.get(key);
+    }
+
+    /**
+     * 키의 값을 반환하고, 없으면 (필요하면 자리를 비운 뒤) factory로 만들어 넣는다
+     */
+    V getOrCreate(String key, long now, Supplier<V> factory) {
+        Shard<V> shard = shardFor(key);
+        V existing = shard.values.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (shard.size.get() >= shard.capacity) {
+            makeRoom(shard, now);
+        }
+        V created = factory.get();
+        V raced = shard.values.putIfAbsent(key, created);
+        if (raced != null) {
+            return raced;
+        }
+        shard.size.incrementAndGet();
+        return created;
+    }
+
+    void remove(String key) {
+        Shard<V> shard = shardFor(key);
+        if (shard.values.remove(key) != null) {
+            shard.size.decrementAndGet();
+        }
+    }
+
+    /**
+     * 모든 샤드에서 유휴 값을 제거하고 제거된 개수를 반환
+     */
+    int evictIdle(long now) {
+        int removed = 0;
+        for (Shard<V> shard : shards) {
+            Iterator<V> iterator = shard.values.values().iterator();
+            while (iterator.hasNext()) {
+                if (idle.test(iterator.next(), now)) {
+                    iterator.remove();
+                    shard.size.decrementAndGet();
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    int size() {
+        int total = 0;
+        for (Shard<V> shard : shards) {
+            total += shard.size.get();
+        }
+        return total;
+    }
+
+    long overflowEvictionCount() {
+        return overflowEvictions.sum();
+    }
+
+    private void makeRoom(Shard<V> shard, long now) {
+        int toEvict = Math.max(1, shard.capacity / 16);
+        if (removeFirst(shard, toEvict, idle, now, false) > 0) {
+            return;
+        }
+        if (removeFirst(shard, toEvict, evictable, now, true) > 0) {
+            return;
+        }
+        removeFirst(shard, toEvict, (value, at) -> true, now, true);
+    }
+
+    /**
+     * 샤드 앞쪽 limit × 4개 안에서 조건에 맞는 값을 최대 limit개 제거
+     */
+    private int removeFirst(Shard<V> shard, int limit, Check<V> candidate, long now, boolean overflow) {
+        int removed = 0;
+        int scanned = 0;
+        Iterator<V> iterator = shard.values.values().iterator();
+        while (iterator.hasNext() && removed < limit && scanned++ < limit * 4) {
+            if (candidate.test(iterator.next(), now)) {
+                iterator.remove();
+                shard.size.decrementAndGet();
+                if (overflow) {
+                    overflowEvictions.increment();
+                }
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private Shard<V> shardFor(String key) {
+        int hash = key.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & shardMask];
+    }
+
+    private static final class Shard<V> {
+
+        private final Map<String, V> values = new ConcurrentHashMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final int capacity;
+
+        private Shard(int capacity) {
+            this.capacity = capacity;
+        }
+    }
+}
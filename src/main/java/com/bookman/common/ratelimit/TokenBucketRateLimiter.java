@@ -0,0 +1,78 @@
+package com.bookman.common.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 레이트 리미터 (잠금 없음, 샤딩된 크기 제한 맵)
+ *
+ * 버킷 상태는 GCRA(Generic Cell Rate Algorithm) 방식으로 "다음 토큰이 채워지는 이론적 시각"
+ * 하나만 AtomicLong에 보관하므로, 허용 여부 판단은 CAS 한 번으로 끝나고 토큰 버킷과 같은
+ * 결과(capacity만큼 버스트 후 일정 속도로 보충)를 낸다. 이론적 시각이 현재보다 과거인 버킷은
+ * 가득 찬 새 버킷과 같으므로 정보 손실 없이 제거할 수 있고, 이를 유휴 키 정리에 사용한다.
+ */
+public class TokenBucketRateLimiter {
+
+    private final ShardedBoundedMap<AtomicLong> buckets;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketRateLimiter(int maxKeys) {
+        this(maxKeys, 64, System::nanoTime);
+    }
+
+    public TokenBucketRateLimiter(int maxKeys, int shardCount, LongSupplier nanoClock) {
+        // 유휴 버킷이 없으면 어느 버킷을 밀어내도 같으므로 밀어낼 후보를 가리지 않는다
+        this.buckets = new ShardedBoundedMap<>(maxKeys, shardCount,
+                (bucket, now) -> bucket.get() <= now, (bucket, now) -> true);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 토큰 하나를 소비한다. 허용되면 0, 거절되면 다음 토큰까지 남은 시간(ns)을 반환
+     */
+    public long tryAcquire(String key, Limit limit) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = buckets.getOrCreate(key, now, () -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long theoreticalArrival = bucket.get();
+            long next = Math.max(theoreticalArrival, now) + limit.emissionIntervalNanos();
+            long allowAt = next - limit.burstToleranceNanos();
+            if (allowAt > now) {
+                return allowAt - now;
+            }
+            if (bucket.compareAndSet(theoreticalArrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬(유휴) 버킷을 모두 제거하고 제거된 개수를 반환
+     */
+    public int evictIdle() {
+        return buckets.evictIdle(nanoClock.getAsLong());
+    }
+
+    public int trackedKeys() {
+        return buckets.size();
+    }
+
+    public long overflowEvictionCount() {
+        return buckets.overflowEvictionCount();
+    }
+
+    /**
+     * 버킷 용량(capacity)과 보충 주기(refillPeriod 동안 capacity개 보충)로 정의된 한도
+     */
+    public record Limit(long emissionIntervalNanos, long burstToleranceNanos) {
+
+        public static Limit of(int capacity, Duration refillPeriod) {
+            if (capacity <= 0 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+                throw new IllegalArgumentException("capacity와 refillPeriod는 0보다 커야 합니다");
+            }
+            long interval = Math.max(1, refillPeriod.toNanos() / capacity);
+            return new Limit(interval, interval * capacity);
+        }
+    }
+}
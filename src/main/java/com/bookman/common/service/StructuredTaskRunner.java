@@ -0,0 +1,172 @@
+package com.bookman.common.service;
+
+import com.bookman.common.exception.ServiceOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * JDK 21 StructuredTaskScope(preview) 기반 하위 작업 실행기
+ *
+ * 하위 작업은 요청 스레드가 연 스코프 안에서 Virtual Thread로 실행되고, 요청별 마감 시각을
+ * 넘기거나 하나라도 실패하거나 요청 스레드가 인터럽트되면 남은 하위 작업이 모두 취소된다.
+ * 공용 ForkJoinPool에 고아 Future가 쌓이지 않도록 CompletableFuture 대신 사용한다.
+ * 하위 작업에는 호출자의 트랜잭션/영속성 컨텍스트가 전파되지 않으므로 트랜잭션 안에서는 BCrypt, JWT 서명 같은
+ * 순수 CPU 작업만 fork하고 리포지토리 작업은 호출 스레드에서 실행한다.
+ */
+@Component
+@Slf4j
+public class StructuredTaskRunner {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final AtomicLong forkedSubtasks = new AtomicLong();
+    private final AtomicLong cancelledSubtasks = new AtomicLong();
+    private final AtomicLong deadlineExceeded = new AtomicLong();
+
+    /**
+     * 하나의 작업을 마감 시각까지 실행
+     */
+    public <T> T invoke(String name, Instant deadline, Callable<T> task) {
+        try (var scope = open(name)) {
+            Subtask<T> subtask = fork(scope, task);
+            join(scope, name, deadline, List.of(subtask));
+            return subtask.get();
+        }
+    }
+
+    /**
+     * 두 작업을 동시에 실행하고 둘 다 성공하면 결과를 합친다 (하나가 실패하면 나머지는 취소)
+     */
+    public <A, B, R> R invokeAll(String name, Instant deadline, Callable<A> first, Callable<B> second,
+                                 BiFunction<A, B, R> combiner) {
+        try (var scope = open(name)) {
+            Subtask<A> firstTask = fork(scope, first);
+            Subtask<B> secondTask = fork(scope, second);
+            join(scope, name, deadline, List.of(firstTask, secondTask));
+            return combiner.apply(firstTask.get(), secondTask.get());
+        }
+    }
+
+    /**
+     * CPU 작업 하나를 fork하고, 그동안 호출 스레드에서 callerTask를 실행한 뒤 결과를 합친다
+     *
+     * fork한 Virtual Thread에는 호출자의 트랜잭션/영속성 컨텍스트가 없으므로 DB 작업은 callerTask로만 넘긴다.
+     * callerTask가 실패하면 fork한 작업을 취소하고 그 예외를 그대로 던진다.
+     */
+    public <A, B, R> R invokeAlongside(String name, Instant deadline, Callable<A> forked, Supplier<B> callerTask,
+                                       BiFunction<A, B, R> combiner) {
+        try (var scope = open(name)) {
+            Subtask<A> forkedTask = fork(scope, forked);
+            B callerResult;
+            try {
+                callerResult = callerTask.get();
+            } catch (RuntimeException | Error e) {
+                scope.shutdown();
+                awaitShutdown(scope);
+                countCancelled(List.of(forkedTask));
+                throw e;
+            }
+            join(scope, name, deadline, List.of(forkedTask));
+            return combiner.apply(forkedTask.get(), callerResult);
+        }
+    }
+
+    /**
+     * 여러 작업을 동시에 실행하고 결과를 입력 순서대로 반환 (하나가 실패하면 나머지는 취소)
+     */
+    public <T> List<T> invokeAll(String name, Instant deadline, List<? extends Callable<T>> tasks) {
+        try (var scope = open(name)) {
+            List<Subtask<T>> subtasks = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                subtasks.add(fork(scope, task));
+            }
+            join(scope, name, deadline, subtasks);
+            return subtasks.stream().map(Subtask::get).toList();
+        }
+    }
+
+    public long forkedSubtaskCount() {
+        return forkedSubtasks.get();
+    }
+
+    public long cancelledSubtaskCount() {
+        return cancelledSubtasks.get();
+    }
+
+    public long deadlineExceededCount() {
+        return deadlineExceeded.get();
+    }
+
+    private StructuredTaskScope.ShutdownOnFailure open(String name) {
+        return new StructuredTaskScope.ShutdownOnFailure(name, Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    private <T> Subtask<T> fork(StructuredTaskScope.ShutdownOnFailure scope, Callable<T> task) {
+        forkedSubtasks.incrementAndGet();
+        return scope.fork(task);
+    }
+
+    private void join(StructuredTaskScope.ShutdownOnFailure scope, String name, Instant deadline,
+                      List<? extends Subtask<?>> subtasks) {
+        try {
+            scope.joinUntil(deadline);
+        } catch (TimeoutException e) {
+            // 마감 시각이 지나면 스코프가 종료되며 끝나지 않은 하위 작업은 인터럽트된다
+            deadlineExceeded.incrementAndGet();
+            countCancelled(subtasks);
+            log.warn("⏰ {} 마감 시각 초과 - 남은 하위 작업 취소", name);
+            throw new ServiceOverloadedException("요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER);
+        } catch (InterruptedException e) {
+            // 요청 스레드가 중단되면 스코프를 닫으면서 하위 작업도 함께 취소된다
+            Thread.currentThread().interrupt();
+            scope.shutdown();
+            countCancelled(subtasks);
+            throw new IllegalStateException(name + " 처리가 취소되었습니다", e);
+        }
+        scope.throwIfFailed(StructuredTaskRunner::propagate);
+    }
+
+    /**
+     * 종료(shutdown)한 스코프의 하위 작업이 끝나기를 기다린다 (join 없이 닫으면 close()가 예외를 던짐)
+     */
+    private static void awaitShutdown(StructuredTaskScope.ShutdownOnFailure scope) {
+        try {
+            scope.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void countCancelled(List<? extends Subtask<?>> subtasks) {
+        for (Subtask<?> subtask : subtasks) {
+            if (subtask.state() == Subtask.State.UNAVAILABLE) {
+                cancelledSubtasks.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 하위 작업의 런타임 예외(BadCredentialsException 등)는 그대로 전달
+     */
+    private static RuntimeException propagate(Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("하위 작업 실패", failure);
+    }
+}
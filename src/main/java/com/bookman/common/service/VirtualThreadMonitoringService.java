@@ -1,5 +1,6 @@
 package com.bookman.common.service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Async;
@@ -13,6 +14,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.concurrent.atomic.AtomicLong;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 @ConditionalOnProperty(
     value = "spring.threads.virtual.enabled", 
@@ -21,6 +23,7 @@ import java.util.concurrent.atomic.AtomicLong;
 )
 public class VirtualThreadMonitoringService {
 
+    private final StructuredTaskRunner structuredTaskRunner;
     private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
     private final AtomicLong virtualThreadCount = new AtomicLong(0);
     private final AtomicLong asyncTaskCount = new AtomicLong(0);
@@ -45,6 +48,9 @@ public class VirtualThreadMonitoringService {
         
         log.info("📊 [{}] Virtual Thread 모니터링 - 총 스레드: {}, 최대 스레드: {}, 비동기 작업: {}", 
                 timestamp, totalThreads, peakThreads, currentAsyncTasks);
+        log.info("🧵 [{}] Structured 하위 작업 - 실행: {}, 취소: {}, 마감 초과: {}",
+                timestamp, structuredTaskRunner.forkedSubtaskCount(),
+                structuredTaskRunner.cancelledSubtaskCount(), structuredTaskRunner.deadlineExceededCount());
     }
 
     /**
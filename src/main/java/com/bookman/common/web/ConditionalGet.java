@@ -0,0 +1,72 @@
+package com.bookman.common.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * 엔티티 버전 기반 조건부 GET (ETag / If-None-Match)
+ *
+ * ETag는 "리소스 종류-ID-버전"으로 만들며, 엔티티의 @Version이 바뀌면 표현도 바뀐 것으로 본다.
+ * 요청의 If-None-Match가 현재 ETag와 같으면 응답 DTO를 만들지도, 직렬화하지도 않고 304로 끝낸다.
+ * Spring Security는 기본으로 no-store를 붙이므로, 브라우저가 재검증할 수 있게 Cache-Control을 직접 지정한다.
+ * (JPQL 벌크 UPDATE/네이티브 쿼리는 @Version을 올리지 않으므로, 이 방식을 쓰는 엔티티는 엔티티를 통해서만 수정해야 한다)
+ */
+public final class ConditionalGet {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * 강한 ETag (예: "user-42-v3")
+     */
+    public static String etag(String resource, Object id, Number version) {
+        return "\"" + resource + "-" + id + "-v" + version + "\"";
+    }
+
+    /**
+     * If-None-Match가 etag와 맞으면 304, 아니면 body를 만들어 200 (둘 다 ETag 포함)
+     */
+    public static <T> ResponseEntity<T> respond(WebRequest request, String etag, Supplier<T> body) {
+        if (isNotModified(request.getHeaderValues(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(REVALIDATE)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .body(body.get());
+    }
+
+    /**
+     * If-None-Match는 약한 비교를 쓰므로 W/ 접두사는 무시한다 (RFC 9110 13.1.2)
+     */
+    static boolean isNotModified(String[] ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String header : ifNoneMatch) {
+            for (String candidate : header.split(",")) {
+                String tag = candidate.strip();
+                if (tag.equals("*")) {
+                    return true;
+                }
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,27 @@
+package com.bookman.user.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "user.import")
+@Getter
+@Setter
+public class UserImportConfig {
+    // 한 트랜잭션/JDBC 배치로 저장할 행 수 (메모리에 동시에 올라가는 최대 행 수이기도 함)
+    private int batchSize = 500;
+    // 동시에 해시할 비밀번호 수 (0이면 비밀번호 해시 워커의 절반, 나머지는 로그인용으로 남김)
+    private int hashConcurrency = 0;
+    // 한 배치의 비밀번호 해시 마감 시간
+    private Duration hashDeadline = Duration.ofMinutes(2);
+    // 한 행의 최대 길이 (초과한 행은 실패로 보고하고 건너뜀)
+    private int maxLineLength = 4096;
+
+    public int resolvedHashConcurrency(int hashThreads) {
+        return hashConcurrency > 0 ? hashConcurrency : Math.max(1, hashThreads / 2);
+    }
+}
@@ -0,0 +1,281 @@
+package com.bookman.user.controller;
+
+import com.bookman.common.exception.ErrorResponse;
+import com.bookman.user.dto.UserCursor;
+import com.bookman.user.dto.UserImportResult;
+import com.bookman.user.dto.UserPageResponse;
+import com.bookman.user.dto.UserResponse;
+import com.bookman.user.entity.User;
+import com.bookman.user.repository.UserRepository;
+import com.bookman.user.service.UserImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(
+    name = "🛠️ Admin User Management",
+    description = """
+        ## 관리자용 사용자 관리 API
+
+        제휴 도서관 온보딩 등 관리자 작업용 사용자 API입니다.
+
+        ### 🔒 인증 요구사항
+        - 관리자(ADMIN) 토큰이 필요합니다
+        """
+)
+@SecurityRequirement(name = "JWT")
+public class AdminUserController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+    private static final List<MediaType> IMPORT_MEDIA_TYPES = List.of(TEXT_CSV, MediaType.APPLICATION_NDJSON);
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final UserRepository userRepository;
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping
+    @Operation(
+        summary = "📋 사용자 목록",
+        description = """
+            최근 가입 순으로 사용자 목록을 조회합니다. 전체 건수 없이 커서로 다음 페이지를 이어 받습니다.
+
+            **📋 사용 방법:**
+            - 첫 페이지는 `cursor` 없이 호출
+            - 응답의 `nextCursor`를 다음 요청의 `cursor`로 전달 (`hasNext`가 false면 마지막 페이지)
+            - `role`, `active`로 필터링 (커서는 같은 필터로만 사용)
+
+            **🔐 권한:** ADMIN 역할만 접근 가능
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "✅ 조회 성공",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = UserPageResponse.class),
+                examples = @ExampleObject(
+                    name = "성공 응답",
+                    value = """
+                    {
+                        "users": [
+                            {
+                                "userId": 2,
+                                "username": "admin",
+                                "email": "admin@bookman.com",
+                                "fullName": "관리자",
+                                "role": "ADMIN",
+                                "isActive": true,
+                                "createdAt": "2025-06-05T10:30:00"
+                            }
+                        ],
+                        "nextCursor": "MjAyNS0wNi0wNVQxMDozMHwy",
+                        "hasNext": true
+                    }
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "❌ 잘못된 커서 또는 페이지 크기",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<UserPageResponse> listUsers(
+            @RequestParam(required = false) User.Role role,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1-" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        UserCursor after = cursor == null || cursor.isBlank() ? null : UserCursor.decode(cursor);
+
+        // 한 행 더 읽어 다음 페이지가 있는지 판단 (COUNT 쿼리 없음)
+        List<UserResponse> users = userRepository.findPage(role, active, after, size + 1);
+        boolean hasNext = users.size() > size;
+        if (hasNext) {
+            users = users.subList(0, size);
+        }
+
+        return ResponseEntity.ok(UserPageResponse.builder()
+                .users(users)
+                .nextCursor(hasNext ? UserCursor.after(users.get(users.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build());
+    }
+
+    @PostMapping(
+        value = "/import",
+        consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+        produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(
+        summary = "📥 사용자 대량 가져오기",
+        description = """
+            CSV(`text/csv`) 또는 NDJSON(`application/x-ndjson`) 본문을 스트리밍으로 읽어 사용자를 생성합니다.
+
+            **📋 행 형식:**
+            - CSV: 첫 줄 헤더 `username,email,password,fullName[,role]`
+            - NDJSON: 한 줄에 `{"username":..,"email":..,"password":..,"fullName":..,"role":..}`
+            - role은 생략 시 USER, 검증 규칙은 회원가입과 같습니다
+
+            **📤 응답 (NDJSON 스트림):**
+            - `FAILED`: 실패한 행마다 (줄 번호, 사유)
+            - `PROGRESS`: 배치(`user.import.batch-size`)가 저장될 때마다 누적 건수
+            - `SUMMARY`: 마지막 한 줄 (중단된 경우 `error` 포함, 앞선 배치는 이미 저장됨)
+
+            **🔐 권한:** ADMIN 역할만 접근 가능
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "✅ 가져오기 진행 (결과 스트림)",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                schema = @Schema(implementation = UserImportResult.class),
+                examples = @ExampleObject(
+                    name = "결과 스트림",
+                    value = """
+                    {"type":"FAILED","line":3,"username":"dup","error":"이미 사용 중인 사용자명입니다."}
+                    {"type":"PROGRESS","processed":500,"created":499,"failed":1,"elapsedMs":1830}
+                    {"type":"SUMMARY","processed":742,"created":741,"failed":1,"elapsedMs":2710}
+                    """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "❌ CSV 헤더 오류",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "415",
+            description = "❌ Content-Type 누락 또는 지원하지 않는 형식",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON_VALUE,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    public void importUsers(HttpServletRequest request, HttpServletResponse response)
+            throws IOException, HttpMediaTypeNotSupportedException {
+        UserImportService.Format format = importFormat(request.getContentType());
+        ResultStream results = new ResultStream(response);
+
+        UserImportResult summary;
+        try {
+            summary = userImportService.importUsers(request.getInputStream(), format, results);
+        } catch (RuntimeException e) {
+            if (!results.started || e instanceof UncheckedIOException) {
+                // 아무것도 쓰기 전(헤더 오류 등)이면 일반 오류 응답으로, 연결이 끊겼으면 그대로 종료
+                throw e;
+            }
+            log.warn("📥 사용자 가져오기 중단: {}", e.getMessage());
+            summary = UserImportResult.builder()
+                    .type(UserImportResult.Type.SUMMARY)
+                    .error(e.getMessage())
+                    .build();
+        }
+        results.accept(summary);
+    }
+
+    /**
+     * Content-Type으로 가져오기 형식을 고른다 (없거나 해석할 수 없으면 415)
+     */
+    private static UserImportService.Format importFormat(String contentType) throws HttpMediaTypeNotSupportedException {
+        if (!StringUtils.hasText(contentType)) {
+            throw new HttpMediaTypeNotSupportedException(null, IMPORT_MEDIA_TYPES, HttpMethod.POST);
+        }
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            throw new HttpMediaTypeNotSupportedException(null, IMPORT_MEDIA_TYPES, HttpMethod.POST);
+        }
+        if (mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+            return UserImportService.Format.NDJSON;
+        }
+        if (mediaType.isCompatibleWith(TEXT_CSV)) {
+            return UserImportService.Format.CSV;
+        }
+        throw new HttpMediaTypeNotSupportedException(mediaType, IMPORT_MEDIA_TYPES, HttpMethod.POST);
+    }
+
+    /**
+     * 결과를 한 줄씩 쓰고 바로 flush 하는 NDJSON 스트림 (첫 줄을 쓸 때 응답 헤더를 확정)
+     */
+    private final class ResultStream implements Consumer<UserImportResult> {
+
+        private final HttpServletResponse response;
+        private OutputStream out;
+        private boolean started;
+
+        private ResultStream(HttpServletResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void accept(UserImportResult result) {
+            try {
+                if (!started) {
+                    response.setStatus(HttpServletResponse.SC_OK);
+                    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+                    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                    out = response.getOutputStream();
+                    started = true;
+                }
+                out.write(objectMapper.writeValueAsBytes(result));
+                out.write('\n');
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("가져오기 결과를 보내지 못했습니다", e);
+            }
+        }
+    }
+}
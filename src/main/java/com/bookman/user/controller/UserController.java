@@ -1,8 +1,13 @@
 package com.bookman.user.controller;
 
+import com.bookman.auth.principal.ApiKeyPrincipal;
+import com.bookman.auth.principal.JwtPrincipal;
+import com.bookman.auth.service.UserDetailsCache;
 import com.bookman.common.exception.ErrorResponse;
+import com.bookman.common.web.ConditionalGet;
 import com.bookman.user.dto.UserResponse;
 import com.bookman.user.entity.User;
+import com.bookman.user.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -16,10 +21,12 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/users")
@@ -48,6 +55,10 @@ import org.springframework.web.bind.annotation.RestController;
 @SecurityRequirement(name = "JWT")
 public class UserController {
 
+    private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final SecurityContextHolderStrategy securityContextHolderStrategy;
+
     @GetMapping("/me")
     @Operation(
         summary = "👤 내 정보 조회",
@@ -59,6 +70,8 @@ public class UserController {
             - 권한 정보: 역할(USER/ADMIN), 활성 상태
             - 시스템 정보: 계정 생성일
             
+            **🔁 조건부 조회:** 응답의 `ETag`를 `If-None-Match`로 보내면 변경이 없을 때 본문 없이 304
+            
             **🔐 권한:** 로그인한 모든 사용자
             """
     )
@@ -101,6 +114,7 @@ public class UserController {
                 }
             )
         ),
+        @ApiResponse(responseCode = "304", description = "✅ 변경 없음 (If-None-Match 일치)"),
         @ApiResponse(
             responseCode = "401",
             description = "❌ 인증 실패",
@@ -121,21 +135,21 @@ public class UserController {
             )
         )
     })
-    public ResponseEntity<UserResponse> getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = (User) authentication.getPrincipal();
-
-        UserResponse response = UserResponse.builder()
-                .userId(user.getUserId())
-                .username(user.getUsername())
-                .email(user.getEmail())
-                .fullName(user.getFullName())
-                .role(user.getRole().name())
-                .isActive(user.getIsActive())
-                .createdAt(user.getCreatedAt())
-                .build();
+    public ResponseEntity<UserResponse> getCurrentUser(WebRequest request) {
+        Authentication authentication = securityContextHolderStrategy.getContext().getAuthentication();
+        User user = resolveUser(authentication.getPrincipal());
 
-        return ResponseEntity.ok(response);
+        // 폴링하는 클라이언트는 If-None-Match로 304를 받아 DTO 생성/직렬화를 건너뛴다
+        return ConditionalGet.respond(request, ConditionalGet.etag("user", user.getUserId(), user.getVersion()),
+                () -> UserResponse.builder()
+                        .userId(user.getUserId())
+                        .username(user.getUsername())
+                        .email(user.getEmail())
+                        .fullName(user.getFullName())
+                        .role(user.getRole().name())
+                        .isActive(user.getIsActive())
+                        .createdAt(user.getCreatedAt())
+                        .build());
     }
 
     @GetMapping("/admin-only")
@@ -245,4 +259,26 @@ public class UserController {
     public ResponseEntity<String> userOnly() {
         return ResponseEntity.ok("일반 사용자만 볼 수 있는 내용입니다.");
     }
+
+    /**
+     * 무상태 주체(JwtPrincipal)는 프로필 정보(이메일, 이름, 생성일)와 ETag용 엔티티 버전이 없으므로 사용자 캐시에서 채운다
+     * 보안 버전은 인증 필터가 이미 확인했고, 프로필 변경은 커밋 직후 캐시에서 빠지므로 캐시 적중이면 DB 조회 없이 응답/304를 만든다.
+     * API 키 주체는 사용자 계정이 아니므로 거절
+     */
+    private User resolveUser(Object principal) {
+        if (principal instanceof ApiKeyPrincipal) {
+            throw new IllegalArgumentException("API 키로는 사용자 정보를 조회할 수 없습니다.");
+        }
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            User cached = userDetailsCache.get(jwtPrincipal.username());
+            if (cached != null && cached.getUserId().equals(jwtPrincipal.userId())) {
+                return cached;
+            }
+            long stamp = userDetailsCache.stamp();
+            User user = userRepository.findById(jwtPrincipal.userId())
+                    .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + jwtPrincipal.username()));
+            return userDetailsCache.put(user, stamp);
+        }
+        return (User) principal;
+    }
 }
@@ -0,0 +1,39 @@
+package com.bookman.user.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 사용자 목록 keyset 페이지네이션 커서 (마지막으로 받은 행의 created_at, user_id)
+ *
+ * 클라이언트에는 내용을 해석하지 말라는 의미로 base64url 문자열로 내보낸다.
+ */
+public record UserCursor(LocalDateTime createdAt, Long userId) {
+
+    private static final char SEPARATOR = '|';
+
+    public static UserCursor after(UserResponse user) {
+        return new UserCursor(user.getCreatedAt(), user.getUserId());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + userId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 잘못된 커서면 IllegalArgumentException (400)
+     */
+    public static UserCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new UserCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.bookman.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 가져오기 응답 스트림(NDJSON)의 한 줄
+ *
+ * FAILED는 실패한 행마다, PROGRESS는 배치가 끝날 때마다, SUMMARY는 마지막에 한 번 나간다.
+ * 처리 도중 중단되면 SUMMARY의 error에 원인이 담기며, 그 전 배치까지는 이미 저장되어 있다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserImportResult {
+    private Type type;
+    private Integer line;
+    private String username;
+    private String error;
+    private Long processed;
+    private Long created;
+    private Long failed;
+    private Long elapsedMs;
+
+    public enum Type {
+        FAILED, PROGRESS, SUMMARY
+    }
+
+    public static UserImportResult failed(int line, String username, String error) {
+        return UserImportResult.builder()
+                .type(Type.FAILED)
+                .line(line)
+                .username(username)
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.bookman.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 가져오기의 한 행 (CSV 헤더 또는 NDJSON 필드 이름과 같음, role은 생략 시 USER)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportRow {
+    private String username;
+    private String email;
+    private String password;
+    private String fullName;
+    private String role;
+}
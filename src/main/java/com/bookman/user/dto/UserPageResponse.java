@@ -0,0 +1,21 @@
+package com.bookman.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserPageResponse {
+    private List<UserResponse> users;
+    // 다음 페이지 요청에 그대로 넘기는 커서 (마지막 페이지면 없음)
+    private String nextCursor;
+    private boolean hasNext;
+}
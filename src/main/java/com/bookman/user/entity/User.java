@@ -1,5 +1,7 @@
 package com.bookman.user.entity;
 
+import com.bookman.common.persistence.PooledSequence;
+import com.bookman.user.event.UserEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SQLDelete;
@@ -13,25 +15,46 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(
+    name = "users",
+    uniqueConstraints = {
+        @UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username"),
+        @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email")
+    },
+    // 관리자 목록의 keyset 페이지네이션용 (필터 없음 / 역할만 / 활성 상태만 / 역할·활성 상태 필터)
+    // 필터 조합마다 등치 조건 뒤에 (created_at, user_id)가 이어져야 깊은 페이지도 범위 스캔으로 끝난다
+    indexes = {
+        @Index(name = "idx_users_created_at_user_id", columnList = "created_at, user_id"),
+        @Index(name = "idx_users_role_created_at", columnList = "role, created_at, user_id"),
+        @Index(name = "idx_users_active_created_at", columnList = "is_active, created_at, user_id"),
+        @Index(name = "idx_users_role_active_created_at", columnList = "role, is_active, created_at, user_id"),
+        // soft delete된 행 보관 작업용
+        @Index(name = "idx_users_deleted_at", columnList = "deleted_at")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@SQLDelete(sql = "UPDATE users SET deleted_at = NOW() WHERE user_id = ?")
+@SQLDelete(sql = "UPDATE users SET deleted_at = NOW() WHERE user_id = ? AND version = ?")
 @SQLRestriction("deleted_at IS NULL")
+@EntityListeners(UserEntityListener.class)
 public class User implements UserDetails {
 
+    // 회원가입 시 중복 여부를 이 제약 조건 위반으로 판단
+    public static final String USERNAME_CONSTRAINT = "uk_users_username";
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence(name = "users_seq")
     @Column(name = "user_id")
     private Long userId;
 
-    @Column(nullable = false, unique = true, length = 50)
+    @Column(nullable = false, length = 50)
     private String username;
 
-    @Column(nullable = false, unique = true, length = 100)
+    @Column(nullable = false, length = 100)
     private String email;
 
     @Column(nullable = false)
@@ -40,15 +63,29 @@ public class User implements UserDetails {
     @Column(name = "full_name", length = 100)
     private String fullName;
 
+    // 권한/활성 상태는 changeRole/activate/deactivate로만 변경 (securityVersion 증가를 빠뜨리지 않도록)
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Builder.Default
+    @Setter(AccessLevel.NONE)
     private Role role = Role.USER;
 
     @Column(name = "is_active", nullable = false)
     @Builder.Default
+    @Setter(AccessLevel.NONE)
     private Boolean isActive = true;
 
+    // 권한/활성 상태가 바뀔 때마다 증가 (이전에 발급된 무상태 토큰 무효화용)
+    @Column(name = "security_version", nullable = false)
+    @Builder.Default
+    @Setter(AccessLevel.NONE)
+    private Integer securityVersion = 0;
+
+    // 엔티티를 통한 변경마다 증가 (조회 API의 ETag, 동시 수정 감지)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -68,6 +105,31 @@ public class User implements UserDetails {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public void changeRole(Role role) {
+        if (this.role != role) {
+            this.role = role;
+            bumpSecurityVersion();
+        }
+    }
+
+    public void deactivate() {
+        if (Boolean.TRUE.equals(this.isActive)) {
+            this.isActive = false;
+            bumpSecurityVersion();
+        }
+    }
+
+    public void activate() {
+        if (!Boolean.TRUE.equals(this.isActive)) {
+            this.isActive = true;
+            bumpSecurityVersion();
+        }
+    }
+
+    public void bumpSecurityVersion() {
+        this.securityVersion = securityVersion == null ? 1 : securityVersion + 1;
+    }
+
     // UserDetails 구현
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
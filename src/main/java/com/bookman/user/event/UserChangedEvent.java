@@ -0,0 +1,27 @@
+package com.bookman.user.event;
+
+/**
+ * 사용자 엔티티 변경 이벤트 (생성/수정/삭제)
+ *
+ * 엔티티 대신 필요한 값만 복사해서 전달하므로 트랜잭션 밖에서도 안전하게 사용할 수 있다.
+ */
+public record UserChangedEvent(
+        Long userId,
+        String username,
+        String email,
+        Integer securityVersion,
+        boolean active,
+        ChangeType type
+) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    /**
+     * 이 변경 이후에도 사용자가 인증 가능한 상태인지 여부
+     */
+    public boolean isUsable() {
+        return active && type != ChangeType.DELETED;
+    }
+}
@@ -0,0 +1,48 @@
+package com.bookman.user.event;
+
+import com.bookman.user.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 엔티티 라이프사이클을 {@link UserChangedEvent}로 발행하는 JPA 리스너
+ *
+ * Hibernate의 SpringBeanContainer를 통해 스프링 빈으로 생성된다.
+ * soft delete(@SQLDelete)도 remove 라이프사이클을 거치므로 DELETED로 발행된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(User user) {
+        publish(user, UserChangedEvent.ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdated(User user) {
+        publish(user, UserChangedEvent.ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onDeleted(User user) {
+        publish(user, UserChangedEvent.ChangeType.DELETED);
+    }
+
+    private void publish(User user, UserChangedEvent.ChangeType type) {
+        eventPublisher.publishEvent(new UserChangedEvent(
+                user.getUserId(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getSecurityVersion(),
+                Boolean.TRUE.equals(user.getIsActive()) && user.getDeletedAt() == null,
+                type
+        ));
+    }
+}
@@ -0,0 +1,16 @@
+package com.bookman.user.event;
+
+/**
+ * JPA 라이프사이클을 거치지 않은 users 테이블 일괄 변경 이벤트 (JPQL/네이티브/JDBC 쓰기)
+ *
+ * 어떤 사용자가 바뀌었는지 행 단위로 알 수 없으므로 수신 측은 사용자 관련 캐시를 모두 비운다.
+ * 쓰기와 같은 트랜잭션 안에서 발행하고, 수신 측은 커밋 이후(AFTER_COMMIT)에 처리한다.
+ *
+ * @param source 변경을 일으킨 작업 이름 (로그용)
+ * @param rows   변경된 행 수
+ */
+public record UsersBulkChangedEvent(
+        String source,
+        int rows
+) {
+}
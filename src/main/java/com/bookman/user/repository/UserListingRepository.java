@@ -0,0 +1,22 @@
+package com.bookman.user.repository;
+
+import com.bookman.user.dto.UserCursor;
+import com.bookman.user.dto.UserResponse;
+import com.bookman.user.entity.User;
+
+import java.util.List;
+
+/**
+ * 관리자 사용자 목록 조회 (UserRepository 조각)
+ */
+public interface UserListingRepository {
+
+    /**
+     * 최근 가입 순(created_at, user_id 내림차순)으로 cursor 다음 행을 최대 limit개 조회
+     *
+     * @param role   null이면 전체
+     * @param active null이면 전체
+     * @param after  null이면 첫 페이지
+     */
+    List<UserResponse> findPage(User.Role role, Boolean active, UserCursor after, int limit);
+}
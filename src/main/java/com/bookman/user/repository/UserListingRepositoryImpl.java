@@ -0,0 +1,60 @@
+package com.bookman.user.repository;
+
+import com.bookman.user.dto.UserCursor;
+import com.bookman.user.dto.UserResponse;
+import com.bookman.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+/**
+ * keyset 페이지네이션 구현
+ *
+ * OFFSET은 앞 페이지의 행을 모두 읽고 버리므로 깊이 들어갈수록 느려지고, Page는 페이지마다
+ * COUNT(*)를 한 번 더 실행한다. 여기서는 마지막으로 받은 (created_at, user_id) 다음부터 인덱스를
+ * 이어서 읽으므로 몇 번째 페이지든 limit + 1행만 읽는다 (한 행 더 읽어 다음 페이지 여부 판단).
+ * 결과는 생성자 식으로 UserResponse에 바로 담아 엔티티(비밀번호 해시 포함)를 만들지 않는다.
+ * 필터는 값이 있을 때만 조건에 넣어 "(:role IS NULL OR ...)" 형태가 인덱스 선택을 막지 않게 한다.
+ */
+public class UserListingRepositoryImpl implements UserListingRepository {
+
+    private static final String SELECT = """
+            SELECT new com.bookman.user.dto.UserResponse(
+                u.userId, u.username, u.email, u.fullName, cast(u.role as String), u.isActive, u.createdAt)
+            FROM User u
+            WHERE 1 = 1""";
+    private static final String ORDER_BY = " ORDER BY u.createdAt DESC, u.userId DESC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UserResponse> findPage(User.Role role, Boolean active, UserCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder(SELECT);
+        if (role != null) {
+            jpql.append(" AND u.role = :role");
+        }
+        if (active != null) {
+            jpql.append(" AND u.isActive = :active");
+        }
+        if (after != null) {
+            jpql.append(" AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.userId < :userId))");
+        }
+        jpql.append(ORDER_BY);
+
+        TypedQuery<UserResponse> query = entityManager.createQuery(jpql.toString(), UserResponse.class);
+        if (role != null) {
+            query.setParameter("role", role);
+        }
+        if (active != null) {
+            query.setParameter("active", active);
+        }
+        if (after != null) {
+            query.setParameter("createdAt", after.createdAt());
+            query.setParameter("userId", after.userId());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -2,14 +2,27 @@ package com.bookman.user.repository;
 
 import com.bookman.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserListingRepository {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
     Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
+
+    // 유니크 제약 조건은 soft delete된 행에도 걸려 있으므로 @SQLRestriction을 우회해 함께 센다
+    @Query(value = "SELECT COUNT(*) FROM users WHERE username = :username", nativeQuery = true)
+    long countIncludingDeletedByUsername(@Param("username") String username);
+
+    @Query(value = "SELECT COUNT(*) FROM users WHERE email = :email", nativeQuery = true)
+    long countIncludingDeletedByEmail(@Param("email") String email);
+
+    // 무상태 토큰 검증 기준값 (비활성/삭제/없는 사용자면 비어 있음)
+    @Query("SELECT u.securityVersion FROM User u WHERE u.userId = :userId AND u.isActive = true")
+    Optional<Integer> findActiveSecurityVersion(@Param("userId") Long userId);
 }
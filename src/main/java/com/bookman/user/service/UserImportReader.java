@@ -0,0 +1,224 @@
+package com.bookman.user.service;
+
+import com.bookman.user.dto.UserImportRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 요청 본문을 한 줄씩 읽어 가져오기 행으로 바꾸는 리더 (본문 전체를 메모리에 올리지 않음)
+ *
+ * 줄 길이는 maxLineLength로 제한하며, 넘는 줄은 끝까지 버리고 실패 행으로 돌려준다.
+ * CSV는 첫 줄이 헤더여야 하고 따옴표로 감싼 필드("a,b", "say ""hi""")를 지원하지만
+ * 필드 안의 줄바꿈은 지원하지 않는다. 빈 줄은 건너뛴다.
+ */
+class UserImportReader {
+
+    private static final String USERNAME = "username";
+    private static final String EMAIL = "email";
+    private static final String PASSWORD = "password";
+    private static final String FULL_NAME = "fullname";
+    private static final String ROLE = "role";
+
+    private final Reader reader;
+    private final UserImportService.Format format;
+    private final int maxLineLength;
+    private final ObjectMapper objectMapper;
+    private final StringBuilder buffer;
+
+    private int lineNumber;
+    private boolean overflowed;
+    private boolean endOfInput;
+    // CSV 열 위치 (없는 열은 -1)
+    private int usernameColumn = -1;
+    private int emailColumn = -1;
+    private int passwordColumn = -1;
+    private int fullNameColumn = -1;
+    private int roleColumn = -1;
+    private int columnCount;
+
+    private UserImportReader(InputStream body, UserImportService.Format format, int maxLineLength,
+                             ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        this.format = format;
+        this.maxLineLength = maxLineLength;
+        this.objectMapper = objectMapper;
+        this.buffer = new StringBuilder(Math.min(maxLineLength, 256));
+    }
+
+    /**
+     * 리더를 열고 CSV면 헤더를 읽는다. 헤더가 없거나 필수 열이 빠지면 IllegalArgumentException
+     */
+    static UserImportReader open(InputStream body, UserImportService.Format format, int maxLineLength,
+                                 ObjectMapper objectMapper) throws IOException {
+        UserImportReader importReader = new UserImportReader(body, format, maxLineLength, objectMapper);
+        if (format == UserImportService.Format.CSV) {
+            importReader.readHeader();
+        }
+        return importReader;
+    }
+
+    /**
+     * 다음 행, 입력이 끝나면 null
+     */
+    ParsedRow next() throws IOException {
+        String line;
+        while ((line = readLine()) != null) {
+            if (overflowed) {
+                return ParsedRow.failed(lineNumber, "행이 너무 깁니다 (최대 " + maxLineLength + "자)");
+            }
+            if (!line.isBlank()) {
+                return format == UserImportService.Format.CSV ? parseCsv(line) : parseJson(line);
+            }
+        }
+        return null;
+    }
+
+    private void readHeader() throws IOException {
+        String header;
+        do {
+            header = readLine();
+        } while (header != null && !overflowed && header.isBlank());
+        if (header == null || overflowed) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+
+        List<String> columns = splitCsv(header);
+        columnCount = columns.size();
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).strip().replace("_", "").toLowerCase(Locale.ROOT)) {
+                case USERNAME -> usernameColumn = i;
+                case EMAIL -> emailColumn = i;
+                case PASSWORD -> passwordColumn = i;
+                case FULL_NAME -> fullNameColumn = i;
+                case ROLE -> roleColumn = i;
+                default -> {
+                    // 알 수 없는 열은 무시
+                }
+            }
+        }
+        if (usernameColumn < 0 || emailColumn < 0 || passwordColumn < 0 || fullNameColumn < 0) {
+            throw new IllegalArgumentException("CSV 헤더에 username, email, password, fullName 열이 모두 있어야 합니다.");
+        }
+    }
+
+    private ParsedRow parseCsv(String line) {
+        List<String> fields;
+        try {
+            fields = splitCsv(line);
+        } catch (IllegalArgumentException e) {
+            return ParsedRow.failed(lineNumber, e.getMessage());
+        }
+        if (fields.size() != columnCount) {
+            return ParsedRow.failed(lineNumber, "열 개수가 헤더와 다릅니다 (헤더 " + columnCount + "개, 행 " + fields.size() + "개)");
+        }
+        return new ParsedRow(lineNumber, UserImportRow.builder()
+                .username(fields.get(usernameColumn))
+                .email(fields.get(emailColumn))
+                .password(fields.get(passwordColumn))
+                .fullName(fields.get(fullNameColumn))
+                .role(roleColumn >= 0 ? fields.get(roleColumn) : null)
+                .build(), null);
+    }
+
+    private ParsedRow parseJson(String line) {
+        try {
+            return new ParsedRow(lineNumber, objectMapper.readValue(line, UserImportRow.class), null);
+        } catch (JsonProcessingException e) {
+            return ParsedRow.failed(lineNumber, "JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == ',') {
+                fields.add(wasQuoted ? field.toString() : field.toString().strip());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c == '"' && field.isEmpty() && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        fields.add(wasQuoted ? field.toString() : field.toString().strip());
+        return fields;
+    }
+
+    /**
+     * 한 줄을 읽는다. maxLineLength를 넘는 부분은 버리고 overflowed로 표시, 입력이 끝나면 null
+     */
+    private String readLine() throws IOException {
+        if (endOfInput) {
+            return null;
+        }
+        buffer.setLength(0);
+        overflowed = false;
+        boolean read = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (c == '\n') {
+                break;
+            }
+            if (buffer.length() < maxLineLength) {
+                buffer.append((char) c);
+            } else {
+                overflowed = true;
+            }
+        }
+        if (c == -1) {
+            endOfInput = true;
+            if (!read) {
+                return null;
+            }
+        }
+        lineNumber++;
+        int length = buffer.length();
+        if (length > 0 && buffer.charAt(length - 1) == '\r') {
+            buffer.setLength(length - 1);
+        }
+        // UTF-8 BOM (엑셀에서 저장한 CSV)
+        if (lineNumber == 1 && !buffer.isEmpty() && buffer.charAt(0) == '\uFEFF') {
+            buffer.deleteCharAt(0);
+        }
+        return buffer.toString();
+    }
+
+    /**
+     * 읽은 행 (파싱에 실패했으면 row가 null이고 error가 채워짐)
+     */
+    record ParsedRow(int line, UserImportRow row, String error) {
+
+        static ParsedRow failed(int line, String error) {
+            return new ParsedRow(line, null, error);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.bookman.user.service;
+
+import com.bookman.auth.config.PasswordHashingConfig;
+import com.bookman.auth.dto.RegisterRequest;
+import com.bookman.common.exception.ServiceOverloadedException;
+import com.bookman.common.service.StructuredTaskRunner;
+import com.bookman.user.config.UserImportConfig;
+import com.bookman.user.dto.UserImportResult;
+import com.bookman.user.dto.UserImportRow;
+import com.bookman.user.entity.User;
+import com.bookman.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 관리자용 사용자 대량 가져오기
+ *
+ * 요청 본문을 batchSize 행씩 읽어 검증 → 중복 확인(배치당 쿼리 한 번) → 비밀번호 병렬 해시 →
+ * 한 트랜잭션의 JDBC 배치 INSERT 순으로 처리하고 다음 배치로 넘어간다. 메모리에는 한 배치만 올라가므로
+ * 파일 크기와 무관하게 사용량이 일정하다. 해시는 로그인과 같은 전용 워커 풀에서 실행하되 동시에
+ * hashConcurrency개까지만 넣어 로그인이 쓸 자리를 남긴다. 배치 INSERT가 유니크 제약 조건에 걸리면
+ * (그 사이 다른 요청이 가입한 경우) 그 배치만 행 단위로 다시 저장해 실패한 행을 찾는다.
+ */
+@Service
+@Slf4j
+public class UserImportService {
+
+    private static final String EXISTING_SQL =
+            "SELECT username, email FROM users WHERE username IN (:usernames) OR email IN (:emails)";
+
+    private final UserImportConfig config;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingConfig passwordHashingConfig;
+    private final StructuredTaskRunner structuredTaskRunner;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    private final Counter createdRows;
+    private final Counter failedRows;
+    private final Timer batchTime;
+
+    public UserImportService(UserImportConfig config, UserRepository userRepository, EntityManager entityManager,
+                             NamedParameterJdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                             PasswordEncoder passwordEncoder, PasswordHashingConfig passwordHashingConfig,
+                             StructuredTaskRunner structuredTaskRunner, Validator validator,
+                             ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingConfig = passwordHashingConfig;
+        this.structuredTaskRunner = structuredTaskRunner;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+
+        this.createdRows = Counter.builder("user.import.rows")
+                .tag("result", "created")
+                .description("대량 가져오기로 처리한 행 수")
+                .register(meterRegistry);
+        this.failedRows = Counter.builder("user.import.rows")
+                .tag("result", "failed")
+                .description("대량 가져오기로 처리한 행 수")
+                .register(meterRegistry);
+        this.batchTime = Timer.builder("user.import.batch")
+                .description("가져오기 배치 하나의 해시+저장 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    /**
+     * 본문을 끝까지 가져오고 요약을 반환한다. 실패한 행과 배치 진행 상황은 읽는 동안 sink로 바로 보낸다.
+     * CSV 헤더가 잘못되었으면 sink를 호출하기 전에 IllegalArgumentException
+     */
+    public UserImportResult importUsers(InputStream body, Format format, Consumer<UserImportResult> sink)
+            throws IOException {
+        long start = System.nanoTime();
+        UserImportReader reader = UserImportReader.open(body, format, config.getMaxLineLength(), objectMapper);
+        Progress progress = new Progress(sink);
+        List<PendingUser> batch = new ArrayList<>(config.getBatchSize());
+
+        UserImportReader.ParsedRow parsed;
+        while ((parsed = reader.next()) != null) {
+            progress.processed++;
+            String error = parsed.error() != null ? parsed.error() : validate(parsed.row());
+            if (error != null) {
+                progress.fail(parsed.line(), parsed.row() != null ? parsed.row().getUsername() : null, error);
+                continue;
+            }
+            batch.add(new PendingUser(parsed.line(), parsed.row()));
+            if (batch.size() >= config.getBatchSize()) {
+                writeBatch(batch, progress);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, progress);
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("📥 사용자 가져오기 완료 - 처리: {}, 생성: {}, 실패: {}, {}ms",
+                progress.processed, progress.created, progress.failed, elapsedMs);
+        return progress.snapshot(UserImportResult.Type.SUMMARY, elapsedMs);
+    }
+
+    private String validate(UserImportRow row) {
+        Set<ConstraintViolation<RegisterRequest>> violations = validator.validate(RegisterRequest.builder()
+                .username(row.getUsername())
+                .email(row.getEmail())
+                .password(row.getPassword())
+                .fullName(row.getFullName())
+                .build());
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .reduce((left, right) -> left + ", " + right)
+                    .orElseThrow();
+        }
+        if (row.getRole() != null && !row.getRole().isBlank() && parseRole(row.getRole()) == null) {
+            return "알 수 없는 역할입니다: " + row.getRole();
+        }
+        return null;
+    }
+
+    private void writeBatch(List<PendingUser> batch, Progress progress) {
+        long start = System.nanoTime();
+        List<PendingUser> accepted = rejectDuplicates(batch, progress);
+        if (!accepted.isEmpty()) {
+            List<String> hashes = hashPasswords(accepted);
+            for (int i = 0; i < accepted.size(); i++) {
+                accepted.get(i).passwordHash = hashes.get(i);
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    entityManager.unwrap(Session.class).setJdbcBatchSize(config.getBatchSize());
+                    userRepository.saveAll(accepted.stream().map(PendingUser::toUser).toList());
+                    userRepository.flush();
+                });
+                progress.created += accepted.size();
+                createdRows.increment(accepted.size());
+            } catch (DataIntegrityViolationException e) {
+                log.debug("📥 가져오기 배치 INSERT 중 유니크 제약 조건 위반 - 행 단위로 다시 저장");
+                saveOneByOne(accepted, progress);
+            }
+        }
+        batchTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        progress.emit(progress.snapshot(UserImportResult.Type.PROGRESS,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    }
+
+    /**
+     * 배치 안의 중복과 이미 사용 중인 값(soft delete된 사용자 포함)을 실패로 보고하고 나머지를 반환
+     */
+    private List<PendingUser> rejectDuplicates(List<PendingUser> batch, Progress progress) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<PendingUser> unique = new ArrayList<>(batch.size());
+        for (PendingUser pending : batch) {
+            if (!usernames.add(pending.row.getUsername())) {
+                progress.fail(pending.line, pending.row.getUsername(), "파일 안에서 중복된 사용자명입니다.");
+            } else if (!emails.add(pending.row.getEmail())) {
+                progress.fail(pending.line, pending.row.getUsername(), "파일 안에서 중복된 이메일입니다.");
+            } else {
+                unique.add(pending);
+            }
+        }
+        if (unique.isEmpty()) {
+            return unique;
+        }
+
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        jdbcTemplate.query(EXISTING_SQL, new MapSqlParameterSource()
+                        .addValue("usernames", usernames)
+                        .addValue("emails", emails),
+                resultSet -> {
+                    takenUsernames.add(resultSet.getString(1));
+                    takenEmails.add(resultSet.getString(2));
+                });
+
+        List<PendingUser> accepted = new ArrayList<>(unique.size());
+        for (PendingUser pending : unique) {
+            if (takenUsernames.contains(pending.row.getUsername())) {
+                progress.fail(pending.line, pending.row.getUsername(), "이미 사용 중인 사용자명입니다.");
+            } else if (takenEmails.contains(pending.row.getEmail())) {
+                progress.fail(pending.line, pending.row.getUsername(), "이미 사용 중인 이메일입니다.");
+            } else {
+                accepted.add(pending);
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * hashConcurrency개 묶음으로 나눠 Virtual Thread에서 병렬 해시 (결과는 입력 순서)
+     */
+    private List<String> hashPasswords(List<PendingUser> users) {
+        int chunkCount = Math.min(users.size(), config.resolvedHashConcurrency(passwordHashingConfig.resolvedThreads()));
+        int chunkSize = (users.size() + chunkCount - 1) / chunkCount;
+        List<Callable<List<String>>> chunks = new ArrayList<>(chunkCount);
+        for (int from = 0; from < users.size(); from += chunkSize) {
+            List<PendingUser> chunk = users.subList(from, Math.min(users.size(), from + chunkSize));
+            chunks.add(() -> chunk.stream().map(pending -> encode(pending.row.getPassword())).toList());
+        }
+        Instant deadline = Instant.now().plus(config.getHashDeadline());
+        return structuredTaskRunner.invokeAll("user-import-hash", deadline, chunks)
+                .stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    /**
+     * 로그인 폭주로 해시 대기열이 가득 차면 거절되지 않고 Retry-After만큼 기다렸다가 다시 넣는다
+     */
+    private String encode(String rawPassword) {
+        while (true) {
+            try {
+                return passwordEncoder.encode(rawPassword);
+            } catch (ServiceOverloadedException e) {
+                try {
+                    Thread.sleep(e.getRetryAfter().toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("비밀번호 해시 작업이 중단되었습니다", interrupted);
+                }
+            }
+        }
+    }
+
+    private void saveOneByOne(List<PendingUser> users, Progress progress) {
+        for (PendingUser pending : users) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> userRepository.saveAndFlush(pending.toUser()));
+                progress.created++;
+                createdRows.increment();
+            } catch (DataIntegrityViolationException e) {
+                progress.fail(pending.line, pending.row.getUsername(), "이미 사용 중인 사용자명 또는 이메일입니다.");
+            }
+        }
+    }
+
+    private static User.Role parseRole(String role) {
+        try {
+            return User.Role.valueOf(role.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static final class PendingUser {
+
+        private final int line;
+        private final UserImportRow row;
+        private String passwordHash;
+
+        private PendingUser(int line, UserImportRow row) {
+            this.line = line;
+            this.row = row;
+        }
+
+        /**
+         * 저장할 때마다 새 엔티티를 만든다 (실패한 배치 INSERT에서 ID가 할당된 엔티티를 재사용하지 않도록)
+         */
+        private User toUser() {
+            User.Role role = row.getRole() == null || row.getRole().isBlank() ? User.Role.USER : parseRole(row.getRole());
+            return User.builder()
+                    .username(row.getUsername())
+                    .email(row.getEmail())
+                    .password(passwordHash)
+                    .fullName(row.getFullName())
+                    .role(role)
+                    .isActive(true)
+                    .build();
+        }
+    }
+
+    private final class Progress {
+
+        private final Consumer<UserImportResult> sink;
+        private long processed;
+        private long created;
+        private long failed;
+
+        private Progress(Consumer<UserImportResult> sink) {
+            this.sink = sink;
+        }
+
+        private void fail(int line, String username, String error) {
+            failed++;
+            failedRows.increment();
+            emit(UserImportResult.failed(line, username, error));
+        }
+
+        private void emit(UserImportResult result) {
+            sink.accept(result);
+        }
+
+        private UserImportResult snapshot(UserImportResult.Type type, long elapsedMs) {
+            return UserImportResult.builder()
+                    .type(type)
+                    .processed(processed)
+                    .created(created)
+                    .failed(failed)
+                    .elapsedMs(elapsedMs)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.bookman.activity.service;
+
+import com.bookman.activity.entity.ActivityLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * 활동 이벤트가 drainer 스레드를 거쳐 activity_log 테이블에 batch로 기록되는지 검증
+ *
+ * drainer는 별도 트랜잭션으로 커밋하므로 테스트 트랜잭션 없이 실행하고, 생성한 행은 직접 삭제한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("활동 로그 파이프라인 테스트")
+class ActivityLogServiceTest {
+
+    private static final String USERNAME_PREFIX = "activity-user-";
+
+    @Autowired
+    private ActivityLogService activityLogService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM activity_log WHERE username LIKE ?", USERNAME_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("여러 Virtual Thread에서 기록한 이벤트가 모두 테이블에 저장되어야 한다")
+    void record_FromManyThreads_ShouldPersistEveryEvent() throws Exception {
+        // Given
+        int events = 2_000;
+        double writtenBefore = meterRegistry.get("activity.log.written").counter().count();
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < events; i++) {
+                String username = USERNAME_PREFIX + (i % 50);
+                results.add(executor.submit(() -> activityLogService.record(username, ActivityLog.ActivityType.LOGIN)));
+            }
+        }
+
+        // Then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        awaitRowCount(events);
+        assertThat(meterRegistry.get("activity.log.written").counter().count() - writtenBefore)
+                .isGreaterThanOrEqualTo(events);
+        assertThat(meterRegistry.get("activity.log.batch.size").summary().max()).isGreaterThan(1);
+    }
+
+    private void awaitRowCount(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (true) {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM activity_log WHERE username LIKE ?", Integer.class, USERNAME_PREFIX + "%");
+            if (count != null && count == expected) {
+                return;
+            }
+            if (System.currentTimeMillis() > deadline) {
+                fail("활동 로그가 시간 내에 기록되지 않았습니다: " + count + "/" + expected);
+            }
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.bookman.activity.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MPSC 링 버퍼 테스트")
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("용량이 가득 차면 offer가 false를 반환하고, drain 후 다시 받아야 한다")
+    void offer_WhenFull_ShouldRejectUntilDrained() {
+        // Given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < buffer.capacity(); i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // When & Then
+        assertThat(buffer.offer(99)).isFalse();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 2)).isEqualTo(2);
+        assertThat(drained).containsExactly(0, 1);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.size()).isEqualTo(buffer.capacity() - 1);
+    }
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 유실이나 중복 없이 모두 꺼내져야 한다")
+    void offer_FromManyProducers_ShouldDeliverEveryElementOnce() throws Exception {
+        // Given
+        int producers = 8;
+        int perProducer = 20_000;
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        // When
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            threads.add(Thread.ofPlatform().start(() -> {
+                awaitQuietly(start);
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+        start.countDown();
+
+        Set<Integer> received = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received.size() < producers * perProducer && System.nanoTime() < deadline) {
+            buffer.drainTo(batch, 256);
+            for (Integer value : batch) {
+                assertThat(received.add(value)).as("중복 수신: %d", value).isTrue();
+            }
+            batch.clear();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(received).hasSize(producers * perProducer);
+        assertThat(buffer.size()).isZero();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
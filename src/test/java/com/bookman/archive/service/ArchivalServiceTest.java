@@ -0,0 +1,207 @@
+package com.bookman.archive.service;
+
+import com.bookman.archive.config.ArchivalConfig;
+import com.bookman.book.entity.Book;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보관 작업은 배치마다 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("soft delete 보관 서비스 테스트")
+class ArchivalServiceTest {
+
+    private static final long ID_BASE = 500_000_000L;
+
+    @Autowired
+    private ArchivalService archivalService;
+
+    @Autowired
+    private ArchivalConfig archivalConfig;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private int originalBatchSize;
+    private Duration originalPause;
+
+    @BeforeEach
+    void setUp() {
+        originalBatchSize = archivalConfig.getBatchSize();
+        originalPause = archivalConfig.getPauseBetweenBatches();
+        archivalConfig.setBatchSize(2);
+        archivalConfig.setPauseBetweenBatches(Duration.ZERO);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        archivalConfig.setBatchSize(originalBatchSize);
+        archivalConfig.setPauseBetweenBatches(originalPause);
+        jdbcTemplate.update("DELETE FROM users WHERE user_id >= ?", ID_BASE);
+        jdbcTemplate.update("DELETE FROM users_archive WHERE user_id >= ?", ID_BASE);
+        jdbcTemplate.update("DELETE FROM book WHERE isbn LIKE 'ARCHIVE-%'");
+        jdbcTemplate.update("DELETE FROM book_archive WHERE isbn LIKE 'ARCHIVE-%'");
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 soft delete 행만 보관 테이블로 옮긴다")
+    void archiveAll_ShouldMoveOnlyRowsPastRetention() {
+        // Given - 오래전 삭제 5명(배치 크기 2 → 3배치), 최근 삭제 1명, 활성 1명
+        for (int i = 0; i < 5; i++) {
+            insertUser(ID_BASE + i, LocalDateTime.now().minusDays(40));
+        }
+        insertUser(ID_BASE + 10, LocalDateTime.now().minusDays(1));
+        insertUser(ID_BASE + 11, null);
+        double movedBefore = movedRows("users");
+
+        // When
+        Map<String, Long> moved = archivalService.archiveAll();
+
+        // Then
+        assertThat(moved).containsEntry("users", 5L);
+        assertThat(countUsers("users")).isEqualTo(2);
+        assertThat(countUsers("users_archive")).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users_archive WHERE user_id >= ? AND archived_at IS NOT NULL",
+                Long.class, ID_BASE)).isEqualTo(5);
+        assertThat(movedRows("users") - movedBefore).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("실행당 배치 수 상한을 넘는 행은 다음 실행에서 옮긴다")
+    void archiveAll_ShouldStopAtMaxBatchesPerRun() {
+        // Given
+        int originalMaxBatches = archivalConfig.getMaxBatchesPerRun();
+        archivalConfig.setMaxBatchesPerRun(1);
+        for (int i = 0; i < 3; i++) {
+            insertUser(ID_BASE + i, LocalDateTime.now().minusDays(40));
+        }
+
+        try {
+            // When
+            long firstRun = archivalService.archiveAll().get("users");
+            long secondRun = archivalService.archiveAll().get("users");
+
+            // Then
+            assertThat(firstRun).isEqualTo(2);
+            assertThat(secondRun).isEqualTo(1);
+            assertThat(countUsers("users")).isZero();
+        } finally {
+            archivalConfig.setMaxBatchesPerRun(originalMaxBatches);
+        }
+    }
+
+    @Test
+    @DisplayName("Book 삭제는 soft delete로 처리되고 보존 기간이 지나면 보관된다")
+    void bookSoftDelete_ShouldBeArchivedAfterRetention() {
+        // Given
+        Long bookId = insertDeletedBook("ARCHIVE-0001");
+
+        // When
+        Map<String, Long> moved = archivalService.archiveAll();
+
+        // Then
+        assertThat(moved).containsEntry("book", 1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM book WHERE book_id = ?", Long.class, bookId)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT title FROM book_archive WHERE book_id = ?", String.class, bookId)).isEqualTo("보관 테스트 도서");
+    }
+
+    @Test
+    @DisplayName("한 테이블 보관이 실패해도 나머지 테이블은 보관하고 실패를 테이블별로 센다")
+    void archiveAll_WhenOneTableFails_ShouldContinueWithOtherTables() {
+        // Given - users_archive가 이 사용자 행을 거부하도록 제약 조건을 걸어 users 복사를 실패시킨다
+        long rejectedId = ID_BASE + 999;
+        insertUser(rejectedId, LocalDateTime.now().minusDays(40));
+        Long bookId = insertDeletedBook("ARCHIVE-0002");
+        jdbcTemplate.execute("ALTER TABLE users_archive ADD CONSTRAINT ck_archival_test CHECK (user_id <> " + rejectedId + ")");
+        double failuresBefore = failures("users");
+
+        try {
+            // When
+            Map<String, Long> moved = archivalService.archiveAll();
+
+            // Then
+            assertThat(moved).doesNotContainKey("users");
+            assertThat(moved).containsEntry("book", 1L);
+            assertThat(failures("users") - failuresBefore).isEqualTo(1);
+            assertThat(countUsers("users")).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM book_archive WHERE book_id = ?", Long.class, bookId)).isEqualTo(1);
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE users_archive DROP CONSTRAINT ck_archival_test");
+        }
+    }
+
+    private Long insertDeletedBook(String isbn) {
+        Long bookId = transactionTemplate.execute(status -> {
+            Book book = Book.builder()
+                    .isbn(isbn)
+                    .title("보관 테스트 도서")
+                    .totalQuantity(1)
+                    .currentStock(1)
+                    .registeredDate(LocalDateTime.now())
+                    .build();
+            entityManager.persist(book);
+            return book.getBookId();
+        });
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.remove(entityManager.find(Book.class, bookId)));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT deleted_at FROM book WHERE book_id = ?", Timestamp.class, bookId)).isNotNull();
+        jdbcTemplate.update("UPDATE book SET deleted_at = ? WHERE book_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(40)), bookId);
+        return bookId;
+    }
+
+    private void insertUser(long userId, LocalDateTime deletedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO users (user_id, username, email, password, full_name, role, is_active,
+                                   security_version, version, created_at, deleted_at)
+                VALUES (?, ?, ?, 'encodedPassword', '보관 대상', 'USER', TRUE, 0, 0, ?, ?)""",
+                userId, "archive" + userId, "archive" + userId + "@test.com",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(60)),
+                deletedAt != null ? Timestamp.valueOf(deletedAt) : null);
+    }
+
+    private long countUsers(String table) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE user_id >= ?", Long.class, ID_BASE);
+    }
+
+    private double movedRows(String table) {
+        return meterRegistry.get("archival.rows.moved").tag("table", table).counter().count();
+    }
+
+    private double failures(String table) {
+        return meterRegistry.get("archival.failures").tag("table", table).counter().count();
+    }
+}
@@ -1,15 +1,27 @@
 package com.bookman.auth.controller;
 
+import com.bookman.auth.dto.ApiKeyRequest;
 import com.bookman.auth.dto.LoginRequest;
 import com.bookman.auth.dto.RegisterRequest;
+import com.bookman.auth.dto.TokenIntrospectionRequest;
 import com.bookman.common.BaseIntegrationTest;
+import com.bookman.auth.service.ApiKeyService;
+import com.bookman.auth.service.UserAvailabilityService;
+import com.bookman.common.QueryCounter;
 import com.bookman.common.TestDataFactory;
+import com.bookman.user.event.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.web.servlet.ResultActions;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -19,6 +31,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @DisplayName("인증 컨트롤러 테스트")
 class AuthControllerTest extends BaseIntegrationTest {
 
+    @Autowired
+    private UserAvailabilityService userAvailabilityService;
+
+    @Autowired
+    private ApiKeyService apiKeyService;
+
     @Nested
     @DisplayName("회원가입 테스트")
     class RegisterTest {
@@ -110,6 +128,76 @@ class AuthControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("가입 가능 여부 확인 테스트")
+    class AvailabilityTest {
+
+        @BeforeEach
+        void rebuildFilter() {
+            // 테스트 트랜잭션의 사용자도 보이도록 같은 트랜잭션 안에서 필터를 다시 구성
+            userAvailabilityService.rebuild();
+            QueryCounter.reset();
+        }
+
+        @Test
+        @DisplayName("사용 중인 사용자명과 이메일은 사용 불가로 응답해야 한다")
+        void availability_WithTakenValues_ShouldReturnFalse() throws Exception {
+            // When
+            ResultActions result = mockMvc.perform(get("/api/auth/availability")
+                    .param("username", testUser.getUsername())
+                    .param("email", testUser.getEmail()));
+
+            // Then
+            result.andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.usernameAvailable", is(false)))
+                    .andExpect(jsonPath("$.emailAvailable", is(false)));
+        }
+
+        @Test
+        @DisplayName("사용 가능한 값은 DB 조회 없이 필터만으로 응답해야 한다")
+        void availability_WithFreeUsername_ShouldAnswerFromFilter() throws Exception {
+            // When
+            ResultActions result = mockMvc.perform(get("/api/auth/availability")
+                    .param("username", "brand-new-user"));
+
+            // Then
+            result.andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.usernameAvailable", is(true)))
+                    .andExpect(jsonPath("$.emailAvailable").doesNotExist());
+            assertThat(QueryCounter.selects()).isZero();
+        }
+
+        @Test
+        @DisplayName("가입 이벤트로 추가된 값은 필터를 통과해 저장소로 확인해야 한다")
+        void availability_AfterRegistrationEvent_ShouldFallThroughToRepository() throws Exception {
+            // Given - 커밋된 가입 이벤트 (DB에는 없는 값이므로 저장소 확인 결과는 사용 가능)
+            userAvailabilityService.onUserChanged(new UserChangedEvent(
+                    999L, "event-user", "event-user@test.com", 0, true, UserChangedEvent.ChangeType.CREATED));
+
+            // When
+            ResultActions result = mockMvc.perform(get("/api/auth/availability")
+                    .param("username", "event-user"));
+
+            // Then
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.usernameAvailable", is(true)));
+            assertThat(QueryCounter.selects()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("확인할 항목이 없으면 400을 반환해야 한다")
+        void availability_WithoutParameters_ShouldFail() throws Exception {
+            // When
+            ResultActions result = mockMvc.perform(get("/api/auth/availability"));
+
+            // Then
+            result.andDo(print())
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("로그인 테스트")
     class LoginTest {
@@ -174,6 +262,55 @@ class AuthControllerTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("비밀번호 재해시 테스트")
+    class PasswordRehashTest {
+
+        // 현재 cost(테스트 프로필 10)보다 낮은 cost로 저장된 예전 해시
+        private String outdatedHash;
+
+        @BeforeEach
+        void storeOutdatedHash() {
+            outdatedHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("password");
+            testUser.setPassword(outdatedHash);
+            userRepository.saveAndFlush(testUser);
+        }
+
+        @Test
+        @DisplayName("예전 cost의 해시는 로그인 성공 시 현재 cost로 재해시되어야 한다")
+        void login_WithOutdatedHash_ShouldReencodeOnSuccess() throws Exception {
+            // When
+            mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(TestDataFactory.createValidLoginRequest())))
+                    .andExpect(status().isOk());
+
+            // Then
+            String storedHash = userRepository.findById(testUser.getUserId()).orElseThrow().getPassword();
+            assertThat(storedHash).isNotEqualTo(outdatedHash);
+            assertThat(storedHash).startsWith("{bcrypt}$2a$10$");
+            assertThat(passwordEncoder.matches("password", storedHash)).isTrue();
+            assertThat(passwordEncoder.upgradeEncoding(storedHash)).isFalse();
+        }
+
+        @Test
+        @DisplayName("로그인에 실패하면 예전 해시를 그대로 두어야 한다")
+        void login_WithOutdatedHashAndWrongPassword_ShouldKeepHash() throws Exception {
+            // When
+            mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(asJsonString(LoginRequest.builder()
+                                    .username(testUser.getUsername())
+                                    .password("wrongpassword")
+                                    .build())))
+                    .andExpect(status().isUnauthorized());
+
+            // Then
+            assertThat(userRepository.findById(testUser.getUserId()).orElseThrow().getPassword())
+                    .isEqualTo(outdatedHash);
+        }
+    }
+
     @Nested
     @DisplayName("토큰 검증 테스트")
     class ValidateTokenTest {
@@ -214,4 +351,130 @@ class AuthControllerTest extends BaseIntegrationTest {
                     .andExpect(status().isUnauthorized());
         }
     }
+
+    @Nested
+    @DisplayName("배치 토큰 검사 테스트")
+    class IntrospectTest {
+
+        private String serviceKey;
+
+        @BeforeEach
+        void issueServiceKey() {
+            serviceKey = apiKeyService.issue(ApiKeyRequest.builder().name("gateway").build()).getKey();
+        }
+
+        @Test
+        @DisplayName("토큰별 상태와 주체, 역할, 남은 수명을 요청 순서대로 반환해야 한다")
+        void introspect_ShouldReturnPerTokenStatusInOrder() throws Exception {
+            // Given
+            mockMvc.perform(post("/api/auth/logout")
+                            .header("Authorization", "Bearer " + userToken))
+                    .andExpect(status().isNoContent());
+            TokenIntrospectionRequest request = TokenIntrospectionRequest.builder()
+                    .tokens(List.of(adminToken, "not-a-jwt", userToken))
+                    .build();
+
+            // When
+            ResultActions result = mockMvc.perform(post("/api/auth/introspect")
+                    .header("X-API-Key", serviceKey)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(asJsonString(request)));
+
+            // Then
+            result.andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Cache-Control", containsString("max-age=")))
+                    .andExpect(header().string("Cache-Control", containsString("private")))
+                    .andExpect(jsonPath("$.results", hasSize(3)))
+                    .andExpect(jsonPath("$.results[0].status", is("ACTIVE")))
+                    .andExpect(jsonPath("$.results[0].subject", is(testAdmin.getUsername())))
+                    .andExpect(jsonPath("$.results[0].role", is("ADMIN")))
+                    .andExpect(jsonPath("$.results[0].ttlSeconds", greaterThan(0)))
+                    .andExpect(jsonPath("$.results[1].status", is("INVALID")))
+                    .andExpect(jsonPath("$.results[1].subject").doesNotExist())
+                    .andExpect(jsonPath("$.results[2].status", is("REVOKED")))
+                    .andExpect(jsonPath("$.results[2].subject", is(testUser.getUsername())));
+        }
+
+        @Test
+        @DisplayName("빈 토큰 목록은 검증 오류가 발생해야 한다")
+        void introspect_WithEmptyTokens_ShouldFailValidation() throws Exception {
+            // When
+            ResultActions result = mockMvc.perform(post("/api/auth/introspect")
+                    .header("X-API-Key", serviceKey)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(asJsonString(TokenIntrospectionRequest.builder().tokens(List.of()).build())));
+
+            // Then
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error", is("Validation Failed")));
+        }
+
+        @Test
+        @DisplayName("API 키 없이 호출하면 거부되어야 한다")
+        void introspect_WithoutApiKey_ShouldBeForbidden() throws Exception {
+            // When
+            ResultActions result = mockMvc.perform(post("/api/auth/introspect")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(asJsonString(TokenIntrospectionRequest.builder().tokens(List.of(userToken)).build())));
+
+            // Then
+            result.andDo(print())
+                    .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("사용자 JWT로 호출하면 거부되어야 한다")
+        void introspect_WithUserToken_ShouldBeForbidden() throws Exception {
+            // When
+            ResultActions result = mockMvc.perform(post("/api/auth/introspect")
+                    .header("Authorization", "Bearer " + adminToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(asJsonString(TokenIntrospectionRequest.builder().tokens(List.of(userToken)).build())));
+
+            // Then
+            result.andDo(print())
+                    .andExpect(status().isForbidden());
+        }
+    }
+
+    @Nested
+    @DisplayName("로그아웃 테스트")
+    class LogoutTest {
+
+        @Test
+        @DisplayName("로그아웃한 토큰으로는 더 이상 인증되지 않아야 한다")
+        void logout_ShouldRevokeCurrentToken() throws Exception {
+            // Given
+            mockMvc.perform(get("/api/users/me")
+                            .header("Authorization", "Bearer " + userToken))
+                    .andExpect(status().isOk());
+
+            // When
+            ResultActions result = mockMvc.perform(post("/api/auth/logout")
+                    .header("Authorization", "Bearer " + userToken));
+
+            // Then
+            result.andDo(print())
+                    .andExpect(status().isNoContent());
+            mockMvc.perform(get("/api/users/me")
+                            .header("Authorization", "Bearer " + userToken))
+                    .andExpect(status().is4xxClientError());
+            // 같은 사용자의 다른 토큰은 영향 없음
+            mockMvc.perform(get("/api/users/me")
+                            .header("Authorization", "Bearer " + jwtUtil.generateToken(testUser)))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("토큰 없이 로그아웃하면 401을 반환해야 한다")
+        void logout_WithoutToken_ShouldFail() throws Exception {
+            // When
+            ResultActions result = mockMvc.perform(post("/api/auth/logout"));
+
+            // Then
+            result.andDo(print())
+                    .andExpect(status().isUnauthorized());
+        }
+    }
 }
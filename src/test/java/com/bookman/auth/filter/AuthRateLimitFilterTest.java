@@ -0,0 +1,202 @@
+package com.bookman.auth.filter;
+
+import com.bookman.auth.config.AuthRateLimitConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("인증 API 레이트 리밋 필터 테스트")
+class AuthRateLimitFilterTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AuthRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        AuthRateLimitConfig.RouteLimit login = new AuthRateLimitConfig.RouteLimit();
+        login.setPerIp(new AuthRateLimitConfig.Bucket(3, Duration.ofMinutes(1)));
+        login.setPerUsername(new AuthRateLimitConfig.Bucket(2, Duration.ofMinutes(1)));
+
+        AuthRateLimitConfig config = new AuthRateLimitConfig();
+        config.getRoutes().put("login", login);
+        filter = new AuthRateLimitFilter(config, objectMapper, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 IP의 요청이 한도를 넘으면 429와 Retry-After를 반환해야 한다")
+    void filter_WhenIpLimitExceeded_ShouldReturn429() throws Exception {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            assertThat(perform(loginRequest("10.0.0.1", "user" + i)).getStatus()).isEqualTo(200);
+        }
+
+        // When
+        MockHttpServletResponse response = perform(loginRequest("10.0.0.1", "another"));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("20");
+        assertThat(meterRegistry.get("auth.rate-limit.rejected").tag("route", "login").tag("key", "ip").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 IP에서 같은 사용자명을 시도하면 사용자명 한도로 거절되어야 한다")
+    void filter_WhenUsernameLimitExceeded_ShouldReturn429() throws Exception {
+        // Given
+        perform(loginRequest("10.0.0.1", "victim"));
+        perform(loginRequest("10.0.0.2", "Victim"));
+
+        // When
+        MockHttpServletResponse response = perform(loginRequest("10.0.0.3", "victim"));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(meterRegistry.get("auth.rate-limit.rejected").tag("route", "login").tag("key", "username").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("본문을 읽은 뒤에도 다음 필터에서 같은 본문을 읽을 수 있어야 한다")
+    void filter_ShouldReplayRequestBody() throws Exception {
+        // Given
+        MockHttpServletRequest request = loginRequest("10.0.0.1", "testuser");
+        MockFilterChain chain = new MockFilterChain();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        String forwardedBody = new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(forwardedBody).contains("\"username\":\"testuser\"");
+    }
+
+    @Test
+    @DisplayName("Content-Length가 없는(chunked) 요청도 사용자명 한도가 적용되어야 한다")
+    void filter_WithChunkedBody_ShouldApplyUsernameLimit() throws Exception {
+        // Given
+        perform(chunked(loginRequest("10.0.0.1", "victim")));
+        perform(chunked(loginRequest("10.0.0.2", "victim")));
+
+        // When
+        MockHttpServletResponse response = perform(chunked(loginRequest("10.0.0.3", "victim")));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(meterRegistry.get("auth.rate-limit.rejected").tag("route", "login").tag("key", "username").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘는 본문은 Content-Length 유무와 관계없이 413으로 거절되어야 한다")
+    void filter_WithOversizedBody_ShouldReturn413() throws Exception {
+        // Given
+        byte[] oversized = new byte[new AuthRateLimitConfig().getMaxBodyBytes() + 1];
+        MockHttpServletRequest declared = loginRequest("10.0.0.1", "victim");
+        declared.setContent(oversized);
+        MockHttpServletRequest streamed = chunked(loginRequest("10.0.0.2", "victim"));
+        streamed.setContent(oversized);
+
+        // When & Then
+        assertThat(perform(declared).getStatus()).isEqualTo(413);
+        assertThat(perform(streamed).getStatus()).isEqualTo(413);
+        assertThat(meterRegistry.get("auth.rate-limit.rejected").tag("route", "login").tag("key", "body-size").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다시 읽는 본문에 ReadListener를 등록하면 바로 읽기 가능과 끝을 알려야 한다")
+    void filter_ReplayedBody_ShouldNotifyReadListener() throws Exception {
+        // Given
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(loginRequest("10.0.0.1", "testuser"), new MockHttpServletResponse(), chain);
+        ServletInputStream input = chain.getRequest().getInputStream();
+        List<String> events = new ArrayList<>();
+
+        // When
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                events.add("available");
+                input.readAllBytes();
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        // Then
+        assertThat(events).containsExactly("available", "done");
+        assertThat(input.isFinished()).isTrue();
+    }
+
+    @Test
+    @DisplayName("인증 API가 아닌 경로는 제한하지 않아야 한다")
+    void filter_ShouldIgnoreOtherPaths() throws Exception {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+            request.setRemoteAddr("10.0.0.1");
+
+            // When & Then
+            assertThat(perform(request).getStatus()).isEqualTo(200);
+        }
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    /**
+     * Transfer-Encoding: chunked 요청처럼 Content-Length를 알 수 없는 요청
+     */
+    private static MockHttpServletRequest chunked(MockHttpServletRequest source) {
+        MockHttpServletRequest request = new MockHttpServletRequest(source.getMethod(), source.getRequestURI()) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+        };
+        request.setRemoteAddr(source.getRemoteAddr());
+        request.setContentType(source.getContentType());
+        request.setContent(source.getContentAsByteArray());
+        request.addHeader("Transfer-Encoding", "chunked");
+        return request;
+    }
+
+    private static MockHttpServletRequest loginRequest(String ip, String username) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(ip);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(("{\"username\":\"" + username + "\",\"password\":\"password\"}").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
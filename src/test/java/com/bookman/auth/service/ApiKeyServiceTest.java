@@ -0,0 +1,170 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.config.ApiKeyConfig;
+import com.bookman.auth.dto.ApiKeyRequest;
+import com.bookman.auth.dto.ApiKeyResponse;
+import com.bookman.auth.entity.ApiKey;
+import com.bookman.auth.principal.ApiKeyPrincipal;
+import com.bookman.auth.repository.ApiKeyRepository;
+import com.bookman.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("API 키 서비스 테스트")
+class ApiKeyServiceTest {
+
+    @Mock
+    private ApiKeyRepository apiKeyRepository;
+
+    private ApiKeyService apiKeyService;
+
+    // 가장 최근 발급한 원본 키
+    private String lastIssuedKey;
+
+    @BeforeEach
+    void setUp() {
+        ApiKeyConfig config = new ApiKeyConfig();
+        config.setHmacSecret("testApiKeyPepper1234567890");
+        apiKeyService = new ApiKeyService(apiKeyRepository, config, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("발급한 키로 인증하면 주체가 반환되고, 다이제스트만 저장되어야 한다")
+    void authenticate_WithIssuedKey_ShouldReturnPrincipal() {
+        // Given
+        ApiKey stored = issue("report-batch", User.Role.ADMIN);
+        String rawKey = lastIssuedKey;
+
+        // When
+        ApiKeyPrincipal principal = apiKeyService.authenticate(rawKey);
+
+        // Then
+        assertThat(principal).isNotNull();
+        assertThat(principal.name()).isEqualTo("report-batch");
+        assertThat(principal.role()).isEqualTo(User.Role.ADMIN);
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN", ApiKeyPrincipal.SERVICE_AUTHORITY);
+        assertThat(rawKey).startsWith("bk_" + stored.getPrefix() + ".");
+        assertThat(rawKey).doesNotContain(stored.getSecretDigest());
+    }
+
+    @Test
+    @DisplayName("두 번째 인증부터는 저장소 조회 없이 캐시로 검증해야 한다")
+    void authenticate_Twice_ShouldHitRepositoryOnce() {
+        // Given
+        ApiKey stored = issue("gateway", User.Role.USER);
+
+        // When
+        apiKeyService.authenticate(lastIssuedKey);
+        ApiKeyPrincipal second = apiKeyService.authenticate(lastIssuedKey);
+
+        // Then
+        assertThat(second).isNotNull();
+        verify(apiKeyRepository, times(1)).findByPrefix(stored.getPrefix());
+    }
+
+    @Test
+    @DisplayName("prefix가 같아도 비밀 부분이 다르면 캐시 여부와 관계없이 거절해야 한다")
+    void authenticate_WithWrongSecret_ShouldBeRejected() {
+        // Given
+        ApiKey stored = issue("gateway", User.Role.USER);
+        String forged = "bk_" + stored.getPrefix() + ".forgedSecretValue";
+
+        // When & Then
+        assertThat(apiKeyService.authenticate(forged)).isNull();
+        assertThat(apiKeyService.authenticate(lastIssuedKey)).isNotNull();
+        assertThat(apiKeyService.authenticate(forged)).isNull();
+    }
+
+    @Test
+    @DisplayName("폐기된 키는 캐시에서도 빠져 거절되어야 한다")
+    void revoke_ShouldRejectCachedKey() {
+        // Given
+        ApiKey stored = issue("gateway", User.Role.USER);
+        stored.setId(1L);
+        assertThat(apiKeyService.authenticate(lastIssuedKey)).isNotNull();
+        when(apiKeyRepository.findById(1L)).thenReturn(Optional.of(stored));
+
+        // When
+        apiKeyService.revoke(1L);
+
+        // Then
+        assertThat(apiKeyService.authenticate(lastIssuedKey)).isNull();
+    }
+
+    @Test
+    @DisplayName("폐기 전에 DB를 읽은 검증이 늦게 끝나도 폐기된 키를 다시 캐시하지 않아야 한다")
+    void authenticate_WhenRevokedDuringLookup_ShouldNotCacheKey() {
+        // Given - prefix 조회가 폐기 전 상태를 읽는 동안 폐기가 처리된다
+        ApiKey stored = issue("gateway", User.Role.USER);
+        stored.setId(1L);
+        ApiKey staleRead = ApiKey.builder()
+                .id(1L)
+                .prefix(stored.getPrefix())
+                .secretDigest(stored.getSecretDigest())
+                .name(stored.getName())
+                .role(stored.getRole())
+                .build();
+        when(apiKeyRepository.findById(1L)).thenReturn(Optional.of(stored));
+        when(apiKeyRepository.findByPrefix(stored.getPrefix()))
+                .thenAnswer(invocation -> {
+                    apiKeyService.revoke(1L);
+                    return Optional.of(staleRead);
+                })
+                .thenReturn(Optional.of(stored));
+
+        // When - 조회를 시작한 요청은 읽은 값으로 통과하지만 캐시에는 남기지 않는다
+        assertThat(apiKeyService.authenticate(lastIssuedKey)).isNotNull();
+
+        // Then
+        assertThat(apiKeyService.authenticate(lastIssuedKey)).isNull();
+        verify(apiKeyRepository, times(2)).findByPrefix(stored.getPrefix());
+    }
+
+    @Test
+    @DisplayName("만료된 키는 거절되어야 한다")
+    void authenticate_WithExpiredKey_ShouldBeRejected() {
+        // Given
+        ApiKey stored = issue("gateway", User.Role.USER);
+        stored.setExpiresAt(Instant.now().minusSeconds(1));
+
+        // When & Then
+        assertThat(apiKeyService.authenticate(lastIssuedKey)).isNull();
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 키는 저장소 조회 없이 거절해야 한다")
+    void authenticate_WithMalformedKey_ShouldSkipRepository() {
+        assertThat(apiKeyService.authenticate("not-an-api-key")).isNull();
+        assertThat(apiKeyService.authenticate("bk_short.secret")).isNull();
+        assertThat(apiKeyService.authenticate("bk_abcdefghijkl.")).isNull();
+        verifyNoInteractions(apiKeyRepository);
+    }
+
+    /**
+     * 키를 발급하고 저장된 엔티티를 prefix 조회 결과로 돌려주도록 설정
+     */
+    private ApiKey issue(String name, User.Role role) {
+        ArgumentCaptor<ApiKey> saved = ArgumentCaptor.forClass(ApiKey.class);
+        when(apiKeyRepository.save(saved.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ApiKeyResponse response = apiKeyService.issue(ApiKeyRequest.builder().name(name).role(role).build());
+        lastIssuedKey = response.getKey();
+
+        ApiKey stored = saved.getValue();
+        lenient().when(apiKeyRepository.findByPrefix(stored.getPrefix())).thenReturn(Optional.of(stored));
+        return stored;
+    }
+}
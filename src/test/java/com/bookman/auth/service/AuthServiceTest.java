@@ -1,12 +1,24 @@
 package com.bookman.auth.service;
 
+import com.bookman.activity.entity.ActivityLog;
+import com.bookman.activity.service.ActivityLogService;
+import com.bookman.auth.config.AuthFlowConfig;
 import com.bookman.auth.dto.AuthResponse;
 import com.bookman.auth.dto.LoginRequest;
+import com.bookman.auth.dto.LogoutRequest;
+import com.bookman.auth.dto.RefreshTokenRequest;
 import com.bookman.auth.dto.RegisterRequest;
 import com.bookman.auth.util.JwtUtil;
+import com.bookman.auth.util.VerifiedToken;
 import com.bookman.common.TestDataFactory;
+import com.bookman.common.exception.InvalidTokenException;
+import com.bookman.common.exception.ServiceOverloadedException;
+import com.bookman.common.exception.TooManyLoginAttemptsException;
+import com.bookman.common.service.StructuredTaskRunner;
+import com.bookman.common.service.VirtualThreadMonitoringService;
 import com.bookman.user.entity.User;
 import com.bookman.user.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,14 +26,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.Optional;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,6 +48,8 @@ import static org.mockito.Mockito.*;
 @DisplayName("인증 서비스 테스트")
 class AuthServiceTest {
 
+    private static final String CLIENT_IP = "127.0.0.1";
+
     @Mock
     private UserRepository userRepository;
 
@@ -46,6 +65,27 @@ class AuthServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private VirtualThreadMonitoringService monitoringService;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private ActivityLogService activityLogService;
+
+    @Mock
+    private LoginAttemptService loginAttemptService;
+
+    @Spy
+    private StructuredTaskRunner structuredTaskRunner = new StructuredTaskRunner();
+
+    @Spy
+    private AuthFlowConfig authFlowConfig = new AuthFlowConfig();
+
     @InjectMocks
     private AuthService authService;
 
@@ -65,13 +105,11 @@ class AuthServiceTest {
     class RegisterTest {
 
         @Test
-        @DisplayName("유효한 회원가입 요청시 성공해야 한다")
+        @DisplayName("유효한 회원가입 요청시 사전 중복 조회 없이 바로 저장해야 한다")
         void register_WithValidRequest_ShouldSucceed() {
             // Given
-            when(userRepository.existsByUsername(registerRequest.getUsername())).thenReturn(false);
-            when(userRepository.existsByEmail(registerRequest.getEmail())).thenReturn(false);
             when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
-            when(userRepository.save(any(User.class))).thenReturn(testUser);
+            when(userRepository.saveAndFlush(any(User.class))).thenReturn(testUser);
             when(jwtUtil.generateToken(any(User.class))).thenReturn("jwt-token");
 
             // When
@@ -84,42 +122,94 @@ class AuthServiceTest {
             assertThat(response.getEmail()).isEqualTo(testUser.getEmail());
             assertThat(response.getRole()).isEqualTo("USER");
 
-            verify(userRepository).existsByUsername(registerRequest.getUsername());
-            verify(userRepository).existsByEmail(registerRequest.getEmail());
             verify(passwordEncoder).encode(registerRequest.getPassword());
-            verify(userRepository).save(any(User.class));
+            verify(userRepository).saveAndFlush(any(User.class));
+            verify(userRepository, never()).existsByUsername(any());
+            verify(userRepository, never()).existsByEmail(any());
             verify(jwtUtil).generateToken(any(User.class));
+            verify(activityLogService).record(testUser.getUsername(), ActivityLog.ActivityType.REGISTER);
         }
 
         @Test
-        @DisplayName("중복된 사용자명으로 회원가입시 예외가 발생해야 한다")
+        @DisplayName("사용자 저장과 리프레시 토큰 저장은 회원가입 트랜잭션이 있는 요청 스레드에서 실행되어야 한다")
+        void register_ShouldKeepRepositoryWorkOnCallerThread() {
+            // Given
+            Thread caller = Thread.currentThread();
+            AtomicReference<Thread> saveThread = new AtomicReference<>();
+            AtomicReference<Thread> refreshThread = new AtomicReference<>();
+            when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
+            when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
+                saveThread.set(Thread.currentThread());
+                return testUser;
+            });
+            when(jwtUtil.generateToken(any(User.class))).thenReturn("jwt-token");
+            when(refreshTokenService.issue(testUser)).thenAnswer(invocation -> {
+                refreshThread.set(Thread.currentThread());
+                return "refresh-token";
+            });
+
+            // When
+            AuthResponse response = authService.register(registerRequest);
+
+            // Then
+            assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
+            assertThat(saveThread.get()).isSameAs(caller);
+            assertThat(refreshThread.get()).isSameAs(caller);
+        }
+
+        @Test
+        @DisplayName("리프레시 토큰 저장은 JWT 서명 하위 작업과 겹치지 않고 서명 전에 끝나야 한다")
+        void register_ShouldIssueRefreshTokenBeforeForkingSignature() {
+            // Given
+            when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
+            when(userRepository.saveAndFlush(any(User.class))).thenReturn(testUser);
+            when(refreshTokenService.issue(testUser)).thenReturn("refresh-token");
+            when(jwtUtil.generateToken(testUser)).thenReturn("jwt-token");
+
+            // When
+            authService.register(registerRequest);
+
+            // Then
+            var inOrder = inOrder(userRepository, refreshTokenService, jwtUtil);
+            inOrder.verify(userRepository).saveAndFlush(any(User.class));
+            inOrder.verify(refreshTokenService).issue(testUser);
+            inOrder.verify(jwtUtil).generateToken(testUser);
+        }
+
+        @Test
+        @DisplayName("사용자명 유니크 제약 위반시 중복 사용자명 예외가 발생해야 한다")
         void register_WithDuplicateUsername_ShouldThrowException() {
             // Given
-            when(userRepository.existsByUsername(registerRequest.getUsername())).thenReturn(true);
+            when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
+            when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation(User.USERNAME_CONSTRAINT));
 
             // When & Then
             assertThatThrownBy(() -> authService.register(registerRequest))
                     .isInstanceOf(RuntimeException.class)
                     .hasMessageContaining("이미 존재하는 사용자명");
 
-            verify(userRepository).existsByUsername(registerRequest.getUsername());
-            verify(userRepository, never()).save(any());
+            verify(jwtUtil, never()).generateToken(any());
         }
 
         @Test
-        @DisplayName("중복된 이메일로 회원가입시 예외가 발생해야 한다")
+        @DisplayName("이메일 유니크 제약 위반시 중복 이메일 예외가 발생해야 한다")
         void register_WithDuplicateEmail_ShouldThrowException() {
             // Given
-            when(userRepository.existsByUsername(registerRequest.getUsername())).thenReturn(false);
-            when(userRepository.existsByEmail(registerRequest.getEmail())).thenReturn(true);
+            when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
+            when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation(User.EMAIL_CONSTRAINT));
 
             // When & Then
             assertThatThrownBy(() -> authService.register(registerRequest))
                     .isInstanceOf(RuntimeException.class)
                     .hasMessageContaining("이미 존재하는 이메일");
 
-            verify(userRepository).existsByEmail(registerRequest.getEmail());
-            verify(userRepository, never()).save(any());
+            verify(jwtUtil, never()).generateToken(any());
+        }
+
+        private DataIntegrityViolationException uniqueViolation(String constraintName) {
+            ConstraintViolationException cause = new ConstraintViolationException(
+                    "unique violation", new SQLException("duplicate", "23505"), "PUBLIC." + constraintName.toUpperCase() + "_INDEX_4");
+            return new DataIntegrityViolationException("could not execute statement", cause);
         }
     }
 
@@ -128,28 +218,32 @@ class AuthServiceTest {
     class LoginTest {
 
         @Test
-        @DisplayName("유효한 로그인 요청시 성공해야 한다")
+        @DisplayName("유효한 로그인 요청시 인증된 principal로 재조회 없이 성공해야 한다")
         void login_WithValidCredentials_ShouldSucceed() {
             // Given
             when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                     .thenReturn(authentication);
             when(authentication.getPrincipal()).thenReturn(testUser);
-            when(userRepository.findByUsername(testUser.getUsername())).thenReturn(Optional.of(testUser));
             when(jwtUtil.generateToken(testUser)).thenReturn("jwt-token");
+            when(refreshTokenService.issue(testUser)).thenReturn("refresh-token");
 
             // When
-            AuthResponse response = authService.login(loginRequest);
+            AuthResponse response = authService.login(loginRequest, CLIENT_IP);
 
             // Then
             assertThat(response).isNotNull();
             assertThat(response.getToken()).isEqualTo("jwt-token");
+            assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
+            assertThat(response.getType()).isEqualTo("Bearer");
             assertThat(response.getUsername()).isEqualTo(testUser.getUsername());
             assertThat(response.getEmail()).isEqualTo(testUser.getEmail());
             assertThat(response.getRole()).isEqualTo("USER");
 
             verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-            verify(userRepository).findByUsername(testUser.getUsername());
+            verify(userRepository, never()).findByUsername(any());
             verify(jwtUtil).generateToken(testUser);
+            verify(activityLogService).record(testUser.getUsername(), ActivityLog.ActivityType.LOGIN);
+            verify(loginAttemptService).recordSuccess(loginRequest.getUsername());
         }
 
         @Test
@@ -160,31 +254,149 @@ class AuthServiceTest {
                     .thenThrow(new BadCredentialsException("Invalid credentials"));
 
             // When & Then
-            assertThatThrownBy(() -> authService.login(loginRequest))
+            assertThatThrownBy(() -> authService.login(loginRequest, CLIENT_IP))
                     .isInstanceOf(BadCredentialsException.class);
 
             verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
             verify(userRepository, never()).findByUsername(any());
             verify(jwtUtil, never()).generateToken(any());
+            verify(loginAttemptService).recordFailure(loginRequest.getUsername(), CLIENT_IP);
         }
 
         @Test
-        @DisplayName("인증 후 사용자를 찾을 수 없으면 예외가 발생해야 한다")
-        void login_WhenUserNotFoundAfterAuth_ShouldThrowException() {
+        @DisplayName("인증 단계가 마감 시각을 넘기면 취소하고 503 예외로 끝내야 한다")
+        void login_WhenAuthenticationExceedsDeadline_ShouldCancelAndReject() {
+            // Given
+            authFlowConfig.setLoginDeadline(Duration.ofMillis(100));
+            AtomicReference<Boolean> interrupted = new AtomicReference<>(false);
+            when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                    .thenAnswer(invocation -> {
+                        try {
+                            Thread.sleep(Duration.ofSeconds(5));
+                        } catch (InterruptedException e) {
+                            interrupted.set(true);
+                        }
+                        return authentication;
+                    });
+
+            // When & Then
+            long startedAt = System.nanoTime();
+            assertThatThrownBy(() -> authService.login(loginRequest, CLIENT_IP))
+                    .isInstanceOf(ServiceOverloadedException.class);
+
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+            assertThat(interrupted.get()).isTrue();
+            verify(jwtUtil, never()).generateToken(any());
+            verify(loginAttemptService, never()).recordFailure(any(), any());
+            verify(loginAttemptService, never()).recordSuccess(any());
+        }
+
+        @Test
+        @DisplayName("잠긴 사용자명/IP는 인증(비밀번호 검증)을 시도하지 않고 거절해야 한다")
+        void login_WhenLockedOut_ShouldRejectBeforeAuthentication() {
+            // Given
+            doThrow(new TooManyLoginAttemptsException("로그인 실패가 너무 많습니다.", Duration.ofSeconds(60)))
+                    .when(loginAttemptService).checkAllowed(loginRequest.getUsername(), CLIENT_IP);
+
+            // When & Then
+            assertThatThrownBy(() -> authService.login(loginRequest, CLIENT_IP))
+                    .isInstanceOf(TooManyLoginAttemptsException.class);
+
+            verify(authenticationManager, never()).authenticate(any());
+            verify(loginAttemptService, never()).recordFailure(any(), any());
+        }
+
+        @Test
+        @DisplayName("인증 주체가 User가 아니면 토큰을 발급하지 않아야 한다")
+        void login_WhenPrincipalIsNotUser_ShouldThrowException() {
             // Given
             when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                     .thenReturn(authentication);
-            when(authentication.getPrincipal()).thenReturn(testUser);
-            when(userRepository.findByUsername(testUser.getUsername())).thenReturn(Optional.empty());
+            when(authentication.getPrincipal()).thenReturn(testUser.getUsername());
 
             // When & Then
-            assertThatThrownBy(() -> authService.login(loginRequest))
-                    .isInstanceOf(RuntimeException.class)
-                    .hasMessageContaining("사용자를 찾을 수 없습니다");
+            assertThatThrownBy(() -> authService.login(loginRequest, CLIENT_IP))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("인증 주체");
 
-            verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-            verify(userRepository).findByUsername(testUser.getUsername());
+            verify(userRepository, never()).findByUsername(any());
+            verify(jwtUtil, never()).generateToken(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("토큰 갱신 테스트")
+    class RefreshTest {
+
+        @Test
+        @DisplayName("유효한 리프레시 토큰이면 비밀번호 검증 없이 새 토큰을 발급해야 한다")
+        void refresh_WithValidToken_ShouldIssueNewTokensWithoutAuthentication() {
+            // Given
+            when(refreshTokenService.rotate("old-refresh"))
+                    .thenReturn(new RefreshTokenService.Rotation(testUser, "new-refresh"));
+            when(jwtUtil.generateToken(testUser)).thenReturn("jwt-token");
+
+            // When
+            AuthResponse response = authService.refresh(new RefreshTokenRequest("old-refresh"));
+
+            // Then
+            assertThat(response.getToken()).isEqualTo("jwt-token");
+            assertThat(response.getRefreshToken()).isEqualTo("new-refresh");
+            assertThat(response.getUsername()).isEqualTo(testUser.getUsername());
+            verifyNoInteractions(authenticationManager, passwordEncoder);
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 리프레시 토큰이면 토큰을 발급하지 않아야 한다")
+        void refresh_WithInvalidToken_ShouldThrowException() {
+            // Given
+            when(refreshTokenService.rotate("bad-refresh"))
+                    .thenThrow(new InvalidTokenException("유효하지 않은 리프레시 토큰입니다."));
+
+            // When & Then
+            assertThatThrownBy(() -> authService.refresh(new RefreshTokenRequest("bad-refresh")))
+                    .isInstanceOf(InvalidTokenException.class);
             verify(jwtUtil, never()).generateToken(any());
         }
     }
+
+    @Nested
+    @DisplayName("로그아웃 테스트")
+    class LogoutTest {
+
+        @Test
+        @DisplayName("로그아웃하면 토큰을 폐기하고 로그아웃 활동을 기록해야 한다")
+        void logout_ShouldRevokeTokensAndRecordActivity() {
+            // Given
+            VerifiedToken token = new VerifiedToken(testUser.getUsername(), Instant.now(),
+                    Instant.now().plusSeconds(60), null);
+            when(jwtUtil.verify("access-token")).thenReturn(token);
+            when(tokenRevocationService.revoke(token)).thenReturn(true);
+
+            // When
+            authService.logout("access-token", new LogoutRequest("refresh-token"));
+
+            // Then
+            verify(tokenRevocationService).revoke(token);
+            verify(refreshTokenService).revoke("refresh-token");
+            verify(activityLogService).record(testUser.getUsername(), ActivityLog.ActivityType.LOGOUT);
+        }
+
+        @Test
+        @DisplayName("관리자 강제 폐기는 로그아웃 활동으로 기록하지 않아야 한다")
+        void revoke_ShouldNotRecordLogout() {
+            // Given
+            VerifiedToken token = new VerifiedToken(testUser.getUsername(), Instant.now(),
+                    Instant.now().plusSeconds(60), null);
+            when(jwtUtil.verify("access-token")).thenReturn(token);
+            when(tokenRevocationService.revoke(token)).thenReturn(true);
+
+            // When
+            authService.revoke("access-token");
+
+            // Then
+            verify(tokenRevocationService).revoke(token);
+            verifyNoInteractions(activityLogService);
+        }
+    }
 }
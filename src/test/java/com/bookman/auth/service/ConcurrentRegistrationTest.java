@@ -0,0 +1,91 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.dto.RegisterRequest;
+import com.bookman.common.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 사용자명으로 동시에 회원가입할 때 유니크 제약 조건만으로 중복이 감지되는지 검증
+ *
+ * 실제 커밋 경합이 필요하므로 테스트 트랜잭션 없이 실행하고, 생성한 행은 직접 삭제한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("동시 회원가입 테스트")
+class ConcurrentRegistrationTest {
+
+    private static final int CONCURRENT_REQUESTS = 16;
+    private static final String USERNAME = "raceuser";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM users WHERE username = ?", USERNAME);
+    }
+
+    @Test
+    @DisplayName("동시 가입 요청 중 하나만 성공하고 나머지는 중복 사용자명 오류를 받아야 한다")
+    void register_Concurrently_ShouldDetectDuplicatesWithSingleInsertEach() throws Exception {
+        // Given
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        QueryCounter.reset();
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                RegisterRequest request = RegisterRequest.builder()
+                        .username(USERNAME)
+                        .email("race" + i + "@test.com")
+                        .password("password123")
+                        .fullName("동시 가입자 " + i)
+                        .build();
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        authService.register(request);
+                        return "OK";
+                    } catch (RuntimeException e) {
+                        return e.getMessage();
+                    }
+                }));
+            }
+            start.countDown();
+        }
+
+        // Then
+        List<String> outcomes = new ArrayList<>();
+        for (Future<String> result : results) {
+            outcomes.add(result.get());
+        }
+        assertThat(outcomes).filteredOn("OK"::equals).hasSize(1);
+        assertThat(outcomes).filteredOn(outcome -> !"OK".equals(outcome))
+                .hasSize(CONCURRENT_REQUESTS - 1)
+                .allMatch(outcome -> outcome.contains("이미 존재하는 사용자명"));
+
+        // 사전 중복 조회(SELECT 2회/요청) 없이 요청당 INSERT 1회로 판단
+        // (ID 블록 조회는 앞선 테스트가 블록을 남겼는지에 따라 달라지므로 QueryCounter가 SELECT에서 제외)
+        assertThat(QueryCounter.selects()).isZero();
+        assertThat(QueryCounter.inserts()).isEqualTo(CONCURRENT_REQUESTS);
+    }
+}
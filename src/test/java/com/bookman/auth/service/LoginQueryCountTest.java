@@ -0,0 +1,79 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.dto.AuthResponse;
+import com.bookman.auth.dto.LoginRequest;
+import com.bookman.common.QueryCounter;
+import com.bookman.user.entity.User;
+import com.bookman.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 시 사용자 조회가 인증 단계의 한 번뿐인지 검증 (test 프로필은 사용자 캐시 비활성화)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("로그인 쿼리 수 테스트")
+class LoginQueryCountTest {
+
+    private static final String USERNAME = "querycountuser";
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .username(USERNAME)
+                .email("querycount@test.com")
+                .password(passwordEncoder.encode(PASSWORD))
+                .fullName("쿼리 수 검증 사용자")
+                .role(User.Role.USER)
+                .isActive(true)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM users WHERE username = ?", USERNAME);
+    }
+
+    @Test
+    @DisplayName("로그인은 사용자 SELECT 한 번으로 끝나야 한다")
+    void login_ShouldLoadUserExactlyOnce() {
+        // Given
+        LoginRequest request = LoginRequest.builder()
+                .username(USERNAME)
+                .password(PASSWORD)
+                .build();
+        QueryCounter.reset();
+
+        // When
+        AuthResponse response = authService.login(request, "127.0.0.1");
+
+        // Then
+        assertThat(response.getUsername()).isEqualTo(USERNAME);
+        assertThat(response.getToken()).isNotBlank();
+        assertThat(QueryCounter.selects()).isEqualTo(1);
+        assertThat(QueryCounter.total()).isEqualTo(1);
+    }
+}
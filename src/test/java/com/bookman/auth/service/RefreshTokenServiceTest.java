@@ -0,0 +1,97 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.config.RefreshTokenConfig;
+import com.bookman.common.TestDataFactory;
+import com.bookman.common.exception.InvalidTokenException;
+import com.bookman.user.entity.User;
+import com.bookman.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("리프레시 토큰 서비스 테스트")
+class RefreshTokenServiceTest {
+
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+    private final RefreshTokenConfig config = new RefreshTokenConfig();
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private RefreshTokenService refreshTokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(store, config, userRepository);
+        user = TestDataFactory.createTestUser();
+        user.setUserId(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("교환하면 새 리프레시 토큰이 발급되고 이전 토큰은 다시 쓸 수 없어야 한다")
+    void rotate_ShouldIssueNewTokenAndConsumeOldOne() {
+        // Given
+        String issued = refreshTokenService.issue(user);
+
+        // When
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(issued);
+
+        // Then
+        assertThat(rotation.user()).isSameAs(user);
+        assertThat(rotation.refreshToken()).isNotEqualTo(issued);
+        assertThat(refreshTokenService.rotate(rotation.refreshToken()).refreshToken()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("사용된 토큰이 재제출되면 같은 family의 모든 토큰이 폐기되어야 한다")
+    void rotate_WhenTokenReused_ShouldRevokeWholeFamily() {
+        // Given
+        String issued = refreshTokenService.issue(user);
+        String rotated = refreshTokenService.rotate(issued).refreshToken();
+
+        // When & Then - 탈취된 이전 토큰 재사용
+        assertThatThrownBy(() -> refreshTokenService.rotate(issued))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessageContaining("이미 사용된");
+        // 정상 사용자가 가진 최신 토큰도 폐기됨
+        assertThatThrownBy(() -> refreshTokenService.rotate(rotated))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("비활성화된 사용자의 토큰은 교환할 수 없어야 한다")
+    void rotate_WhenUserDisabled_ShouldReject() {
+        // Given
+        String issued = refreshTokenService.issue(user);
+        user.deactivate();
+
+        // When & Then
+        assertThatThrownBy(() -> refreshTokenService.rotate(issued))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 배치 크기 단위로 모두 정리되어야 한다")
+    void purgeExpired_ShouldRemoveAllExpiredTokensInBatches() {
+        // Given
+        config.setPurgeBatchSize(2);
+        Instant past = Instant.now().minus(Duration.ofMinutes(1));
+        for (int i = 0; i < 5; i++) {
+            store.save(RefreshTokenRecord.issued("expired-" + i, "family", 1L, past));
+        }
+        String live = refreshTokenService.issue(user);
+
+        // When
+        refreshTokenService.purgeExpired();
+
+        // Then
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(refreshTokenService.rotate(live).refreshToken()).isNotBlank();
+    }
+}
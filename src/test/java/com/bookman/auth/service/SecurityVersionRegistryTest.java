@@ -0,0 +1,151 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.config.SecurityVersionConfig;
+import com.bookman.auth.principal.JwtPrincipal;
+import com.bookman.user.entity.User;
+import com.bookman.user.event.UserChangedEvent;
+import com.bookman.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("사용자 보안 버전 레지스트리 테스트")
+class SecurityVersionRegistryTest {
+
+    private static final Long USER_ID = 42L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SecurityVersionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SecurityVersionRegistry(userRepository, new SecurityVersionConfig());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 사용자는 DB에서 보안 버전을 읽고, 이후에는 캐시된 값을 사용해야 한다")
+    void isCurrent_OnMiss_ShouldLoadFromDatabaseOnce() {
+        // Given
+        when(userRepository.findActiveSecurityVersion(USER_ID)).thenReturn(Optional.of(3));
+
+        // When
+        boolean first = registry.isCurrent(principal(3));
+        boolean second = registry.isCurrent(principal(3));
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(userRepository, times(1)).findActiveSecurityVersion(USER_ID);
+    }
+
+    @Test
+    @DisplayName("DB의 보안 버전보다 낮은 클레임은 재시작 후 첫 요청에서도 거부되어야 한다")
+    void isCurrent_WithOlderClaim_ShouldBeRejected() {
+        // Given
+        when(userRepository.findActiveSecurityVersion(USER_ID)).thenReturn(Optional.of(4));
+
+        // When & Then
+        assertThat(registry.isCurrent(principal(3))).isFalse();
+        assertThat(registry.isCurrent(principal(4))).isTrue();
+    }
+
+    @Test
+    @DisplayName("비활성화/삭제된 사용자(조회 결과 없음)의 토큰은 거부되어야 한다")
+    void isCurrent_WithInactiveUser_ShouldBeRejected() {
+        // Given
+        when(userRepository.findActiveSecurityVersion(USER_ID)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(registry.isCurrent(principal(0))).isFalse();
+    }
+
+    @Test
+    @DisplayName("이 노드에서 커밋된 변경은 DB 조회 없이 즉시 반영되어야 한다")
+    void onUserChanged_ShouldUpdateWithoutDatabaseLookup() {
+        // Given
+        registry.onUserChanged(new UserChangedEvent(USER_ID, "user", "user@example.com", 2, true,
+                UserChangedEvent.ChangeType.UPDATED));
+
+        // When & Then
+        assertThat(registry.isCurrent(principal(1))).isFalse();
+        assertThat(registry.isCurrent(principal(2))).isTrue();
+
+        registry.onUserChanged(new UserChangedEvent(USER_ID, "user", "user@example.com", 2, false,
+                UserChangedEvent.ChangeType.UPDATED));
+        assertThat(registry.isCurrent(principal(2))).isFalse();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("캐시 TTL이 지나면 다른 노드의 변경을 반영하기 위해 DB를 다시 조회해야 한다")
+    void isCurrent_AfterTtl_ShouldReloadFromDatabase() {
+        // Given
+        SecurityVersionConfig config = new SecurityVersionConfig();
+        config.setCacheTtl(Duration.ZERO);
+        registry = new SecurityVersionRegistry(userRepository, config);
+        when(userRepository.findActiveSecurityVersion(USER_ID)).thenReturn(Optional.of(1), Optional.of(2));
+
+        // When & Then
+        assertThat(registry.isCurrent(principal(1))).isTrue();
+        assertThat(registry.isCurrent(principal(1))).isFalse();
+        verify(userRepository, times(2)).findActiveSecurityVersion(USER_ID);
+    }
+
+    @Test
+    @DisplayName("변경 커밋 전에 시작된 DB 조회가 늦게 끝나도 커밋된 폐기(REVOKED)를 이전 버전으로 덮어쓰지 않아야 한다")
+    void isCurrent_WhenDeactivationCommitsDuringLoad_ShouldKeepRevoked() {
+        // Given - DB 조회가 이전 버전(1)을 읽는 동안 비활성화 커밋 이벤트가 처리된다
+        when(userRepository.findActiveSecurityVersion(USER_ID)).thenAnswer(invocation -> {
+            registry.onUserChanged(new UserChangedEvent(USER_ID, "user", "user@example.com", 2, false,
+                    UserChangedEvent.ChangeType.UPDATED));
+            return Optional.of(1);
+        });
+
+        // When - 조회를 시작한 요청은 읽은 값으로 판단하지만 캐시에는 남기지 않는다
+        registry.isCurrent(principal(1));
+
+        // Then
+        assertThat(registry.isCurrent(principal(1))).isFalse();
+        assertThat(registry.isCurrent(principal(2))).isFalse();
+        verify(userRepository, times(1)).findActiveSecurityVersion(USER_ID);
+    }
+
+    @Test
+    @DisplayName("변경 기록이 넘쳐 지워진 뒤에도 그 전에 시작된 조회 결과는 캐시에 남지 않아야 한다")
+    void isCurrent_WhenChangeTrackingOverflows_ShouldSkipStaleLoad() {
+        // Given
+        SecurityVersionConfig config = new SecurityVersionConfig();
+        config.setChangeTrackingSize(1);
+        registry = new SecurityVersionRegistry(userRepository, config);
+        when(userRepository.findActiveSecurityVersion(USER_ID)).thenAnswer(invocation -> {
+            registry.onUserChanged(new UserChangedEvent(USER_ID, "user", "user@example.com", 2, false,
+                    UserChangedEvent.ChangeType.UPDATED));
+            // 다른 사용자 변경으로 기록이 넘쳐 USER_ID의 변경 기록이 지워진다
+            registry.onUserChanged(new UserChangedEvent(USER_ID + 1, "other", "other@example.com", 1, true,
+                    UserChangedEvent.ChangeType.UPDATED));
+            return Optional.of(1);
+        });
+
+        // When
+        registry.isCurrent(principal(1));
+
+        // Then
+        assertThat(registry.isCurrent(principal(1))).isFalse();
+    }
+
+    private JwtPrincipal principal(int securityVersion) {
+        return new JwtPrincipal(USER_ID, "user", User.Role.USER, true, securityVersion);
+    }
+}
@@ -0,0 +1,179 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.config.TokenRevocationConfig;
+import com.bookman.auth.entity.RevokedToken;
+import com.bookman.auth.repository.RevokedTokenRepository;
+import com.bookman.auth.util.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("토큰 폐기 서비스 테스트")
+class TokenRevocationServiceTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationConfig config;
+    private TokenRevocationService revocationService;
+
+    @BeforeEach
+    void setUp() {
+        config = new TokenRevocationConfig();
+        config.setExpectedRevocations(100);
+        revocationService = new TokenRevocationService(config, revokedTokenRepository);
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰만 폐기된 것으로 판단해야 한다")
+    void isRevoked_ShouldOnlyMatchRevokedToken() {
+        // Given
+        VerifiedToken revoked = token(UUID.randomUUID().toString(), Duration.ofMinutes(5));
+        VerifiedToken active = token(UUID.randomUUID().toString(), Duration.ofMinutes(5));
+
+        // When
+        boolean accepted = revocationService.revoke(revoked);
+
+        // Then
+        assertThat(accepted).isTrue();
+        assertThat(revocationService.isRevoked(revoked)).isTrue();
+        assertThat(revocationService.isRevoked(active)).isFalse();
+    }
+
+    @Test
+    @DisplayName("jti가 없는 토큰은 폐기할 수 없어야 한다")
+    void revoke_WithoutJti_ShouldBeRejected() {
+        assertThat(revocationService.revoke(token(null, Duration.ofMinutes(5)))).isFalse();
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 만료 시각과 함께 DB에 기록되어야 한다")
+    void revoke_ShouldPersistUntilTokenExpiry() {
+        // Given
+        VerifiedToken token = token("persisted-jti", Duration.ofMinutes(5));
+        ArgumentCaptor<RevokedToken> saved = ArgumentCaptor.forClass(RevokedToken.class);
+
+        // When
+        revocationService.revoke(token);
+
+        // Then
+        verify(revokedTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getJti()).isEqualTo("persisted-jti");
+        assertThat(saved.getValue().getExpiresAt()).isEqualTo(token.expiration());
+        assertThat(saved.getValue().getRevokedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("기동 시 DB에 남은 폐기 기록을 읽어 재시작 전 폐기 토큰을 계속 거부해야 한다")
+    void loadRevocations_ShouldRestoreRevokedTokens() {
+        // Given
+        VerifiedToken revokedBeforeRestart = token("restart-jti", Duration.ofMinutes(5));
+        when(revokedTokenRepository.findActiveRevokedSince(eq(Instant.EPOCH), any()))
+                .thenReturn(List.of(stored(revokedBeforeRestart)));
+
+        // When
+        revocationService.loadRevocations();
+
+        // Then
+        assertThat(revocationService.isRevoked(revokedBeforeRestart)).isTrue();
+        assertThat(revocationService.isRevoked(token("other-jti", Duration.ofMinutes(5)))).isFalse();
+    }
+
+    @Test
+    @DisplayName("동기화는 다른 인스턴스의 새 폐기 기록을 이전 동기화 시각 - overlap부터 가져와야 한다")
+    void sync_ShouldFetchRevocationsFromOtherInstances() {
+        // Given
+        VerifiedToken revokedElsewhere = token("other-node-jti", Duration.ofMinutes(5));
+        when(revokedTokenRepository.findActiveRevokedSince(any(), any()))
+                .thenReturn(List.of(), List.of(stored(revokedElsewhere)));
+        revocationService.sync();
+
+        // When
+        int fetched = revocationService.sync();
+
+        // Then
+        assertThat(fetched).isEqualTo(1);
+        assertThat(revocationService.isRevoked(revokedElsewhere)).isTrue();
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        verify(revokedTokenRepository, times(2)).findActiveRevokedSince(since.capture(), any());
+        assertThat(since.getAllValues().get(0)).isEqualTo(Instant.EPOCH);
+        assertThat(since.getAllValues().get(1))
+                .isAfter(Instant.EPOCH)
+                .isBeforeOrEqualTo(Instant.now().minus(config.getSyncOverlap()));
+    }
+
+    @Test
+    @DisplayName("토큰이 만료되면 폐기 목록에서 제거되어야 한다")
+    void purgeExpired_ShouldDropEntriesPastTokenExpiry() {
+        // Given
+        VerifiedToken expired = token("expired-jti", Duration.ofSeconds(-1));
+        VerifiedToken live = token("live-jti", Duration.ofMinutes(5));
+        revocationService.revoke(expired);
+        revocationService.revoke(live);
+
+        when(revokedTokenRepository.findExpiredJtis(any(), any())).thenReturn(List.of("expired-jti"));
+        when(revokedTokenRepository.deleteByJtis(List.of("expired-jti"))).thenReturn(1);
+
+        // When
+        revocationService.purgeExpired();
+
+        // Then
+        assertThat(revocationService.size()).isEqualTo(1);
+        assertThat(revocationService.isRevoked(live)).isTrue();
+        verify(revokedTokenRepository).deleteByJtis(List.of("expired-jti"));
+    }
+
+    @Test
+    @DisplayName("예상 개수를 넘게 폐기해도 모든 토큰이 폐기 상태로 유지되어야 한다")
+    void revoke_BeyondExpectedCapacity_ShouldRebuildFilter() {
+        // Given
+        VerifiedToken[] tokens = new VerifiedToken[500];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = token("jti-" + i, Duration.ofMinutes(5));
+            revocationService.revoke(tokens[i]);
+        }
+
+        // Then
+        for (VerifiedToken token : tokens) {
+            assertThat(revocationService.isRevoked(token)).isTrue();
+        }
+    }
+
+    private static RevokedToken stored(VerifiedToken token) {
+        return RevokedToken.builder()
+                .jti(token.claims().getId())
+                .expiresAt(token.expiration())
+                .revokedAt(Instant.now())
+                .build();
+    }
+
+    private static VerifiedToken token(String jti, Duration ttl) {
+        Instant now = Instant.now();
+        Claims claims = Jwts.claims()
+                .id(jti)
+                .subject("testuser")
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(ttl)))
+                .build();
+        return VerifiedToken.from(claims);
+    }
+}
@@ -0,0 +1,129 @@
+package com.bookman.auth.service;
+
+import com.bookman.archive.service.ArchivalService;
+import com.bookman.common.QueryCounter;
+import com.bookman.user.entity.User;
+import com.bookman.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시를 켠 상태에서 커밋 이후 무효화가 모든 쓰기 경로에 적용되는지 검증
+ *
+ * 커밋 후 이벤트가 필요하므로 테스트 트랜잭션 없이 실행하고, 생성한 행은 직접 삭제한다.
+ */
+@SpringBootTest(properties = "auth.user-cache.enabled=true")
+@ActiveProfiles("test")
+@DisplayName("사용자 캐시 무효화 통합 테스트")
+class UserDetailsCacheIntegrationTest {
+
+    private static final long ID_BASE = 520_000_000L;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArchivalService archivalService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM users WHERE user_id >= ?", ID_BASE);
+        jdbcTemplate.update("DELETE FROM users_archive WHERE user_id >= ?", ID_BASE);
+        userDetailsCache.removeAllUsersFromCache();
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 반환되고, 엔티티 변경이 커밋되면 새 값을 읽어야 한다")
+    void loadUserByUsername_AfterCommittedUpdate_ShouldReadFreshUser() {
+        // Given
+        insertUser(ID_BASE, null);
+        String username = "cache" + ID_BASE;
+        userDetailsService.loadUserByUsername(username);
+
+        QueryCounter.reset();
+        UserDetails cached = userDetailsService.loadUserByUsername(username);
+        assertThat(QueryCounter.selects()).isZero();
+        assertThat(cached.isEnabled()).isTrue();
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findByUsername(username).orElseThrow();
+            user.deactivate();
+        });
+
+        // Then
+        UserDetails reloaded = userDetailsService.loadUserByUsername(username);
+        assertThat(reloaded.isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("롤백된 변경은 캐시를 비우지 않아야 한다")
+    void loadUserByUsername_AfterRolledBackUpdate_ShouldKeepCachedUser() {
+        // Given
+        insertUser(ID_BASE, null);
+        String username = "cache" + ID_BASE;
+        UserDetails cached = userDetailsService.loadUserByUsername(username);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findByUsername(username).orElseThrow();
+            user.deactivate();
+            userRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(userDetailsService.loadUserByUsername(username)).isSameAs(cached);
+    }
+
+    @Test
+    @DisplayName("보관 작업처럼 JPA를 거치지 않은 users 일괄 변경이 커밋되면 캐시가 비워져야 한다")
+    void archival_ShouldInvalidateCachedUsers() {
+        // Given - 캐시된 활성 사용자 1명과 보존 기간이 지난 삭제 사용자 1명
+        insertUser(ID_BASE, null);
+        insertUser(ID_BASE + 1, LocalDateTime.now().minusDays(40));
+        String username = "cache" + ID_BASE;
+        userDetailsService.loadUserByUsername(username);
+        assertThat(userDetailsCache.get(username)).isNotNull();
+
+        // When
+        archivalService.archiveAll();
+
+        // Then
+        assertThat(userDetailsCache.get(username)).isNull();
+    }
+
+    private void insertUser(long userId, LocalDateTime deletedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO users (user_id, username, email, password, full_name, role, is_active,
+                                   security_version, version, created_at, deleted_at)
+                VALUES (?, ?, ?, 'encodedPassword', '캐시 대상', 'USER', TRUE, 0, 0, ?, ?)""",
+                userId, "cache" + userId, "cache" + userId + "@test.com",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(60)),
+                deletedAt != null ? Timestamp.valueOf(deletedAt) : null);
+    }
+}
@@ -0,0 +1,142 @@
+package com.bookman.auth.service;
+
+import com.bookman.auth.config.UserCacheConfig;
+import com.bookman.common.TestDataFactory;
+import com.bookman.user.entity.User;
+import com.bookman.user.event.UserChangedEvent;
+import com.bookman.user.event.UsersBulkChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("사용자 캐시 테스트")
+class UserDetailsCacheTest {
+
+    private UserDetailsCache cache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserDetailsCache(new UserCacheConfig());
+        user = TestDataFactory.createTestUser();
+        user.setUserId(1L);
+    }
+
+    @Test
+    @DisplayName("캐시에는 원본 엔티티가 아닌 스냅샷이 저장되어야 한다")
+    void put_ShouldStoreDetachedSnapshot() {
+        // When
+        User snapshot = cache.put(user, cache.stamp());
+        user.setFullName("변경된 이름");
+
+        // Then
+        assertThat(snapshot).isNotSameAs(user);
+        assertThat(cache.get(user.getUsername())).isSameAs(snapshot);
+        assertThat(snapshot.getFullName()).isEqualTo("테스트 사용자");
+    }
+
+    @Test
+    @DisplayName("사용자 변경 이벤트가 오면 캐시에서 제거되어야 한다")
+    void onUserChanged_ShouldInvalidateEntry() {
+        // Given
+        cache.put(user, cache.stamp());
+
+        // When
+        cache.onUserChanged(new UserChangedEvent(
+                user.getUserId(), user.getUsername(), user.getEmail(), 1, false, UserChangedEvent.ChangeType.UPDATED));
+
+        // Then
+        assertThat(cache.get(user.getUsername())).isNull();
+    }
+
+    @Test
+    @DisplayName("새로 생성된 사용자 이벤트도 같은 사용자명의 항목을 제거해야 한다")
+    void onUserChanged_WithCreated_ShouldInvalidateEntry() {
+        // Given
+        cache.put(user, cache.stamp());
+
+        // When
+        cache.onUserChanged(new UserChangedEvent(
+                user.getUserId(), user.getUsername(), user.getEmail(), 0, true, UserChangedEvent.ChangeType.CREATED));
+
+        // Then
+        assertThat(cache.get(user.getUsername())).isNull();
+    }
+
+    @Test
+    @DisplayName("무효화 전에 시작된 조회 결과는 무효화 이후에 캐시에 다시 들어가지 않아야 한다")
+    void put_WithStampBeforeInvalidation_ShouldNotCacheStaleSnapshot() {
+        // Given - 조회 시작 후 변경이 커밋되어 무효화됨
+        long stamp = cache.stamp();
+        cache.onUserChanged(new UserChangedEvent(
+                user.getUserId(), user.getUsername(), user.getEmail(), 1, false, UserChangedEvent.ChangeType.UPDATED));
+
+        // When - 변경 전에 읽은 값을 넣으려 함
+        User snapshot = cache.put(user, stamp);
+
+        // Then
+        assertThat(snapshot).isNotSameAs(user);
+        assertThat(cache.get(user.getUsername())).isNull();
+
+        // 무효화 이후에 시작한 조회는 정상적으로 캐시된다
+        cache.put(user, cache.stamp());
+        assertThat(cache.get(user.getUsername())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("캐시 크기보다 많은 사용자가 무효화되어도 그 전에 시작된 조회 결과는 캐시되지 않아야 한다")
+    void put_AfterManyInvalidations_ShouldStillRejectStaleSnapshot() {
+        // Given - 캐시 크기 2, 무효화 기록 크기 2
+        UserCacheConfig config = new UserCacheConfig();
+        config.setMaxSize(2);
+        config.setInvalidationTrackingSize(2);
+        UserDetailsCache small = new UserDetailsCache(config);
+        long stamp = small.stamp();
+        small.removeUserFromCache(user.getUsername());
+
+        // When - 다른 사용자 변경이 몰려 이 사용자의 무효화 기록이 밀려난다
+        for (int i = 0; i < 10; i++) {
+            small.removeUserFromCache("churn" + i);
+        }
+        small.put(user, stamp);
+
+        // Then
+        assertThat(small.get(user.getUsername())).isNull();
+    }
+
+    @Test
+    @DisplayName("일괄 변경 이벤트가 오면 모든 항목이 제거되고 이전에 시작된 조회도 캐시되지 않아야 한다")
+    void onUsersBulkChanged_ShouldInvalidateAll() {
+        // Given
+        User other = TestDataFactory.createTestAdmin();
+        other.setUserId(2L);
+        cache.put(user, cache.stamp());
+        long stamp = cache.stamp();
+
+        // When
+        cache.onUsersBulkChanged(new UsersBulkChangedEvent("archival", 1));
+        cache.put(other, stamp);
+
+        // Then
+        assertThat(cache.get(user.getUsername())).isNull();
+        assertThat(cache.get(other.getUsername())).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시가 비활성화되면 원본을 그대로 반환하고 저장하지 않아야 한다")
+    void put_WhenDisabled_ShouldReturnOriginal() {
+        // Given
+        UserCacheConfig config = new UserCacheConfig();
+        config.setEnabled(false);
+        UserDetailsCache disabled = new UserDetailsCache(config);
+
+        // When
+        User result = disabled.put(user, disabled.stamp());
+
+        // Then
+        assertThat(result).isSameAs(user);
+        assertThat(disabled.get(user.getUsername())).isNull();
+    }
+}
@@ -0,0 +1,58 @@
+package com.bookman.auth.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 측정 시간을 줄이기 위해 낮은 cost(4~6) 범위로 검증한다
+ */
+@DisplayName("BCrypt cost 보정 테스트")
+class BCryptCostCalibratorTest {
+
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 6;
+
+    @Test
+    @DisplayName("목표 시간이 충분히 길면 최대 cost를 넘지 않아야 한다")
+    void calibrate_WithGenerousTarget_ShouldStopAtMaxStrength() {
+        // When
+        int strength = BCryptCostCalibrator.calibrate(Duration.ofHours(1), MIN_STRENGTH, MAX_STRENGTH);
+
+        // Then
+        assertThat(strength).isEqualTo(MAX_STRENGTH);
+    }
+
+    @Test
+    @DisplayName("최소 cost도 목표 시간을 넘으면 최소 cost를 사용해야 한다")
+    void calibrate_WithUnreachableTarget_ShouldFallBackToMinStrength() {
+        // When
+        int strength = BCryptCostCalibrator.calibrate(Duration.ofNanos(1), MIN_STRENGTH, MAX_STRENGTH);
+
+        // Then
+        assertThat(strength).isEqualTo(MIN_STRENGTH);
+    }
+
+    @Test
+    @DisplayName("어떤 목표 시간이든 결과는 설정한 범위 안에 있어야 한다")
+    void calibrate_ShouldStayWithinConfiguredBounds() {
+        for (Duration target : new Duration[]{Duration.ZERO, Duration.ofMillis(1), Duration.ofMillis(5)}) {
+            // When
+            int strength = BCryptCostCalibrator.calibrate(target, MIN_STRENGTH, MAX_STRENGTH);
+
+            // Then
+            assertThat(strength).isBetween(MIN_STRENGTH, MAX_STRENGTH);
+        }
+    }
+
+    @Test
+    @DisplayName("최소와 최대가 같으면 측정 결과와 관계없이 그 cost를 사용해야 한다")
+    void calibrate_WithSingleStrength_ShouldReturnIt() {
+        // When & Then
+        assertThat(BCryptCostCalibrator.calibrate(Duration.ofNanos(1), 5, 5)).isEqualTo(5);
+        assertThat(BCryptCostCalibrator.calibrate(Duration.ofHours(1), 5, 5)).isEqualTo(5);
+    }
+}
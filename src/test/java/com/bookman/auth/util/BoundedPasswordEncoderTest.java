@@ -0,0 +1,108 @@
+package com.bookman.auth.util;
+
+import com.bookman.auth.config.PasswordHashingConfig;
+import com.bookman.common.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("제한된 비밀번호 해시 풀 테스트")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("해시 결과는 위임 인코더와 같아야 하고 시간이 측정되어야 한다")
+    void encode_ShouldDelegateAndRecordMetrics() {
+        // Given
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(null), config(1, 1), meterRegistry);
+
+        // When
+        String encoded = encoder.encode("password");
+
+        // Then
+        assertThat(encoded).isEqualTo("hashed:password");
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.queue.wait").tag("operation", "matches").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("워커와 대기열이 가득 차면 즉시 거절되어야 한다")
+    void encode_WhenQueueIsFull_ShouldRejectImmediately() throws Exception {
+        // Given - 워커 1개, 대기열 1개를 모두 점유
+        encoder = new BoundedPasswordEncoder(new PrefixEncoder(release), config(1, 1), meterRegistry);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        waitUntil(() -> meterRegistry.get("auth.password.queue.wait").tag("operation", "encode").timer().count() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        waitUntil(() -> meterRegistry.get("auth.password.queue.depth").gauge().value() == 1);
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.encode("third"))
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:second");
+    }
+
+    private static PasswordHashingConfig config(int threads, int queueCapacity) {
+        PasswordHashingConfig config = new PasswordHashingConfig();
+        config.setThreads(threads);
+        config.setQueueCapacity(queueCapacity);
+        return config;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("조건이 시간 내에 충족되지 않았습니다");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 해시 대신 접두사를 붙이는 테스트용 인코더 (latch가 있으면 열릴 때까지 대기)
+     */
+    private record PrefixEncoder(CountDownLatch latch) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (latch != null) {
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.bookman.auth.util;
+
+import com.bookman.auth.config.JwtConfig;
+import com.bookman.auth.principal.JwtPrincipal;
+import com.bookman.user.entity.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("액세스 토큰 전용 발급 경로 테스트")
+class FastJwtMinterTest {
+
+    private static final String SECRET = "testSecretKey1234567890abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    @ParameterizedTest
+    @EnumSource(JwtKeyRing.Algorithm.class)
+    @DisplayName("전용 경로로 발급한 토큰은 JJWT 검증을 통과하고 JJWT 빌더와 같은 클레임을 가져야 한다")
+    void mintedToken_ShouldRoundTripThroughJjwt(JwtKeyRing.Algorithm algorithm) {
+        // Given
+        JwtUtil jwtUtil = new JwtUtil(config(algorithm));
+        User user = savedUser("round-trip-user");
+
+        // When
+        VerifiedToken fast = jwtUtil.verify(jwtUtil.generateToken(user));
+        VerifiedToken builder = jwtUtil.verify(jwtUtil.generateToken(user, JwtPrincipal.claimsOf(user)));
+
+        // Then
+        assertThat(fast.subject()).isEqualTo("round-trip-user");
+        assertThat(fast.expiration()).isAfter(Instant.now());
+        assertThat(fast.claims().getId()).isNotBlank().isNotEqualTo(builder.claims().getId());
+        for (String claim : new String[]{JwtPrincipal.CLAIM_USER_ID, JwtPrincipal.CLAIM_ROLE,
+                JwtPrincipal.CLAIM_ACTIVE, JwtPrincipal.CLAIM_SECURITY_VERSION, Claims.SUBJECT}) {
+            assertThat(fast.claims().get(claim)).as(claim).isEqualTo(builder.claims().get(claim));
+        }
+        assertThat(JwtPrincipal.from(fast)).isEqualTo(JwtPrincipal.from(builder));
+    }
+
+    @Test
+    @DisplayName("사용자명에 JSON 특수 문자가 있어도 그대로 복원되어야 한다")
+    void mintedToken_ShouldEscapeSubject() {
+        // Given
+        JwtUtil jwtUtil = new JwtUtil(config(JwtKeyRing.Algorithm.EdDSA));
+        String username = "quote\"back\\slash\ttab\u0001한글";
+
+        // When
+        VerifiedToken token = jwtUtil.verify(jwtUtil.generateToken(savedUser(username)));
+
+        // Then
+        assertThat(token.subject()).isEqualTo(username);
+    }
+
+    @Test
+    @DisplayName("저장되지 않은 사용자는 무상태 인증 클레임 없이 발급되어야 한다")
+    void unsavedUser_ShouldOmitPrincipalClaims() {
+        // Given
+        JwtUtil jwtUtil = new JwtUtil(config(JwtKeyRing.Algorithm.HMAC));
+        User unsaved = User.builder().username("unsaved").role(User.Role.USER).build();
+
+        // When
+        VerifiedToken token = jwtUtil.verify(jwtUtil.generateToken(unsaved));
+
+        // Then
+        assertThat(token.subject()).isEqualTo("unsaved");
+        assertThat(token.claims()).doesNotContainKey(JwtPrincipal.CLAIM_USER_ID);
+        assertThat(JwtPrincipal.from(token)).isNull();
+    }
+
+    private static JwtConfig config(JwtKeyRing.Algorithm algorithm) {
+        JwtConfig config = new JwtConfig();
+        config.setSecret(SECRET);
+        config.setExpiration(3_600_000L);
+        config.setVerifiedTokenCacheSize(0);
+        config.setSigningAlgorithm(algorithm);
+        if (algorithm != JwtKeyRing.Algorithm.HMAC) {
+            config.setKeys(List.of(JwtTestKeys.key(algorithm, "minter", null)));
+        }
+        return config;
+    }
+
+    private static User savedUser(String username) {
+        return User.builder()
+                .userId(42L)
+                .username(username)
+                .email("minter@test.com")
+                .password("encodedPassword")
+                .role(User.Role.ADMIN)
+                .isActive(true)
+                .securityVersion(3)
+                .build();
+    }
+}
@@ -0,0 +1,260 @@
+package com.bookman.auth.util;
+
+import com.bookman.auth.config.JwtConfig;
+import com.bookman.common.TestDataFactory;
+import com.bookman.user.entity.User;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JWT 서명 키 묶음 테스트")
+class JwtKeyRingTest {
+
+    private static final String SECRET = "testSecretKey1234567890abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2025-06-05T00:00:00Z"));
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    };
+
+    private static final Duration RETENTION = Duration.ofMinutes(16);
+
+    private SecretKey hmacKey;
+    private Instant start;
+    private JwtKeyRing keyRing;
+
+    @BeforeEach
+    void setUp() {
+        hmacKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        start = now.get();
+        // k1은 이미 활성, k2는 1시간 뒤 활성 (미리 공개되는 next)
+        keyRing = new JwtKeyRing(JwtKeyRing.Algorithm.EdDSA, List.of(
+                JwtTestKeys.material(JwtKeyRing.Algorithm.EdDSA, "k2", start.plus(Duration.ofHours(1))),
+                JwtTestKeys.material(JwtKeyRing.Algorithm.EdDSA, "k1", start.minus(Duration.ofDays(1)))),
+                hmacKey, RETENTION, clock);
+    }
+
+    @Nested
+    @DisplayName("키 교체")
+    class Rotation {
+
+        @Test
+        @DisplayName("활성 시각이 지나면 미리 공개된 다음 키로 서명하고, 이전 키는 보관 기간 동안 검증에 쓰여야 한다")
+        void refresh_ShouldPromoteNextKeyAndKeepPreviousForRetention() {
+            // Given
+            assertThat(keyRing.signingKey().kid()).isEqualTo("k1");
+            assertThat(keyRing.publicJwks().get(1).get("kid")).isEqualTo("k2");
+            assertThat(keyRing.refresh()).isFalse();
+
+            // When
+            now.set(start.plus(Duration.ofHours(1)));
+            boolean rotated = keyRing.refresh();
+
+            // Then
+            assertThat(rotated).isTrue();
+            assertThat(keyRing.signingKey().kid()).isEqualTo("k2");
+            assertThat(keyRing.verificationKey("k1")).isNotNull();
+            assertThat(keyRing.activeKeyIds()).containsExactlyInAnyOrder("k1", "k2");
+        }
+
+        @Test
+        @DisplayName("후속 키 활성 시각에서 보관 기간이 지난 이전 키는 제거되어야 한다")
+        void refresh_ShouldDropKeysPastRetention() {
+            // When
+            now.set(start.plus(Duration.ofHours(1)).plus(RETENTION).plusSeconds(1));
+            keyRing.refresh();
+
+            // Then
+            assertThat(keyRing.verificationKey("k1")).isNull();
+            assertThat(keyRing.signingKey().kid()).isEqualTo("k2");
+        }
+
+        @Test
+        @DisplayName("같은 키 설정으로 만든 키 묶음(재시작/다른 노드)은 같은 키로 서명하고 검증해야 한다")
+        void sameConfiguration_ShouldResolveSameKeysAcrossInstances() {
+            // Given
+            List<JwtKeyRing.KeyMaterial> keys = List.of(
+                    JwtTestKeys.material(JwtKeyRing.Algorithm.ES256, "a", start.minus(Duration.ofDays(1))),
+                    JwtTestKeys.material(JwtKeyRing.Algorithm.ES256, "b", start.plus(Duration.ofHours(1))));
+
+            // When
+            JwtKeyRing first = new JwtKeyRing(JwtKeyRing.Algorithm.ES256, keys, null, RETENTION, clock);
+            JwtKeyRing second = new JwtKeyRing(JwtKeyRing.Algorithm.ES256, keys, null, RETENTION, clock);
+
+            // Then
+            assertThat(second.signingKey().kid()).isEqualTo(first.signingKey().kid());
+            assertThat(second.verificationKey("a")).isEqualTo(first.signingKey().verificationKey());
+            assertThat(second.publicJwks()).isEqualTo(first.publicJwks());
+        }
+
+        @Test
+        @DisplayName("HMAC 모드도 kid별 secret을 활성 시각에 따라 교체해야 한다")
+        void refresh_InHmacMode_ShouldRotateConfiguredSecrets() {
+            // Given
+            SecretKey oldSecret = Keys.hmacShaKeyFor((SECRET + "-old").getBytes());
+            SecretKey newSecret = Keys.hmacShaKeyFor((SECRET + "-new").getBytes());
+            JwtKeyRing hmacRing = new JwtKeyRing(JwtKeyRing.Algorithm.HMAC, List.of(
+                    JwtKeyRing.KeyMaterial.hmac("old", oldSecret, null),
+                    JwtKeyRing.KeyMaterial.hmac("new", newSecret, start.plus(Duration.ofHours(1)))),
+                    null, RETENTION, clock);
+
+            // When
+            now.set(start.plus(Duration.ofHours(1)));
+
+            // Then
+            assertThat(hmacRing.refresh()).isTrue();
+            assertThat(hmacRing.signingKey().kid()).isEqualTo("new");
+            assertThat(hmacRing.verificationKey("old")).isEqualTo(oldSecret);
+            assertThat(hmacRing.publicJwks()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("비대칭 모드에서 키 설정이 없으면 메모리 키를 만들지 않고 기동에 실패해야 한다")
+        void asymmetricWithoutKeys_ShouldFail() {
+            assertThatThrownBy(() -> new JwtKeyRing(JwtKeyRing.Algorithm.EdDSA, List.of(), hmacKey, RETENTION, clock))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("jwt.keys");
+        }
+    }
+
+    @Test
+    @DisplayName("JWKS에는 공개 키 값만 포함되어야 한다")
+    void publicJwks_ShouldNotExposePrivateKey() {
+        // When
+        Map<String, Object> jwk = keyRing.publicJwks().get(0);
+
+        // Then
+        assertThat(jwk).containsEntry("kty", "OKP")
+                .containsEntry("crv", "Ed25519")
+                .containsEntry("use", "sig")
+                .containsEntry("kid", keyRing.signingKey().kid())
+                .containsKey("x")
+                .doesNotContainKey("d");
+    }
+
+    @Nested
+    @DisplayName("JwtUtil 연동")
+    class JwtUtilIntegration {
+
+        private JwtConfig config(JwtKeyRing.Algorithm algorithm, boolean acceptLegacy) {
+            JwtConfig config = new JwtConfig();
+            config.setSecret(SECRET);
+            config.setExpiration(3_600_000L);
+            config.setVerifiedTokenCacheSize(0);
+            config.setSigningAlgorithm(algorithm);
+            config.setAcceptLegacyHmacTokens(acceptLegacy);
+            config.setKeys(List.of(JwtTestKeys.key(algorithm, "k1", null)));
+            return config;
+        }
+
+        @Test
+        @DisplayName("기본 설정은 인스턴스 간에 공유되는 HMAC 서명이어야 한다")
+        void defaultConfig_ShouldSignWithSharedHmacKey() {
+            // Given
+            JwtConfig defaults = new JwtConfig();
+            defaults.setSecret(SECRET);
+            defaults.setExpiration(3_600_000L);
+            defaults.setVerifiedTokenCacheSize(0);
+            User user = TestDataFactory.createTestUser();
+
+            // When - 같은 secret으로 만든 다른 인스턴스(재시작/다른 노드)에서 검증
+            String token = new JwtUtil(defaults).generateToken(user);
+
+            // Then
+            assertThat(defaults.getSigningAlgorithm()).isEqualTo(JwtKeyRing.Algorithm.HMAC);
+            assertThat(new JwtUtil(defaults).verify(token).subject()).isEqualTo(user.getUsername());
+        }
+
+        @Test
+        @DisplayName("비대칭 알고리즘으로 서명한 토큰은 kid로 키를 찾아 검증되어야 한다")
+        void asymmetricToken_ShouldVerifyByKid() {
+            for (JwtKeyRing.Algorithm algorithm : new JwtKeyRing.Algorithm[]{JwtKeyRing.Algorithm.EdDSA, JwtKeyRing.Algorithm.ES256}) {
+                // Given
+                JwtUtil jwtUtil = new JwtUtil(config(algorithm, true));
+                User user = TestDataFactory.createTestUser();
+
+                // When
+                String token = jwtUtil.generateToken(user);
+
+                // Then
+                assertThat(jwtUtil.verify(token).subject()).isEqualTo(user.getUsername());
+            }
+        }
+
+        @Test
+        @DisplayName("PEM 키 설정을 공유한 다른 인스턴스(재시작/다른 노드)에서도 토큰이 검증되어야 한다")
+        void tokenSignedWithConfiguredKeys_ShouldVerifyOnAnotherInstance() {
+            for (JwtKeyRing.Algorithm algorithm : JwtKeyRing.Algorithm.values()) {
+                // Given
+                JwtConfig shared = config(algorithm, false);
+                String token = new JwtUtil(shared).generateToken(TestDataFactory.createTestUser());
+
+                // When
+                JwtUtil otherInstance = new JwtUtil(shared);
+
+                // Then
+                assertThat(otherInstance.isTokenValid(token)).as(algorithm.name()).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("키 목록으로 전환해도 이전 \"hmac\" kid 토큰은 허용 설정일 때 검증되어야 한다")
+        void hmacKidTokenFromSecret_ShouldVerifyAfterSwitchingToKeyList() {
+            // Given - 키 목록 없이 jwt.secret으로 발급된 토큰
+            JwtConfig secretOnly = config(JwtKeyRing.Algorithm.HMAC, true);
+            secretOnly.setKeys(List.of());
+            String token = new JwtUtil(secretOnly).generateToken(TestDataFactory.createTestUser());
+
+            // When & Then
+            assertThat(new JwtUtil(config(JwtKeyRing.Algorithm.HMAC, true)).isTokenValid(token)).isTrue();
+            assertThat(new JwtUtil(config(JwtKeyRing.Algorithm.HMAC, false)).isTokenValid(token)).isFalse();
+        }
+
+        @Test
+        @DisplayName("kid 없는 이전 HMAC 토큰은 허용 설정일 때만 검증되어야 한다")
+        void legacyHmacToken_ShouldDependOnSetting() {
+            // Given
+            String legacyToken = Jwts.builder()
+                    .subject("legacy-user")
+                    .expiration(new Date(System.currentTimeMillis() + 60_000))
+                    .signWith(hmacKey)
+                    .compact();
+
+            // When & Then
+            assertThat(new JwtUtil(config(JwtKeyRing.Algorithm.EdDSA, true)).verify(legacyToken).subject())
+                    .isEqualTo("legacy-user");
+            assertThatThrownBy(() -> new JwtUtil(config(JwtKeyRing.Algorithm.EdDSA, false)).verify(legacyToken))
+                    .isInstanceOf(JwtException.class);
+        }
+    }
+}
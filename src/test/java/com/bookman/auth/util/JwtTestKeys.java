@@ -0,0 +1,34 @@
+package com.bookman.auth.util;
+
+import com.bookman.auth.config.JwtConfig;
+
+import java.security.KeyPair;
+import java.time.Instant;
+
+/**
+ * 테스트용 JWT 서명 키 설정 생성기 (비대칭 키는 새로 만든 키 쌍을 PEM 본문으로 넣는다)
+ */
+public final class JwtTestKeys {
+
+    private JwtTestKeys() {
+    }
+
+    public static JwtConfig.Key key(JwtKeyRing.Algorithm algorithm, String kid, Instant activeFrom) {
+        JwtConfig.Key key = new JwtConfig.Key();
+        key.setKid(kid);
+        key.setActiveFrom(activeFrom);
+        if (algorithm == JwtKeyRing.Algorithm.HMAC) {
+            key.setSecret(kid + "-secret-1234567890abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOP");
+        } else {
+            KeyPair pair = PemKeys.generate(algorithm);
+            key.setPrivateKey(PemKeys.encode(pair.getPrivate()));
+            key.setPublicKey(PemKeys.encode(pair.getPublic()));
+        }
+        return key;
+    }
+
+    public static JwtKeyRing.KeyMaterial material(JwtKeyRing.Algorithm algorithm, String kid, Instant activeFrom) {
+        KeyPair pair = PemKeys.generate(algorithm);
+        return new JwtKeyRing.KeyMaterial(kid, pair.getPrivate(), pair.getPublic(), activeFrom);
+    }
+}
@@ -0,0 +1,97 @@
+package com.bookman.auth.util;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JWT 검증 엔진 테스트")
+class JwtTokenVerifierTest {
+
+    private static final String SECRET = "testSecretKey1234567890abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private SecretKey key;
+    private JwtTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        verifier = new JwtTokenVerifier(key, 100);
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 캐시되고 같은 결과 객체를 반환해야 한다")
+    void verify_SameToken_ShouldReturnCachedResult() {
+        // Given
+        String token = token("testuser", 60_000);
+
+        // When
+        VerifiedToken first = verifier.verify(token);
+        VerifiedToken second = verifier.verify(token);
+
+        // Then
+        assertThat(first.subject()).isEqualTo("testuser");
+        assertThat(second).isSameAs(first);
+        assertThat(verifier.cachedTokenCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시되지 않고 예외가 발생해야 한다")
+    void verify_ExpiredToken_ShouldThrowAndNotCache() {
+        // Given
+        String token = token("testuser", -1_000);
+
+        // When & Then
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(verifier.cachedTokenCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 거부되어야 한다")
+    void verify_TokenSignedWithOtherKey_ShouldThrow() {
+        // Given
+        SecretKey otherKey = Keys.hmacShaKeyFor("otherSecretKey1234567890abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMN".getBytes());
+        String token = Jwts.builder()
+                .subject("testuser")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(otherKey)
+                .compact();
+
+        // When & Then
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("캐시 크기가 0이면 캐시하지 않아야 한다")
+    void verify_WithCacheDisabled_ShouldNotCache() {
+        // Given
+        JwtTokenVerifier uncached = new JwtTokenVerifier(key, 0);
+        String token = token("testuser", 60_000);
+
+        // When
+        VerifiedToken first = uncached.verify(token);
+        VerifiedToken second = uncached.verify(token);
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(uncached.cachedTokenCount()).isZero();
+    }
+
+    private String token(String subject, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .subject(subject)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + ttlMillis))
+                .signWith(key)
+                .compact();
+    }
+}
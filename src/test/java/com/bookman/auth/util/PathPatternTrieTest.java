@@ -0,0 +1,72 @@
+package com.bookman.auth.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("경로 패턴 트라이 테스트")
+class PathPatternTrieTest {
+
+    private final PathPatternTrie trie = new PathPatternTrie(List.of(
+            "/actuator/**",
+            "/swagger-ui.html",
+            "/api/*/public",
+            "/api/books/public"
+    ));
+
+    @Nested
+    @DisplayName("매칭")
+    class Matching {
+
+        @Test
+        @DisplayName("**는 접두 경로 자체와 그 아래 모든 경로에 일치해야 한다")
+        void anyDepth_ShouldMatchPrefixAndDescendants() {
+            assertThat(trie.matches("/actuator", 0)).isTrue();
+            assertThat(trie.matches("/actuator/", 0)).isTrue();
+            assertThat(trie.matches("/actuator/metrics/jvm.memory.used", 0)).isTrue();
+            assertThat(trie.matches("/actuatorx", 0)).isFalse();
+        }
+
+        @Test
+        @DisplayName("리터럴 패턴은 정확히 같은 경로에만 일치해야 한다")
+        void literal_ShouldMatchExactly() {
+            assertThat(trie.matches("/swagger-ui.html", 0)).isTrue();
+            assertThat(trie.matches("/swagger-ui.htm", 0)).isFalse();
+            assertThat(trie.matches("/swagger-ui.html/extra", 0)).isFalse();
+        }
+
+        @Test
+        @DisplayName("*는 비어 있지 않은 세그먼트 하나에만 일치해야 한다")
+        void anySegment_ShouldMatchSingleSegment() {
+            assertThat(trie.matches("/api/users/public", 0)).isTrue();
+            assertThat(trie.matches("/api/books/public", 0)).isTrue();
+            assertThat(trie.matches("/api/users/private", 0)).isFalse();
+            assertThat(trie.matches("/api/a/b/public", 0)).isFalse();
+            assertThat(trie.matches("/api", 0)).isFalse();
+        }
+
+        @Test
+        @DisplayName("컨텍스트 경로 다음 위치부터 비교해야 한다")
+        void matches_ShouldSkipContextPath() {
+            assertThat(trie.matches("/bookman/actuator/health", "/bookman".length())).isTrue();
+            assertThat(trie.matches("/bookman/api/users/me", "/bookman".length())).isFalse();
+            assertThat(trie.matches("/bookman", "/bookman".length())).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 패턴은 생성 시점에 거부해야 한다")
+    void unsupportedPattern_ShouldBeRejected() {
+        assertThatThrownBy(() -> new PathPatternTrie(List.of("/a/**/b")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PathPatternTrie(List.of("/swagger-*.html")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PathPatternTrie(List.of("actuator/**")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,105 @@
+package com.bookman.auth.util;
+
+import com.bookman.common.service.StructuredTaskRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScopedValue 기반 SecurityContext 보관 전략 테스트")
+class ScopedValueSecurityContextHolderStrategyTest {
+
+    private ScopedValueSecurityContextHolderStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new ScopedValueSecurityContextHolderStrategy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        strategy.clearContext();
+    }
+
+    @Test
+    @DisplayName("스코프 안에서 설정한 인증은 스코프가 끝나면 남지 않아야 한다")
+    void callInScope_ShouldNotLeakContext() throws Exception {
+        // When
+        String name = strategy.callInScope(() -> {
+            strategy.getContext().setAuthentication(authentication("scoped-user"));
+            return strategy.getContext().getAuthentication().getName();
+        });
+
+        // Then
+        assertThat(name).isEqualTo("scoped-user");
+        assertThat(strategy.isScoped()).isFalse();
+        assertThat(strategy.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("스코프 밖에서는 스레드별로 보관되어야 한다")
+    void outsideScope_ShouldFallBackToThreadLocal() throws Exception {
+        // Given
+        strategy.getContext().setAuthentication(authentication("thread-user"));
+        AtomicReference<Authentication> otherThread = new AtomicReference<>();
+
+        // When
+        Thread.ofVirtual().start(() -> otherThread.set(strategy.getContext().getAuthentication())).join();
+        Authentication inScope = strategy.callInScope(() -> strategy.getContext().getAuthentication());
+
+        // Then
+        assertThat(strategy.getContext().getAuthentication().getName()).isEqualTo("thread-user");
+        assertThat(otherThread.get()).isNull();
+        assertThat(inScope).isNull();
+    }
+
+    @Test
+    @DisplayName("fork한 하위 작업은 요청의 인증 정보를 그대로 물려받아야 한다")
+    void forkedSubtask_ShouldInheritContext() throws Exception {
+        // Given
+        StructuredTaskRunner runner = new StructuredTaskRunner();
+
+        // When
+        String forkedName = strategy.callInScope(() -> {
+            strategy.getContext().setAuthentication(authentication("request-user"));
+            return runner.invoke("scoped-context-test", Instant.now().plusSeconds(5),
+                    () -> strategy.getContext().getAuthentication().getName());
+        });
+
+        // Then
+        assertThat(forkedName).isEqualTo("request-user");
+    }
+
+    @Test
+    @DisplayName("지연 컨텍스트는 설정 시점이 아니라 조회 시점에 만들어져야 한다")
+    void setDeferredContext_ShouldResolveLazily() throws Exception {
+        // Given
+        AtomicReference<Integer> loads = new AtomicReference<>(0);
+
+        // When
+        boolean resolved = strategy.callInScope(() -> {
+            strategy.setDeferredContext(() -> {
+                loads.set(loads.get() + 1);
+                return strategy.createEmptyContext();
+            });
+            assertThat(loads.get()).isZero();
+            return strategy.getContext() != null && strategy.getDeferredContext() != null;
+        });
+
+        // Then
+        assertThat(resolved).isTrue();
+        assertThat(loads.get()).isPositive();
+    }
+
+    private static Authentication authentication(String name) {
+        return new UsernamePasswordAuthenticationToken(name, null, AuthorityUtils.createAuthorityList("ROLE_USER"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.bookman.common;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 테스트용 SQL 실행 횟수 집계기 (test 프로필에서 Hibernate StatementInspector로 등록)
+ *
+ * 모든 스레드의 SQL을 합산하므로 동시성 테스트에서도 사용할 수 있다.
+ * 시퀀스 ID 블록 조회(next value for ...)는 블록이 남아 있는지에 따라, 즉 테스트 실행 순서에 따라
+ * 나가거나 나가지 않으므로 SELECT에 넣지 않고 {@link #sequenceFetches()}로 따로 센다.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final LongAdder SELECTS = new LongAdder();
+    private static final LongAdder INSERTS = new LongAdder();
+    private static final LongAdder UPDATES = new LongAdder();
+    private static final LongAdder DELETES = new LongAdder();
+    private static final LongAdder SEQUENCE_FETCHES = new LongAdder();
+
+    @Override
+    public String inspect(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (statement.contains("next value for") || statement.contains("nextval(")) {
+            SEQUENCE_FETCHES.increment();
+        } else if (statement.startsWith("select")) {
+            SELECTS.increment();
+        } else if (statement.startsWith("insert")) {
+            INSERTS.increment();
+        } else if (statement.startsWith("update")) {
+            UPDATES.increment();
+        } else if (statement.startsWith("delete")) {
+            DELETES.increment();
+        }
+        return sql;
+    }
+
+    public static void reset() {
+        SELECTS.reset();
+        INSERTS.reset();
+        UPDATES.reset();
+        DELETES.reset();
+        SEQUENCE_FETCHES.reset();
+    }
+
+    public static long selects() {
+        return SELECTS.sum();
+    }
+
+    public static long inserts() {
+        return INSERTS.sum();
+    }
+
+    public static long updates() {
+        return UPDATES.sum();
+    }
+
+    public static long deletes() {
+        return DELETES.sum();
+    }
+
+    public static long sequenceFetches() {
+        return SEQUENCE_FETCHES.sum();
+    }
+
+    /**
+     * 시퀀스 조회를 제외한 SELECT/INSERT/UPDATE/DELETE 합계
+     */
+    public static long total() {
+        return selects() + inserts() + updates() + deletes();
+    }
+}
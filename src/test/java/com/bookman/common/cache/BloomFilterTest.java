@@ -0,0 +1,56 @@
+package com.bookman.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Bloom 필터 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단해야 한다 (거짓 음성 없음)")
+    void mightContain_ShouldNeverReturnFalseNegative() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("jti-" + i);
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("jti-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 원소 수 이내에서는 오탐률이 목표치 근처여야 한다")
+    void mightContain_ShouldKeepFalsePositiveRateNearTarget() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("revoked-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("active-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("오탐률이 범위를 벗어나면 예외가 발생해야 한다")
+    void constructor_WithInvalidRate_ShouldThrowException() {
+        assertThatThrownBy(() -> new BloomFilter(100, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
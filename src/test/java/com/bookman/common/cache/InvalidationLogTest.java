@@ -0,0 +1,61 @@
+package com.bookman.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("캐시 무효화 순번 기록 테스트")
+class InvalidationLogTest {
+
+    @Test
+    @DisplayName("순번을 받은 뒤 무효화된 키만 무효화된 것으로 판단해야 한다")
+    void invalidatedSince_ShouldOnlyReportKeysInvalidatedAfterStamp() {
+        // Given
+        InvalidationLog<String> log = new InvalidationLog<>(100);
+        log.invalidate("before");
+        long stamp = log.stamp();
+
+        // When
+        log.invalidate("after");
+
+        // Then
+        assertThat(log.invalidatedSince("before", stamp)).isFalse();
+        assertThat(log.invalidatedSince("after", stamp)).isTrue();
+        assertThat(log.invalidatedSince("untouched", stamp)).isFalse();
+        assertThat(log.invalidatedSince("after", log.stamp())).isFalse();
+    }
+
+    @Test
+    @DisplayName("전체 무효화 이전에 받은 순번은 모든 키에 대해 무효화된 것으로 판단해야 한다")
+    void invalidateAll_ShouldCoverEveryKey() {
+        // Given
+        InvalidationLog<String> log = new InvalidationLog<>(100);
+        long stamp = log.stamp();
+
+        // When
+        log.invalidateAll();
+
+        // Then
+        assertThat(log.invalidatedSince("any", stamp)).isTrue();
+        assertThat(log.invalidatedSince("any", log.stamp())).isFalse();
+    }
+
+    @Test
+    @DisplayName("기록이 넘쳐 지워진 키도 그 전에 받은 순번에 대해서는 무효화된 것으로 판단해야 한다")
+    void invalidate_WhenTrackingOverflows_ShouldTreatDroppedKeysConservatively() {
+        // Given
+        InvalidationLog<String> log = new InvalidationLog<>(2);
+        long stamp = log.stamp();
+        log.invalidate("a");
+        log.invalidate("b");
+
+        // When - 세 번째 키에서 기록이 지워진다
+        log.invalidate("c");
+
+        // Then
+        assertThat(log.invalidatedSince("a", stamp)).isTrue();
+        assertThat(log.invalidatedSince("b", stamp)).isTrue();
+        assertThat(log.invalidatedSince("c", stamp)).isTrue();
+    }
+}
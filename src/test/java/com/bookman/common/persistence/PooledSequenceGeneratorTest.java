@@ -0,0 +1,108 @@
+package com.bookman.common.persistence;
+
+import com.bookman.book.entity.Book;
+import com.bookman.common.QueryCounter;
+import com.bookman.user.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.PooledLoOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("풀링 시퀀스 ID 생성기 테스트")
+class PooledSequenceGeneratorTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Nested
+    @DisplayName("할당 크기 설정 테스트")
+    class AllocationSizeTest {
+
+        @Test
+        @DisplayName("시퀀스별 설정이 있으면 매핑의 기본값 대신 사용해야 한다")
+        void configure_WithSequenceSetting_ShouldOverrideMappingDefault() {
+            // When
+            SequenceStyleGenerator generator = generatorOf(Book.class);
+
+            // Then
+            assertThat(generator.getDatabaseStructure().getPhysicalName().getObjectName().getText())
+                    .isEqualTo("book_seq");
+            assertThat(generator.getDatabaseStructure().getIncrementSize()).isEqualTo(100);
+            assertThat(generator.getOptimizer()).isInstanceOf(PooledLoOptimizer.class);
+        }
+
+        @Test
+        @DisplayName("시퀀스별 설정이 없으면 기본 할당 크기를 사용해야 한다")
+        void configure_WithoutSequenceSetting_ShouldUseDefault() {
+            // When
+            SequenceStyleGenerator generator = generatorOf(User.class);
+
+            // Then
+            assertThat(generator.getDatabaseStructure().getIncrementSize()).isEqualTo(50);
+            assertThat(generator.getOptimizer()).isInstanceOf(PooledLoOptimizer.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("ID 할당 테스트")
+    class IdAllocationTest {
+
+        @Test
+        @DisplayName("persist는 INSERT 없이 ID를 받고, INSERT는 flush 때 모아서 실행해야 한다")
+        void persist_ShouldAssignIdWithoutImmediateInsert() {
+            // Given
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                users.add(User.builder()
+                        .username("seqUser" + i)
+                        .email("seq" + i + "@test.com")
+                        .password("encodedPassword")
+                        .fullName("시퀀스 사용자 " + i)
+                        .role(User.Role.USER)
+                        .isActive(true)
+                        .build());
+            }
+            QueryCounter.reset();
+
+            // When
+            users.forEach(entityManager::persist);
+
+            // Then - 블록 조회는 SELECT가 아닌 시퀀스 조회로 따로 집계된다
+            assertThat(QueryCounter.inserts()).isZero();
+            assertThat(QueryCounter.selects()).isZero();
+            assertThat(QueryCounter.sequenceFetches()).isLessThanOrEqualTo(1);
+            // pooled-lo는 한 블록 안의 ID를 연속으로 내준다
+            long first = users.get(0).getUserId();
+            for (int i = 0; i < users.size(); i++) {
+                assertThat(users.get(i).getUserId()).isEqualTo(first + i);
+            }
+
+            entityManager.flush();
+            assertThat(QueryCounter.inserts()).isPositive();
+        }
+    }
+
+    private SequenceStyleGenerator generatorOf(Class<?> entityType) {
+        return (SequenceStyleGenerator) entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(entityType)
+                .getGenerator();
+    }
+}
@@ -0,0 +1,119 @@
+package com.bookman.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("로그인 실패 잠금 추적기 테스트")
+class LockoutTrackerTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1000));
+    private final LockoutTracker.Policy threeInTenMinutes = LockoutTracker.Policy.of(
+            3, Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofMinutes(4));
+
+    @Test
+    @DisplayName("임계값에 도달하면 잠기고, 잠금 시간이 지나면 풀려야 한다")
+    void recordFailure_AtThreshold_ShouldLockUntilLockoutExpires() {
+        // Given
+        LockoutTracker tracker = new LockoutTracker(threeInTenMinutes, 100, 4, clock::get);
+
+        // When
+        assertThat(tracker.recordFailure("alice")).isZero();
+        assertThat(tracker.recordFailure("alice")).isZero();
+        long lockout = tracker.recordFailure("alice");
+
+        // Then
+        assertThat(lockout).isEqualTo(TimeUnit.MINUTES.toNanos(1));
+        assertThat(tracker.lockedForNanos("alice")).isEqualTo(TimeUnit.MINUTES.toNanos(1));
+        assertThat(tracker.lockedForNanos("bob")).isZero();
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        assertThat(tracker.lockedForNanos("alice")).isZero();
+    }
+
+    @Test
+    @DisplayName("잠금이 반복될수록 잠금 시간이 두 배씩 늘어나고 최대값에서 멈춰야 한다")
+    void recordFailure_RepeatedLockouts_ShouldDoubleUpToMax() {
+        // Given
+        LockoutTracker tracker = new LockoutTracker(threeInTenMinutes, 100, 4, clock::get);
+
+        // When & Then - 1분 → 2분 → 4분 → 4분
+        for (long expectedMinutes : new long[]{1, 2, 4, 4}) {
+            tracker.recordFailure("alice");
+            tracker.recordFailure("alice");
+            assertThat(tracker.recordFailure("alice")).isEqualTo(TimeUnit.MINUTES.toNanos(expectedMinutes));
+            clock.addAndGet(TimeUnit.MINUTES.toNanos(expectedMinutes));
+        }
+    }
+
+    @Test
+    @DisplayName("직전 윈도우의 실패는 시간이 지날수록 감쇠되어야 한다")
+    void recordFailure_ShouldDecayPreviousWindow() {
+        // Given - 윈도우 경계에 맞춰 두 번 실패
+        clock.set(TimeUnit.MINUTES.toNanos(100));
+        LockoutTracker tracker = new LockoutTracker(threeInTenMinutes, 100, 4, clock::get);
+        tracker.recordFailure("alice");
+        tracker.recordFailure("alice");
+
+        // When - 다음 윈도우의 90% 지점: 직전 2회 × 0.1 + 현재 1회 < 3
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(19));
+
+        // Then
+        assertThat(tracker.recordFailure("alice")).isZero();
+        assertThat(tracker.lockedForNanos("alice")).isZero();
+    }
+
+    @Test
+    @DisplayName("성공하면 실패 기록이 초기화되어야 한다")
+    void reset_ShouldClearFailures() {
+        // Given
+        LockoutTracker tracker = new LockoutTracker(threeInTenMinutes, 100, 4, clock::get);
+        tracker.recordFailure("alice");
+        tracker.recordFailure("alice");
+
+        // When
+        tracker.reset("alice");
+
+        // Then
+        assertThat(tracker.recordFailure("alice")).isZero();
+        assertThat(tracker.trackedKeys()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 키 수를 넘으면 오래된 키를 밀어내 메모리를 제한해야 한다")
+    void recordFailure_BeyondMaxKeys_ShouldStayBounded() {
+        // Given
+        LockoutTracker tracker = new LockoutTracker(threeInTenMinutes, 64, 4, clock::get);
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            tracker.recordFailure("user-" + i);
+        }
+
+        // Then
+        assertThat(tracker.trackedKeys()).isLessThanOrEqualTo(64);
+        assertThat(tracker.overflowEvictionCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("실패가 모두 감쇠된 키는 유휴 키로 정리되어야 한다")
+    void evictIdle_ShouldRemoveDecayedKeys() {
+        // Given
+        LockoutTracker tracker = new LockoutTracker(threeInTenMinutes, 100, 4, clock::get);
+        tracker.recordFailure("old");
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(20));
+        tracker.recordFailure("recent");
+
+        // When
+        int removed = tracker.evictIdle();
+
+        // Then
+        assertThat(removed).isEqualTo(1);
+        assertThat(tracker.trackedKeys()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,69 @@
+package com.bookman.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("샤딩된 크기 제한 맵 테스트")
+class ShardedBoundedMapTest {
+
+    // 값이 now 이하면 유휴, 음수면 밀어내도 되는 값으로 본다
+    private final ShardedBoundedMap<AtomicLong> map = new ShardedBoundedMap<>(64, 1,
+            (value, now) -> value.get() <= now, (value, now) -> value.get() < 0);
+
+    @Test
+    @DisplayName("가득 찼을 때 유휴 값이 있으면 밀어내기 없이 일부만 비워야 한다")
+    void getOrCreate_WhenFullWithIdleValues_ShouldRemoveOnlyASlice() {
+        // Given
+        fill(64, 10);
+
+        // When
+        map.getOrCreate("new", 100, () -> new AtomicLong(1000));
+
+        // Then - capacity/16개만 비움
+        assertThat(map.size()).isEqualTo(64 - 4 + 1);
+        assertThat(map.overflowEvictionCount()).isZero();
+        assertThat(map.evictIdle(100)).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("유휴 값이 없으면 밀어내도 되는 값부터 밀어내야 한다")
+    void getOrCreate_WhenFullWithoutIdleValues_ShouldPreferEvictableValues() {
+        // Given - 유휴 값 없이 밀어내도 되는 값 63개와 밀어내면 안 되는 값 1개
+        map.getOrCreate("protected", 0, () -> new AtomicLong(1000));
+        fill(63, -1);
+
+        // When - 모든 값이 now(-100)보다 커서 유휴 값은 없음
+        map.getOrCreate("new", -100, () -> new AtomicLong(1000));
+
+        // Then
+        assertThat(map.get("protected")).isNotNull();
+        assertThat(map.size()).isEqualTo(64 - 4 + 1);
+        assertThat(map.overflowEvictionCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("후보가 전혀 없어도 상한은 지켜야 한다")
+    void getOrCreate_WhenNothingEvictable_ShouldStillStayWithinBound() {
+        // Given
+        fill(64, 1000);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            map.getOrCreate("extra-" + i, 100, () -> new AtomicLong(1000));
+        }
+
+        // Then
+        assertThat(map.size()).isLessThanOrEqualTo(64);
+        assertThat(map.overflowEvictionCount()).isPositive();
+    }
+
+    private void fill(int count, long value) {
+        for (int i = 0; i < count; i++) {
+            map.getOrCreate("key-" + i, 0, () -> new AtomicLong(value));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.bookman.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("토큰 버킷 레이트 리미터 테스트")
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1000));
+    private final TokenBucketRateLimiter.Limit fivePerMinute = TokenBucketRateLimiter.Limit.of(5, Duration.ofMinutes(1));
+
+    @Test
+    @DisplayName("용량만큼 버스트를 허용한 뒤 거절하고 대기 시간을 알려줘야 한다")
+    void tryAcquire_ShouldAllowBurstThenReject() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100, 4, clock::get);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("1.2.3.4", fivePerMinute)).isZero();
+        }
+        long waitNanos = limiter.tryAcquire("1.2.3.4", fivePerMinute);
+
+        // Then - 토큰 하나가 보충되는 12초를 기다려야 함
+        assertThat(waitNanos).isEqualTo(TimeUnit.SECONDS.toNanos(12));
+        assertThat(limiter.tryAcquire("5.6.7.8", fivePerMinute)).isZero();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 보충되어야 한다")
+    void tryAcquire_ShouldRefillOverTime() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100, 4, clock::get);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("user", fivePerMinute);
+        }
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(12));
+
+        // Then
+        assertThat(limiter.tryAcquire("user", fivePerMinute)).isZero();
+        assertThat(limiter.tryAcquire("user", fivePerMinute)).isPositive();
+    }
+
+    @Test
+    @DisplayName("완전히 보충된 버킷은 유휴 키로 정리되어야 한다")
+    void evictIdle_ShouldRemoveFullyRefilledBuckets() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100, 4, clock::get);
+        limiter.tryAcquire("idle", fivePerMinute);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("busy", fivePerMinute);
+        }
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        int removed = limiter.evictIdle();
+
+        // Then
+        assertThat(removed).isEqualTo(1);
+        assertThat(limiter.trackedKeys()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가득 찬 샤드에 삽입할 때는 일부만 비우고 나머지 유휴 버킷은 주기 정리에 맡겨야 한다")
+    void tryAcquire_WhenShardFull_ShouldEvictOnlyASlice() {
+        // Given - 샤드 하나에 유휴 버킷 64개
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(64, 1, clock::get);
+        for (int i = 0; i < 64; i++) {
+            limiter.tryAcquire("10.0.0." + i, fivePerMinute);
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        // When
+        limiter.tryAcquire("10.0.1.1", fivePerMinute);
+
+        // Then - capacity/16개만 비우고 밀어내기 없이 삽입
+        assertThat(limiter.trackedKeys()).isEqualTo(64 - 4 + 1);
+        assertThat(limiter.overflowEvictionCount()).isZero();
+        assertThat(limiter.evictIdle()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("키 상한을 넘으면 추적 키 수가 상한 이내로 유지되어야 한다")
+    void tryAcquire_ShouldStayWithinKeyBound() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(64, 4, clock::get);
+
+        // When - 유휴가 아닌 버킷으로 상한 초과 시도
+        for (int i = 0; i < 1000; i++) {
+            TokenBucketRateLimiter.Limit single = TokenBucketRateLimiter.Limit.of(1, Duration.ofHours(1));
+            limiter.tryAcquire("10.0.0." + i, single);
+        }
+
+        // Then
+        assertThat(limiter.trackedKeys()).isLessThanOrEqualTo(64);
+        assertThat(limiter.overflowEvictionCount()).isPositive();
+    }
+}
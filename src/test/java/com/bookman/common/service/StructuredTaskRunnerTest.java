@@ -0,0 +1,149 @@
+package com.bookman.common.service;
+
+import com.bookman.common.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Structured 하위 작업 실행기 테스트")
+class StructuredTaskRunnerTest {
+
+    private final StructuredTaskRunner runner = new StructuredTaskRunner();
+
+    @Test
+    @DisplayName("두 하위 작업이 Virtual Thread에서 실행되고 결과가 합쳐져야 한다")
+    void invokeAll_ShouldRunSubtasksOnVirtualThreads() {
+        // When
+        String result = runner.invokeAll("test", Instant.now().plusSeconds(5),
+                () -> Thread.currentThread().isVirtual(),
+                () -> "token",
+                (virtual, token) -> virtual + ":" + token);
+
+        // Then
+        assertThat(result).isEqualTo("true:token");
+        assertThat(runner.forkedSubtaskCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 하위 작업의 결과는 입력 순서대로 반환되어야 한다")
+    void invokeAll_WithTaskList_ShouldPreserveOrder() {
+        // When
+        List<Integer> results = runner.invokeAll("test", Instant.now().plusSeconds(5), List.of(
+                () -> {
+                    Thread.sleep(50);
+                    return 1;
+                },
+                () -> 2,
+                () -> 3));
+
+        // Then
+        assertThat(results).containsExactly(1, 2, 3);
+        assertThat(runner.forkedSubtaskCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("마감 시각을 넘기면 503 예외와 함께 남은 하위 작업이 취소되어야 한다")
+    void invokeAll_WhenDeadlineExceeded_ShouldCancelRemainingSubtasks() throws Exception {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When & Then
+        assertThatThrownBy(() -> runner.invokeAll("slow", Instant.now().plus(Duration.ofMillis(100)),
+                () -> {
+                    try {
+                        Thread.sleep(10_000); // 느린 DB 호출 시뮬레이션
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        throw e;
+                    }
+                    return "late";
+                },
+                () -> "fast",
+                (slow, fast) -> slow + fast))
+                .isInstanceOf(ServiceOverloadedException.class);
+
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(runner.deadlineExceededCount()).isEqualTo(1);
+        assertThat(runner.cancelledSubtaskCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("하위 작업이 실패하면 원래 예외가 그대로 전달되고 나머지는 취소되어야 한다")
+    void invokeAll_WhenSubtaskFails_ShouldPropagateOriginalException() {
+        // When & Then
+        assertThatThrownBy(() -> runner.invokeAll("failing", Instant.now().plusSeconds(5),
+                () -> {
+                    throw new BadCredentialsException("잘못된 비밀번호");
+                },
+                () -> {
+                    Thread.sleep(10_000);
+                    return "never";
+                },
+                (first, second) -> first))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    @DisplayName("invokeAlongside는 CPU 작업만 fork하고 나머지 작업은 호출 스레드에서 실행해야 한다")
+    void invokeAlongside_ShouldRunCallerTaskOnCallingThread() {
+        // Given
+        Thread caller = Thread.currentThread();
+
+        // When
+        String result = runner.invokeAlongside("alongside", Instant.now().plusSeconds(5),
+                () -> Thread.currentThread().isVirtual() && Thread.currentThread() != caller,
+                () -> Thread.currentThread() == caller,
+                (forkedOnVirtual, onCaller) -> forkedOnVirtual + ":" + onCaller);
+
+        // Then
+        assertThat(result).isEqualTo("true:true");
+        assertThat(runner.forkedSubtaskCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("호출 스레드 작업이 실패하면 fork한 작업을 취소하고 그 예외를 전달해야 한다")
+    void invokeAlongside_WhenCallerTaskFails_ShouldCancelForkedTask() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When & Then
+        assertThatThrownBy(() -> runner.invokeAlongside("alongside-failing", Instant.now().plusSeconds(5),
+                () -> {
+                    started.countDown();
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        throw e;
+                    }
+                    return "never";
+                },
+                () -> {
+                    awaitQuietly(started);
+                    throw new IllegalStateException("리프레시 토큰 저장 실패");
+                },
+                (forked, onCaller) -> forked))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("리프레시 토큰 저장 실패");
+
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(runner.cancelledSubtaskCount()).isEqualTo(1);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.bookman.common.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("조건부 GET ETag 비교 테스트")
+class ConditionalGetTest {
+
+    private static final String ETAG = ConditionalGet.etag("user", 42L, 3L);
+
+    @Test
+    @DisplayName("ETag는 리소스 종류, ID, 버전으로 만든 강한 ETag여야 한다")
+    void etag_ShouldBeStrongAndVersioned() {
+        assertThat(ETAG).isEqualTo("\"user-42-v3\"");
+    }
+
+    @Test
+    @DisplayName("목록 중 하나라도 같거나 *이면 변경 없음으로 판단해야 한다")
+    void isNotModified_WithMatchingCandidate_ShouldReturnTrue() {
+        assertThat(ConditionalGet.isNotModified(new String[]{"\"user-42-v2\", " + ETAG}, ETAG)).isTrue();
+        assertThat(ConditionalGet.isNotModified(new String[]{"W/" + ETAG}, ETAG)).isTrue();
+        assertThat(ConditionalGet.isNotModified(new String[]{"*"}, ETAG)).isTrue();
+    }
+
+    @Test
+    @DisplayName("헤더가 없거나 버전이 다르면 변경된 것으로 판단해야 한다")
+    void isNotModified_WithoutMatch_ShouldReturnFalse() {
+        assertThat(ConditionalGet.isNotModified(null, ETAG)).isFalse();
+        assertThat(ConditionalGet.isNotModified(new String[]{"\"user-42-v2\""}, ETAG)).isFalse();
+        assertThat(ConditionalGet.isNotModified(new String[]{"\"user-4-v23\""}, ETAG)).isFalse();
+    }
+}
@@ -0,0 +1,168 @@
+package com.bookman.performance;
+
+import com.bookman.book.entity.Book;
+import com.bookman.common.persistence.PooledSequenceGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDENTITY(기존) vs 풀링 시퀀스 + JDBC 배치(변경 후) 대량 INSERT 비교
+ *
+ * 두 설정으로 각각 독립된 H2 메모리 DB와 SessionFactory를 만들고 도서 10만 건을 저장해
+ * 소요 시간과 초당 처리량을 출력한다. 영속성 컨텍스트는 배치 크기마다 flush/clear 한다.
+ */
+@Tag("performance")
+@DisplayName("대량 INSERT ID 생성 방식 비교")
+class BulkInsertBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Test
+    @DisplayName("도서 10만 건 저장 시간을 IDENTITY와 풀링 시퀀스로 비교한다")
+    void compareIdentityAndPooledSequence() {
+        Map<String, Object> identitySettings = new HashMap<>();
+        InsertResult identity = measure("identity", identitySettings, IdentityBook.class, IdentityBook::of);
+
+        Map<String, Object> pooledSettings = new HashMap<>();
+        pooledSettings.put(AvailableSettings.STATEMENT_BATCH_SIZE, BATCH_SIZE);
+        pooledSettings.put(AvailableSettings.ORDER_INSERTS, true);
+        pooledSettings.put(AvailableSettings.ORDER_UPDATES, true);
+        pooledSettings.put(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+        pooledSettings.put(PooledSequenceGenerator.ALLOCATION_SIZE_PREFIX + "book_seq", 100);
+        InsertResult pooled = measure("pooled", pooledSettings, Book.class, BulkInsertBenchmarkTest::book);
+
+        System.out.printf("📊 도서 %d건 INSERT:%n", ROWS);
+        System.out.printf("   IDENTITY            : %s%n", identity);
+        System.out.printf("   풀링 시퀀스 + 배치  : %s%n", pooled);
+        System.out.printf("   처리량 향상: %.2fx%n", pooled.rowsPerSecond() / identity.rowsPerSecond());
+
+        assertThat(identity.rows()).isEqualTo(ROWS);
+        assertThat(pooled.rows()).isEqualTo(ROWS);
+    }
+
+    private static InsertResult measure(String name, Map<String, Object> settings, Class<?> entityType,
+                                        IntFunction<Object> rowFactory) {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:bulk_" + name + ";DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySettings(settings)
+                .build();
+        try (SessionFactory sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(entityType)
+                .buildMetadata()
+                .buildSessionFactory()) {
+            long start = System.nanoTime();
+            sessionFactory.inTransaction(session -> {
+                for (int i = 0; i < ROWS; i++) {
+                    session.persist(rowFactory.apply(i));
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        session.flush();
+                        session.clear();
+                    }
+                }
+            });
+            long elapsedNanos = System.nanoTime() - start;
+
+            long rows = sessionFactory.fromSession(session ->
+                    session.createSelectionQuery("select count(*) from " + entityType.getSimpleName(), Long.class)
+                            .getSingleResult());
+            return new InsertResult(rows, elapsedNanos / 1_000_000.0);
+        }
+    }
+
+    private static Book book(int i) {
+        Book book = new Book();
+        book.setIsbn(isbn(i));
+        book.setTitle("도서 " + i);
+        book.setPublisher("북맨 출판사");
+        book.setPublicationYear(2024);
+        book.setTotalQuantity(1);
+        book.setCurrentStock(1);
+        book.setRegisteredDate(LocalDateTime.now());
+        return book;
+    }
+
+    private static String isbn(int i) {
+        return String.format("979%010d", i);
+    }
+
+    private record InsertResult(long rows, double elapsedMillis) {
+
+        double rowsPerSecond() {
+            return rows / (elapsedMillis / 1000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.0f ms, %.0f rows/s", elapsedMillis, rowsPerSecond());
+        }
+    }
+
+    /**
+     * 변경 전 매핑을 재현한 도서 엔티티 (IDENTITY, 같은 컬럼)
+     */
+    @Entity(name = "IdentityBook")
+    @Table(name = "book")
+    static class IdentityBook {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @Column(name = "book_id")
+        Long bookId;
+
+        @Column(nullable = false, unique = true, length = 20)
+        String isbn;
+
+        @Column(nullable = false)
+        String title;
+
+        @Column(length = 100)
+        String publisher;
+
+        @Column(name = "publication_year")
+        Integer publicationYear;
+
+        @Column(name = "total_quantity", nullable = false)
+        Integer totalQuantity;
+
+        @Column(name = "current_stock", nullable = false)
+        Integer currentStock;
+
+        @Column(name = "registered_date", nullable = false)
+        LocalDateTime registeredDate;
+
+        static IdentityBook of(int i) {
+            IdentityBook book = new IdentityBook();
+            book.isbn = isbn(i);
+            book.title = "도서 " + i;
+            book.publisher = "북맨 출판사";
+            book.publicationYear = 2024;
+            book.totalQuantity = 1;
+            book.currentStock = 1;
+            book.registeredDate = LocalDateTime.now();
+            return book;
+        }
+    }
+}
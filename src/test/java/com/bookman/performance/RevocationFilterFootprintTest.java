@@ -0,0 +1,76 @@
+package com.bookman.performance;
+
+import com.bookman.common.cache.BloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 폐기 목록 Bloom 필터의 100만 건당 메모리 사용량과 실측 오탐률
+ *
+ * 같은 jti 100만 개를 Bloom 필터와 정확한 저장소(ConcurrentHashMap)에 넣고
+ * 메모리 사용량(힙 증가량 근사치)과 폐기되지 않은 jti 100만 개에 대한 오탐률을 출력한다.
+ */
+@Tag("performance")
+@DisplayName("폐기 목록 Bloom 필터 메모리/오탐률 측정")
+class RevocationFilterFootprintTest {
+
+    private static final int ENTRIES = 1_000_000;
+    private static final int PROBES = 1_000_000;
+
+    @Test
+    @DisplayName("100만 건 기준 메모리와 오탐률을 측정한다")
+    void measureFootprintAndFalsePositiveRate() {
+        String[] revoked = new String[ENTRIES];
+        for (int i = 0; i < ENTRIES; i++) {
+            revoked[i] = UUID.randomUUID().toString();
+        }
+
+        System.out.println("📊 폐기 목록 100만 건 측정:");
+        for (double targetRate : new double[]{0.01, 0.001}) {
+            BloomFilter filter = new BloomFilter(ENTRIES, targetRate);
+            for (String jti : revoked) {
+                filter.put(jti);
+            }
+
+            int falsePositives = 0;
+            for (int i = 0; i < PROBES; i++) {
+                if (filter.mightContain(UUID.randomUUID().toString())) {
+                    falsePositives++;
+                }
+            }
+            double measuredRate = (double) falsePositives / PROBES;
+
+            System.out.printf("   Bloom(목표 %.3f%%): %.2f MB, 해시 %d개, 실측 오탐률 %.4f%%%n",
+                    targetRate * 100, filter.memoryBytes() / 1024.0 / 1024.0,
+                    filter.hashCount(), measuredRate * 100);
+            assertThat(measuredRate).isLessThan(targetRate * 2);
+        }
+
+        long before = usedHeap();
+        Map<String, Long> exactStore = new ConcurrentHashMap<>();
+        long expiresAt = System.currentTimeMillis();
+        for (String jti : revoked) {
+            exactStore.put(jti, expiresAt);
+        }
+        long exactBytes = usedHeap() - before;
+        // 문자열은 두 구조가 공유하므로 맵 엔트리/박싱 비용만 포함된 근사치
+        System.out.printf("   정확한 저장소(ConcurrentHashMap): 약 %.2f MB (jti 문자열 제외)%n",
+                exactBytes / 1024.0 / 1024.0);
+        assertThat(exactStore).hasSize(ENTRIES);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
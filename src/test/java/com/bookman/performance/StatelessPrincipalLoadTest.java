@@ -0,0 +1,106 @@
+package com.bookman.performance;
+
+import com.bookman.auth.config.JwtConfig;
+import com.bookman.common.BaseIntegrationTest;
+import com.bookman.common.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * DB 조회 인증 주체 vs 무상태(JWT 클레임) 인증 주체 부하 비교
+ *
+ * 같은 인증 요청을 두 모드로 반복 실행하고 처리량과 지연시간(p50/p99)을 출력한다.
+ * 측정 구간의 SELECT 수로 무상태 모드가 요청마다 DB를 조회하지 않는지 검증한다
+ * (보안 버전은 첫 조회 후 캐시되므로 워밍업 이후에는 0이어야 한다).
+ */
+@Tag("performance")
+@DisplayName("무상태 인증 주체 부하 테스트")
+class StatelessPrincipalLoadTest extends BaseIntegrationTest {
+
+    private static final int WARMUP_REQUESTS = 300;
+    private static final int MEASURED_REQUESTS = 2000;
+
+    @Autowired
+    private JwtConfig jwtConfig;
+
+    @AfterEach
+    void restoreMode() {
+        jwtConfig.setStatelessPrincipal(false);
+    }
+
+    @Test
+    @DisplayName("두 모드의 처리량과 지연시간을 비교한다")
+    void compareDatabaseAndStatelessPrincipal() throws Exception {
+        LoadResult databaseMode = runLoad(false);
+        LoadResult statelessMode = runLoad(true);
+
+        System.out.printf("📊 인증 주체 모드 비교 (%d 요청):%n", MEASURED_REQUESTS);
+        System.out.printf("   DB 조회   : %s%n", databaseMode);
+        System.out.printf("   무상태    : %s%n", statelessMode);
+        System.out.printf("   처리량 향상: %.2fx, p99 변화: %.3f ms -> %.3f ms%n",
+                statelessMode.throughput() / databaseMode.throughput(),
+                databaseMode.p99Millis(), statelessMode.p99Millis());
+
+        assertThat(databaseMode.successCount()).isEqualTo(MEASURED_REQUESTS);
+        assertThat(statelessMode.successCount()).isEqualTo(MEASURED_REQUESTS);
+        assertThat(databaseMode.selects()).isGreaterThanOrEqualTo(MEASURED_REQUESTS);
+        assertThat(statelessMode.selects()).isZero();
+    }
+
+    private LoadResult runLoad(boolean stateless) throws Exception {
+        jwtConfig.setStatelessPrincipal(stateless);
+
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            performRequest();
+        }
+
+        QueryCounter.reset();
+        long[] latencies = new long[MEASURED_REQUESTS];
+        int success = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_REQUESTS; i++) {
+            long requestStart = System.nanoTime();
+            if (performRequest() == 200) {
+                success++;
+            }
+            latencies[i] = System.nanoTime() - requestStart;
+        }
+        long totalNanos = System.nanoTime() - start;
+        long selects = QueryCounter.selects();
+
+        Arrays.sort(latencies);
+        return new LoadResult(
+                success,
+                selects,
+                MEASURED_REQUESTS / (totalNanos / 1_000_000_000.0),
+                latencies[latencies.length / 2] / 1_000_000.0,
+                latencies[(int) (latencies.length * 0.99) - 1] / 1_000_000.0
+        );
+    }
+
+    private int performRequest() throws Exception {
+        return mockMvc.perform(get("/api/users/user-only")
+                        .header("Authorization", "Bearer " + userToken))
+                .andReturn()
+                .getResponse()
+                .getStatus();
+    }
+
+    private record LoadResult(int successCount, long selects, double throughput, double p50Millis,
+                              double p99Millis) {
+
+        @Override
+        public String toString() {
+            return String.format("%.0f req/s, p50 %.3f ms, p99 %.3f ms, SELECT %d회",
+                    throughput, p50Millis, p99Millis, selects);
+        }
+    }
+}
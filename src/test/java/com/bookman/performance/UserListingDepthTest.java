@@ -0,0 +1,148 @@
+package com.bookman.performance;
+
+import com.bookman.user.dto.UserCursor;
+import com.bookman.user.dto.UserResponse;
+import com.bookman.user.entity.User;
+import com.bookman.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 목록 페이지 깊이별 지연시간: OFFSET + COUNT vs keyset
+ *
+ * 사용자 20만 명을 넣고 앞/중간/끝 위치의 페이지를 두 방식으로 읽어 페이지당 평균 시간을 출력한다.
+ * keyset은 위치와 무관하게 비슷해야 하고, OFFSET은 깊어질수록 느려진다.
+ * 역할만 / 활성 상태만 거는 단일 필터 목록도 같은 방식으로 깊이별 keyset 시간을 출력한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("performance")
+@DisplayName("사용자 목록 페이지 깊이 측정")
+class UserListingDepthTest {
+
+    private static final int USERS = 200_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int REPEAT = 20;
+    // 시퀀스 블록과 겹치지 않도록 큰 ID 대역을 직접 사용
+    private static final long ID_BASE = 1_000_000_000L;
+
+    private static final String OFFSET_SQL = """
+            SELECT user_id, username, email, full_name, role, is_active, created_at FROM users
+            WHERE deleted_at IS NULL ORDER BY created_at DESC, user_id DESC LIMIT ? OFFSET ?""";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM users WHERE user_id >= ?", ID_BASE);
+    }
+
+    @Test
+    @DisplayName("페이지 위치별 OFFSET과 keyset 지연시간을 비교한다")
+    void compareOffsetAndKeysetByDepth() {
+        insertUsers();
+
+        System.out.printf("📊 사용자 %d명, 페이지 %d행 (평균 ms):%n", USERS, PAGE_SIZE);
+        for (int depth : new int[]{0, USERS / 2, USERS - PAGE_SIZE}) {
+            UserCursor cursor = depth == 0 ? null : cursorAt(depth);
+
+            double offsetMillis = average(() -> {
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE deleted_at IS NULL", Long.class);
+                jdbcTemplate.queryForList(OFFSET_SQL, PAGE_SIZE, depth);
+            });
+            double keysetMillis = average(() -> userRepository.findPage(null, null, cursor, PAGE_SIZE + 1));
+
+            System.out.printf("   %7d행 위치: OFFSET+COUNT %.3f ms, keyset %.3f ms%n", depth, offsetMillis, keysetMillis);
+            assertThat(userRepository.findPage(null, null, cursor, PAGE_SIZE)).isNotEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("단일 필터(역할만 / 활성 상태만) keyset 지연시간도 페이지 위치와 무관해야 한다")
+    void keysetWithSingleFilterByDepth() {
+        insertUsers();
+
+        // 관리자는 10명 중 1명, 비활성은 7명 중 1명이라 희소한 필터의 깊은 페이지를 만든다
+        jdbcTemplate.update("UPDATE users SET is_active = FALSE WHERE user_id >= ? AND MOD(user_id, 7) = 0", ID_BASE);
+        printSingleFilterDepths("role=ADMIN", User.Role.ADMIN, null,
+                "SELECT user_id, created_at FROM users WHERE deleted_at IS NULL AND role = 'ADMIN'");
+        printSingleFilterDepths("active=false", null, false,
+                "SELECT user_id, created_at FROM users WHERE deleted_at IS NULL AND is_active = FALSE");
+    }
+
+    private void printSingleFilterDepths(String label, User.Role role, Boolean active, String filteredSql) {
+        String orderedSql = filteredSql + " ORDER BY created_at DESC, user_id DESC LIMIT 1 OFFSET ?";
+        long matching = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (" + filteredSql + ") filtered", Long.class);
+
+        System.out.printf("📊 %s 필터 (%d명), 페이지 %d행 keyset 평균 ms:%n", label, matching, PAGE_SIZE);
+        for (long depth : new long[]{0, matching / 2, matching - PAGE_SIZE}) {
+            UserCursor cursor = depth == 0 ? null : jdbcTemplate.queryForObject(orderedSql,
+                    (resultSet, rowNum) -> UserCursor.after(UserResponse.builder()
+                            .userId(resultSet.getLong("user_id"))
+                            .createdAt(resultSet.getTimestamp("created_at").toLocalDateTime())
+                            .build()), depth - 1);
+
+            double keysetMillis = average(() -> userRepository.findPage(role, active, cursor, PAGE_SIZE + 1));
+
+            System.out.printf("   %7d행 위치: keyset %.3f ms%n", depth, keysetMillis);
+            assertThat(userRepository.findPage(role, active, cursor, PAGE_SIZE)).isNotEmpty();
+        }
+    }
+
+    private void insertUsers() {
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+        List<Object[]> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < USERS; i++) {
+            batch.add(new Object[]{ID_BASE + i, "depth" + i, "depth" + i + "@test.com", "encodedPassword",
+                    "깊이 " + i, i % 10 == 0 ? "ADMIN" : "USER", Timestamp.valueOf(base.plusSeconds(i))});
+            if (batch.size() == 10_000) {
+                flush(batch);
+            }
+        }
+        flush(batch);
+    }
+
+    private void flush(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO users (user_id, username, email, password, full_name, role, is_active, security_version, version, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, TRUE, 0, 0, ?)""", batch);
+        batch.clear();
+    }
+
+    private UserCursor cursorAt(int depth) {
+        UserResponse last = jdbcTemplate.queryForObject(OFFSET_SQL, (resultSet, rowNum) -> UserResponse.builder()
+                .userId(resultSet.getLong("user_id"))
+                .createdAt(resultSet.getTimestamp("created_at").toLocalDateTime())
+                .build(), 1, depth - 1);
+        return UserCursor.after(last);
+    }
+
+    private static double average(Runnable page) {
+        for (int i = 0; i < 3; i++) {
+            page.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < REPEAT; i++) {
+            page.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / REPEAT;
+    }
+}
@@ -0,0 +1,54 @@
+package com.bookman.user.controller;
+
+import com.bookman.common.BaseIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("관리자 사용자 컨트롤러 테스트")
+class AdminUserControllerTest extends BaseIntegrationTest {
+
+    private static final String CSV_BODY = """
+            username,email,password,fullName
+            imported,imported@example.com,password123,가져온 사용자
+            """;
+
+    @Nested
+    @DisplayName("사용자 가져오기 Content-Type 테스트")
+    class ImportContentTypeTest {
+
+        @Test
+        @DisplayName("Content-Type이 없으면 500이 아니라 415를 반환해야 한다")
+        void importUsers_WithoutContentType_ShouldReturnUnsupportedMediaType() throws Exception {
+            mockMvc.perform(post("/api/admin/users/import")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                            .content(CSV_BODY))
+                    .andExpect(status().isUnsupportedMediaType())
+                    .andExpect(header().string(HttpHeaders.ACCEPT, containsString("text/csv")))
+                    .andExpect(jsonPath("$.status").value(415));
+
+            // 아무 행도 저장되지 않아야 한다
+            assertThat(userRepository.findByUsername("imported")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 Content-Type이면 415를 반환해야 한다")
+        void importUsers_WithUnsupportedContentType_ShouldReturnUnsupportedMediaType() throws Exception {
+            mockMvc.perform(post("/api/admin/users/import")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                            .contentType(MediaType.TEXT_PLAIN)
+                            .content(CSV_BODY))
+                    .andExpect(status().isUnsupportedMediaType())
+                    .andExpect(jsonPath("$.status").value(415));
+        }
+    }
+}
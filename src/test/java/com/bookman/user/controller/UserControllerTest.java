@@ -0,0 +1,79 @@
+package com.bookman.user.controller;
+
+import com.bookman.common.BaseIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("사용자 컨트롤러 테스트")
+class UserControllerTest extends BaseIntegrationTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Nested
+    @DisplayName("내 정보 조건부 조회 테스트")
+    class ConditionalGetTest {
+
+        @Test
+        @DisplayName("응답에 버전 기반 ETag와 재검증 Cache-Control이 있어야 한다")
+        void getCurrentUser_ShouldReturnETag() throws Exception {
+            mockMvc.perform(get("/api/users/me")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + userToken))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG,
+                            "\"user-" + testUser.getUserId() + "-v" + testUser.getVersion() + "\""))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                    .andExpect(jsonPath("$.username").value("testuser"));
+        }
+
+        @Test
+        @DisplayName("If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환해야 한다")
+        void getCurrentUser_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+            // Given
+            String etag = mockMvc.perform(get("/api/users/me")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + userToken))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // When & Then
+            mockMvc.perform(get("/api/users/me")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + userToken)
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag))
+                    .andExpect(content().string(""));
+        }
+
+        @Test
+        @DisplayName("사용자 정보가 바뀌면 이전 ETag로는 새 본문을 받아야 한다")
+        void getCurrentUser_AfterUpdate_ShouldReturnNewETag() throws Exception {
+            // Given
+            String oldEtag = mockMvc.perform(get("/api/users/me")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + userToken))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            testUser.setFullName("이름 변경");
+            entityManager.flush();
+
+            // When
+            String newEtag = mockMvc.perform(get("/api/users/me")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + userToken)
+                            .header(HttpHeaders.IF_NONE_MATCH, oldEtag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.fullName").value("이름 변경"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // Then
+            assertThat(newEtag).isNotEqualTo(oldEtag);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.bookman.user.repository;
+
+import com.bookman.common.QueryCounter;
+import com.bookman.user.dto.UserCursor;
+import com.bookman.user.dto.UserResponse;
+import com.bookman.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("사용자 목록 keyset 페이지네이션 테스트")
+class UserListingRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 6, 5, 10, 30);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        // 같은 가입 시각(동률)이 섞이도록 두 명씩 같은 created_at을 준다
+        for (int i = 0; i < 7; i++) {
+            User user = entityManager.persist(User.builder()
+                    .username("list" + i)
+                    .email("list" + i + "@test.com")
+                    .password("encodedPassword")
+                    .fullName("목록 사용자 " + i)
+                    .role(i % 3 == 0 ? User.Role.ADMIN : User.Role.USER)
+                    .isActive(i != 4)
+                    .build());
+            entityManager.flush();
+            entityManager.getEntityManager()
+                    .createNativeQuery("UPDATE users SET created_at = ? WHERE user_id = ?")
+                    .setParameter(1, BASE.plusMinutes(i / 2))
+                    .setParameter(2, user.getUserId())
+                    .executeUpdate();
+        }
+        entityManager.clear();
+    }
+
+    @Nested
+    @DisplayName("페이지 이동 테스트")
+    class PagingTest {
+
+        @Test
+        @DisplayName("커서로 이어 받은 페이지는 최근 가입 순으로 빠짐없이, 중복 없이 이어져야 한다")
+        void findPage_WithCursor_ShouldWalkAllRowsInOrder() {
+            // Given
+            List<UserResponse> walked = new ArrayList<>();
+            UserCursor cursor = null;
+
+            // When
+            while (true) {
+                List<UserResponse> page = userRepository.findPage(null, null, cursor, 3);
+                walked.addAll(page);
+                if (page.size() < 3) {
+                    break;
+                }
+                cursor = UserCursor.after(page.get(page.size() - 1));
+            }
+
+            // Then
+            List<UserResponse> listed = walked.stream()
+                    .filter(user -> user.getUsername().startsWith("list"))
+                    .toList();
+            assertThat(listed).hasSize(7);
+            assertThat(listed).extracting(UserResponse::getUsername).doesNotHaveDuplicates();
+            for (int i = 1; i < listed.size(); i++) {
+                UserResponse previous = listed.get(i - 1);
+                UserResponse current = listed.get(i);
+                assertThat(current.getCreatedAt()).isBeforeOrEqualTo(previous.getCreatedAt());
+                if (current.getCreatedAt().equals(previous.getCreatedAt())) {
+                    assertThat(current.getUserId()).isLessThan(previous.getUserId());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("페이지마다 COUNT 없이 SELECT 한 번만 실행해야 한다")
+        void findPage_ShouldRunSingleSelect() {
+            // Given
+            UserCursor cursor = new UserCursor(BASE.plusMinutes(2), Long.MAX_VALUE);
+            QueryCounter.reset();
+
+            // When
+            List<UserResponse> page = userRepository.findPage(null, null, cursor, 20);
+
+            // Then
+            assertThat(page).extracting(UserResponse::getUsername)
+                    .containsExactly("list5", "list4", "list3", "list2", "list1", "list0");
+            assertThat(QueryCounter.selects()).isEqualTo(1);
+            assertThat(QueryCounter.total()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("필터 테스트")
+    class FilterTest {
+
+        @Test
+        @DisplayName("역할과 활성 상태 필터를 함께 적용해야 한다")
+        void findPage_WithRoleAndActive_ShouldFilter() {
+            // When
+            List<UserResponse> users = userRepository.findPage(User.Role.USER, true, null, 20);
+
+            // Then
+            assertThat(users).extracting(UserResponse::getUsername)
+                    .contains("list1", "list2", "list5")
+                    .doesNotContain("list0", "list3", "list4", "list6");
+            assertThat(users).allSatisfy(user -> {
+                assertThat(user.getRole()).isEqualTo("USER");
+                assertThat(user.getIsActive()).isTrue();
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("인코딩한 커서는 같은 값으로 디코딩되어야 한다")
+    void cursor_ShouldRoundTrip() {
+        // Given
+        UserCursor cursor = new UserCursor(BASE.plusNanos(123_456_000), 42L);
+
+        // When
+        UserCursor decoded = UserCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+}
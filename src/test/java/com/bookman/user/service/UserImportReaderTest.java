@@ -0,0 +1,124 @@
+package com.bookman.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("사용자 가져오기 리더 테스트")
+class UserImportReaderTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Nested
+    @DisplayName("CSV 테스트")
+    class CsvTest {
+
+        @Test
+        @DisplayName("헤더 순서대로 열을 매핑하고 따옴표 필드를 풀어야 한다")
+        void next_WithQuotedFields_ShouldMapColumnsByHeader() throws IOException {
+            // Given
+            UserImportReader reader = open(UserImportService.Format.CSV, 4096, """
+                    email,username,full_name,password,role
+                    kim@test.com,kim,"김, 철수",password123,ADMIN
+                    """);
+
+            // When
+            UserImportReader.ParsedRow row = reader.next();
+
+            // Then
+            assertThat(row.line()).isEqualTo(2);
+            assertThat(row.error()).isNull();
+            assertThat(row.row().getUsername()).isEqualTo("kim");
+            assertThat(row.row().getEmail()).isEqualTo("kim@test.com");
+            assertThat(row.row().getFullName()).isEqualTo("김, 철수");
+            assertThat(row.row().getRole()).isEqualTo("ADMIN");
+            assertThat(reader.next()).isNull();
+        }
+
+        @Test
+        @DisplayName("필수 열이 빠진 헤더는 거절해야 한다")
+        void open_WithMissingColumn_ShouldThrow() {
+            assertThatThrownBy(() -> open(UserImportService.Format.CSV, 4096, "username,email\nkim,kim@test.com\n"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("열 개수가 다른 행은 실패로 돌려주고 다음 행을 계속 읽어야 한다")
+        void next_WithWrongColumnCount_ShouldReturnFailedRow() throws IOException {
+            // Given
+            UserImportReader reader = open(UserImportService.Format.CSV, 4096, """
+                    username,email,password,fullName
+                    kim,kim@test.com
+                    lee,lee@test.com,password123,이영희
+                    """);
+
+            // When
+            UserImportReader.ParsedRow failed = reader.next();
+            UserImportReader.ParsedRow next = reader.next();
+
+            // Then
+            assertThat(failed.row()).isNull();
+            assertThat(failed.error()).contains("열 개수");
+            assertThat(next.line()).isEqualTo(3);
+            assertThat(next.row().getUsername()).isEqualTo("lee");
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON 테스트")
+    class NdjsonTest {
+
+        @Test
+        @DisplayName("빈 줄은 건너뛰고 잘못된 JSON은 실패 행으로 돌려줘야 한다")
+        void next_WithBlankAndMalformedLines_ShouldSkipAndFail() throws IOException {
+            // Given
+            UserImportReader reader = open(UserImportService.Format.NDJSON, 4096, """
+                    {"username":"kim","email":"kim@test.com","password":"password123","fullName":"김철수"}
+
+                    {"username":
+                    """);
+
+            // When
+            UserImportReader.ParsedRow first = reader.next();
+            UserImportReader.ParsedRow malformed = reader.next();
+
+            // Then
+            assertThat(first.row().getUsername()).isEqualTo("kim");
+            assertThat(malformed.line()).isEqualTo(3);
+            assertThat(malformed.error()).isNotNull();
+            assertThat(reader.next()).isNull();
+        }
+
+        @Test
+        @DisplayName("최대 길이를 넘는 줄은 버리고 실패 행으로 돌려줘야 한다")
+        void next_WithTooLongLine_ShouldFailWithoutBuffering() throws IOException {
+            // Given
+            String longLine = "{\"username\":\"" + "a".repeat(200) + "\"}";
+            UserImportReader reader = open(UserImportService.Format.NDJSON, 64,
+                    longLine + "\n{\"username\":\"kim\"}\n");
+
+            // When
+            UserImportReader.ParsedRow tooLong = reader.next();
+            UserImportReader.ParsedRow next = reader.next();
+
+            // Then
+            assertThat(tooLong.error()).contains("너무 깁니다");
+            assertThat(next.line()).isEqualTo(2);
+            assertThat(next.row().getUsername()).isEqualTo("kim");
+        }
+    }
+
+    private static UserImportReader open(UserImportService.Format format, int maxLineLength, String body)
+            throws IOException {
+        return UserImportReader.open(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                format, maxLineLength, OBJECT_MAPPER);
+    }
+}
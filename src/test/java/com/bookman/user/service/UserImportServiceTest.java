@@ -0,0 +1,107 @@
+package com.bookman.user.service;
+
+import com.bookman.user.config.UserImportConfig;
+import com.bookman.user.dto.UserImportResult;
+import com.bookman.user.entity.User;
+import com.bookman.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가져오기는 배치마다 트랜잭션을 커밋하므로 테스트 트랜잭션 없이 실행하고 직접 정리한다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("사용자 가져오기 서비스 테스트")
+class UserImportServiceTest {
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private UserImportConfig userImportConfig;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int originalBatchSize;
+
+    @BeforeEach
+    void setUp() {
+        originalBatchSize = userImportConfig.getBatchSize();
+        userImportConfig.setBatchSize(2);
+        userRepository.saveAndFlush(User.builder()
+                .username("importtaken")
+                .email("importtaken@test.com")
+                .password("encodedPassword")
+                .fullName("기존 사용자")
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userImportConfig.setBatchSize(originalBatchSize);
+        jdbcTemplate.update("DELETE FROM users WHERE username LIKE 'import%'");
+    }
+
+    @Test
+    @DisplayName("유효한 행은 저장하고 실패한 행은 줄 번호와 함께 스트림으로 보고해야 한다")
+    void importUsers_ShouldSaveValidRowsAndReportFailures() throws IOException {
+        // Given
+        String csv = """
+                username,email,password,fullName,role
+                importkim,importkim@test.com,password123,김철수,
+                importlee,importlee@test.com,password123,이영희,ADMIN
+                importtaken,importnew@test.com,password123,중복 사용자명,
+                importpark,not-an-email,password123,박민수,
+                importkim,importkim2@test.com,password123,파일 내 중복,
+                importchoi,importchoi@test.com,password123,최지우,SUPERUSER
+                importjung,importjung@test.com,password123,정하늘,USER
+                """;
+        List<UserImportResult> streamed = new ArrayList<>();
+
+        // When
+        UserImportResult summary = userImportService.importUsers(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                UserImportService.Format.CSV, streamed::add);
+
+        // Then
+        assertThat(summary.getProcessed()).isEqualTo(7);
+        assertThat(summary.getCreated()).isEqualTo(3);
+        assertThat(summary.getFailed()).isEqualTo(4);
+        assertThat(streamed)
+                .filteredOn(result -> result.getType() == UserImportResult.Type.FAILED)
+                .extracting(UserImportResult::getLine)
+                .containsExactlyInAnyOrder(4, 5, 6, 7);
+        assertThat(streamed)
+                .filteredOn(result -> result.getType() == UserImportResult.Type.PROGRESS)
+                .isNotEmpty();
+
+        User admin = userRepository.findByUsername("importlee").orElseThrow();
+        assertThat(admin.getRole()).isEqualTo(User.Role.ADMIN);
+        assertThat(passwordEncoder.matches("password123", admin.getPassword())).isTrue();
+        assertThat(userRepository.findByUsername("importjung")).isPresent();
+        assertThat(userRepository.findByEmail("importnew@test.com")).isEmpty();
+    }
+}